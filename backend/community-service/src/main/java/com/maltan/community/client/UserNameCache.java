@@ -0,0 +1,149 @@
+package com.maltan.community.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 이름 캐시
+ * - 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+ * - 항목은 TTL 이후 만료
+ * - 같은 사용자를 동시에 조회하면 한 번만 User Service를 호출하고 나머지는 그 결과를 기다림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserNameCache {
+    
+    private final UserServiceClient userServiceClient;
+    
+    @Value("${user.service.name-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+    
+    @Value("${user.service.name-cache.max-size:10000}")
+    private int maxSize;
+    
+    @Value("${user.service.name-cache.wait-timeout-ms:3000}")
+    private long waitTimeoutMs;
+    
+    private final Map<Long, CachedName> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedName> eldest) {
+            return size() > maxSize;
+        }
+    };
+    
+    private final ConcurrentHashMap<Long, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    
+    /**
+     * 사용자 이름 조회
+     */
+    public String getUserName(Long userId) {
+        return getUserNames(List.of(userId)).get(userId);
+    }
+    
+    /**
+     * 여러 사용자의 이름 조회 (캐시에 없는 사용자만 한 번의 배치 호출로 조회)
+     */
+    public Map<Long, String> getUserNames(Collection<Long> userIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(userIds);
+        distinctIds.remove(null);
+        
+        Map<Long, String> result = new HashMap<>();
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            for (Long userId : distinctIds) {
+                CachedName cached = entries.get(userId);
+                if (cached != null && cached.expiresAt > now) {
+                    result.put(userId, cached.name);
+                }
+            }
+        }
+        if (result.size() == distinctIds.size()) {
+            return result;
+        }
+        
+        // 다른 요청이 이미 조회 중인 사용자는 기다리고, 나머지는 직접 조회
+        Map<Long, CompletableFuture<String>> owned = new HashMap<>();
+        Map<Long, CompletableFuture<String>> waiting = new HashMap<>();
+        for (Long userId : distinctIds) {
+            if (result.containsKey(userId)) {
+                continue;
+            }
+            CompletableFuture<String> future = new CompletableFuture<>();
+            CompletableFuture<String> existing = inFlight.putIfAbsent(userId, future);
+            if (existing == null) {
+                owned.put(userId, future);
+            } else {
+                waiting.put(userId, existing);
+            }
+        }
+        
+        if (!owned.isEmpty()) {
+            load(owned, result);
+        }
+        
+        waiting.forEach((userId, future) -> {
+            try {
+                result.put(userId, future.get(waitTimeoutMs, TimeUnit.MILLISECONDS));
+            } catch (Exception e) {
+                result.put(userId, UserServiceClient.defaultUserName(userId));
+            }
+        });
+        
+        return result;
+    }
+    
+    private void load(Map<Long, CompletableFuture<String>> owned, Map<Long, String> result) {
+        Map<Long, String> fetched = Map.of();
+        boolean succeeded = false;
+        try {
+            fetched = userServiceClient.getUserNames(new ArrayList<>(owned.keySet()));
+            succeeded = true;
+        } catch (Exception e) {
+            log.error("User Service 사용자 이름 일괄 조회 실패: userIds={}", owned.keySet(), e);
+        } finally {
+            long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds);
+            for (Map.Entry<Long, CompletableFuture<String>> entry : owned.entrySet()) {
+                Long userId = entry.getKey();
+                String name = fetched.get(userId);
+                if (name == null) {
+                    name = UserServiceClient.defaultUserName(userId);
+                }
+                
+                // 호출이 실패한 경우에는 캐시하지 않고 다음 요청에서 다시 조회
+                if (succeeded) {
+                    synchronized (entries) {
+                        entries.put(userId, new CachedName(name, expiresAt));
+                    }
+                }
+                result.put(userId, name);
+                inFlight.remove(userId, entry.getValue());
+                entry.getValue().complete(name);
+            }
+        }
+    }
+    
+    private static final class CachedName {
+        private final String name;
+        private final long expiresAt;
+        
+        private CachedName(String name, long expiresAt) {
+            this.name = name;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
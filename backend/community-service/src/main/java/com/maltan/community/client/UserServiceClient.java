@@ -6,7 +6,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -14,6 +18,9 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class UserServiceClient {
     
+    // User Service 내부 API(InternalUserController)의 요청당 최대 사용자 수
+    static final int MAX_BATCH_SIZE = 1000;
+    
     private final RestTemplate restTemplate;
     
     @Value("${user.service.url:http://localhost:8081}")
@@ -32,24 +39,37 @@ public class UserServiceClient {
             }
             
             log.warn("User Service에서 사용자 이름을 찾을 수 없음: userId={}", userId);
-            return "사용자" + userId;
+            return defaultUserName(userId);
         } catch (Exception e) {
             log.error("User Service 호출 실패: userId={}", userId, e);
-            return "사용자" + userId;
+            return defaultUserName(userId);
         }
     }
     
     /**
-     * 여러 사용자의 이름을 한 번에 조회 (배치 처리)
+     * 여러 사용자의 이름을 한 번에 조회 (배치 처리, MAX_BATCH_SIZE명씩 나눠 요청)
+     * User Service에 없는 사용자는 결과에서 제외되며, 호출 실패 시 예외를 그대로 던진다.
      */
-    public Map<Long, String> getUserNames(Iterable<Long> userIds) {
-        Map<Long, String> userNames = new HashMap<>();
+    public Map<Long, String> getUserNames(Collection<Long> userIds) {
+        String url = userServiceUrl + "/api/user/internal/users/names";
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
         
-        for (Long userId : userIds) {
-            userNames.put(userId, getUserName(userId));
+        Map<Long, String> userNames = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_BATCH_SIZE, ids.size()));
+            Map<String, String> response = restTemplate.postForObject(url, chunk, Map.class);
+            if (response != null) {
+                response.forEach((userId, name) -> userNames.put(Long.valueOf(userId), name));
+            }
         }
-        
         return userNames;
     }
+    
+    /**
+     * 이름을 찾지 못한 사용자의 기본 표시 이름
+     */
+    public static String defaultUserName(Long userId) {
+        return "사용자" + userId;
+    }
 }
 
@@ -3,9 +3,12 @@ package com.maltan.community.controller;
 import com.maltan.community.dto.CommentDto;
 import com.maltan.community.dto.request.CreateCommentRequest;
 import com.maltan.community.dto.request.UpdateCommentRequest;
+import com.maltan.community.dto.response.CommentListResponse;
 import com.maltan.community.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -31,6 +34,21 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
     
+    /**
+     * 게시글의 댓글 목록 조회 (최상위 댓글 기준 페이징)
+     */
+    @GetMapping(value = "/posts/{postId}/comments", params = "page")
+    public ResponseEntity<CommentListResponse> getCommentsPage(
+            @PathVariable Long postId,
+            @RequestParam int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestAttribute(value = "userId", required = false) Long userId
+    ) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+        CommentListResponse comments = commentService.getComments(postId, userId, pageable);
+        return ResponseEntity.ok(comments);
+    }
+    
     /**
      * 댓글 작성
      */
@@ -35,26 +35,48 @@ public class PostController {
             @RequestParam(required = false) String regionDong,
             @RequestParam(required = false) Boolean isRecruitment,
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestParam(required = false) String sort,
             @RequestAttribute(value = "userId", required = false) Long userId
     ) {
-        String[] sortParams = sort.split(",");
-        Sort sortOrder = Sort.by(
-            sortParams[1].equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC,
-            sortParams[0]
-        );
+        // 정렬을 지정하지 않으면 최신순, sort=relevance(또는 cursor)이면 검색어 관련도 순
+        Sort sortOrder = Sort.unsorted();
+        if (sort != null) {
+            String[] sortParams = sort.split(",");
+            sortOrder = Sort.by(
+                sortParams.length > 1 && sortParams[1].equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC,
+                sortParams[0]
+            );
+        }
         
         Pageable pageable = PageRequest.of(page, size, sortOrder);
         
         PostListResponse response = postService.getPosts(
-            category, regionSi, regionGu, regionDong, isRecruitment, search, pageable, userId
+            category, regionSi, regionGu, regionDong, isRecruitment, search, cursor, pageable, userId
         );
         
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 인기 게시글 조회 (시간 감쇠 인기 순위)
+     */
+    @GetMapping("/hot")
+    public ResponseEntity<PostListResponse> getHotPosts(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String regionSi,
+            @RequestParam(required = false) String regionGu,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestAttribute(value = "userId", required = false) Long userId
+    ) {
+        PostListResponse response = postService.getHotPosts(
+            category, regionSi, regionGu, Math.max(1, Math.min(limit, 100)), userId
+        );
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * Place ID로 게시글 목록 조회
      */
@@ -0,0 +1,48 @@
+package com.maltan.community.dto;
+
+import com.maltan.community.exception.InvalidPageRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 작성일시 커서 (createdAt, id)
+ * 클라이언트에는 "{작성일시}_{ID}"를 Base64 URL로 인코딩한 문자열로만 노출한다.
+ */
+@Getter
+@AllArgsConstructor
+public class CreatedAtCursor {
+    private final LocalDateTime createdAt;
+    private final Long id;
+    
+    /**
+     * 커서 문자열 생성
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지로 보고 null 반환)
+     *
+     * @throws InvalidPageRequestException 형식이 잘못된 커서 (400)
+     */
+    public static CreatedAtCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            return new CreatedAtCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidPageRequestException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
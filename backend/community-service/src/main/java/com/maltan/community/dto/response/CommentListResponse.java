@@ -0,0 +1,23 @@
+package com.maltan.community.dto.response;
+
+import com.maltan.community.dto.CommentDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentListResponse {
+    private List<CommentDto> content;
+    private long totalElements;
+    private int totalPages;
+    private int currentPage;
+    private int pageSize;
+    private boolean hasNext;
+    private boolean hasPrevious;
+}
@@ -20,5 +20,6 @@ public class PostListResponse {
     private int pageSize;
     private boolean hasNext;
     private boolean hasPrevious;
+    private String nextCursor;  // 다음 페이지 커서 (검색 색인 또는 커서 방식 목록 조회 시)
 }
 
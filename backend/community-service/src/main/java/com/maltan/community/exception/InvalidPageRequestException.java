@@ -0,0 +1,11 @@
+package com.maltan.community.exception;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException() {
+        super("잘못된 페이지 요청입니다.");
+    }
+    
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
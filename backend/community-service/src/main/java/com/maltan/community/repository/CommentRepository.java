@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,12 +22,34 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
            "ORDER BY c.createdAt ASC")
     List<Comment> findByPostIdAndParentCommentIsNull(@Param("postId") Long postId);
     
+    // 게시글의 최상위 댓글 조회 (페이징)
+    @Query(value = "SELECT c FROM Comment c WHERE c.post.id = :postId " +
+                   "AND c.parentComment IS NULL " +
+                   "AND c.isDeleted = false " +
+                   "ORDER BY c.createdAt ASC",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId " +
+                        "AND c.parentComment IS NULL " +
+                        "AND c.isDeleted = false")
+    Page<Comment> findRootCommentsByPostId(@Param("postId") Long postId, Pageable pageable);
+    
+    // 게시글의 댓글 전체 조회 (대댓글 포함, 트리 구성용)
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId " +
+           "AND c.isDeleted = false " +
+           "ORDER BY c.createdAt ASC")
+    List<Comment> findByPostIdAndIsDeletedFalse(@Param("postId") Long postId);
+    
     // 대댓글 조회
     @Query("SELECT c FROM Comment c WHERE c.parentComment.id = :parentCommentId " +
            "AND c.isDeleted = false " +
            "ORDER BY c.createdAt ASC")
     List<Comment> findByParentCommentId(@Param("parentCommentId") Long parentCommentId);
     
+    // 여러 댓글의 대댓글 조회
+    @Query("SELECT c FROM Comment c WHERE c.parentComment.id IN :parentCommentIds " +
+           "AND c.isDeleted = false " +
+           "ORDER BY c.createdAt ASC")
+    List<Comment> findByParentCommentIdIn(@Param("parentCommentIds") Collection<Long> parentCommentIds);
+    
     // 사용자별 댓글 조회
     Page<Comment> findByUserIdAndIsDeletedFalse(Long userId, Pageable pageable);
     
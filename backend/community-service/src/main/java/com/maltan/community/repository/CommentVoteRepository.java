@@ -5,6 +5,8 @@ import com.maltan.community.model.VoteType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +15,9 @@ public interface CommentVoteRepository extends JpaRepository<CommentVote, Long>
     // 사용자의 특정 댓글 투표 조회
     Optional<CommentVote> findByCommentIdAndUserId(Long commentId, Long userId);
     
+    // 사용자의 여러 댓글 투표 조회
+    List<CommentVote> findByUserIdAndCommentIdIn(Long userId, Collection<Long> commentIds);
+    
     // 사용자가 특정 댓글에 투표했는지 확인
     boolean existsByCommentIdAndUserId(Long commentId, Long userId);
     
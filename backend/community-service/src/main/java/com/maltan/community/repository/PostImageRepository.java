@@ -2,8 +2,11 @@ package com.maltan.community.repository;
 
 import com.maltan.community.model.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,6 +14,10 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     
     List<PostImage> findByPostIdOrderByImageOrderAsc(Long postId);
     
+    // 여러 게시글의 이미지 조회
+    @Query("SELECT pi FROM PostImage pi WHERE pi.post.id IN :postIds ORDER BY pi.post.id, pi.imageOrder ASC")
+    List<PostImage> findByPostIdIn(@Param("postIds") Collection<Long> postIds);
+    
     void deleteByPostId(Long postId);
 }
 
@@ -4,13 +4,16 @@ import com.maltan.community.model.Post;
 import com.maltan.community.model.PostStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,9 +50,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Page<Post> findByIsDeletedFalseAndPlaceIdOrderByCreatedAtDesc(Long placeId, Pageable pageable);
     
     // 조회수 증가 (Batch Update)
+    @Transactional
     @Modifying
-    @Query("UPDATE Post p SET p.viewCount = :viewCount WHERE p.id = :postId")
-    void updateViewCount(@Param("postId") Long postId, @Param("viewCount") Integer viewCount);
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :postIds")
+    int updateViewCount(@Param("postIds") Collection<Long> postIds, @Param("delta") Integer delta);
     
     // 마감된 모집 게시글 찾기
     @Query("SELECT p FROM Post p WHERE p.isRecruitment = true " +
@@ -81,11 +85,67 @@ public interface PostRepository extends JpaRepository<Post, Long> {
         Pageable pageable
     );
     
-    // 인기 게시글 조회 (좋아요 많은 순)
+    // 복합 검색 커서 방식 첫 페이지 (최신순, COUNT 없음)
+    @Query("SELECT p FROM Post p WHERE p.isDeleted = false " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:regionSi IS NULL OR p.regionSi = :regionSi) " +
+           "AND (:regionGu IS NULL OR p.regionGu = :regionGu) " +
+           "AND (:regionDong IS NULL OR p.regionDong = :regionDong) " +
+           "AND (:isRecruitment IS NULL OR p.isRecruitment = :isRecruitment) " +
+           "AND (:search IS NULL OR p.title LIKE %:search% OR p.content LIKE %:search%) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByFilters(
+        @Param("category") String category,
+        @Param("regionSi") String regionSi,
+        @Param("regionGu") String regionGu,
+        @Param("regionDong") String regionDong,
+        @Param("isRecruitment") Boolean isRecruitment,
+        @Param("search") String search,
+        Pageable pageable
+    );
+    
+    // 복합 검색 커서 이후 페이지 (createdAt, id 역순)
+    @Query("SELECT p FROM Post p WHERE p.isDeleted = false " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:regionSi IS NULL OR p.regionSi = :regionSi) " +
+           "AND (:regionGu IS NULL OR p.regionGu = :regionGu) " +
+           "AND (:regionDong IS NULL OR p.regionDong = :regionDong) " +
+           "AND (:isRecruitment IS NULL OR p.isRecruitment = :isRecruitment) " +
+           "AND (:search IS NULL OR p.title LIKE %:search% OR p.content LIKE %:search%) " +
+           "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findSliceByFiltersBefore(
+        @Param("category") String category,
+        @Param("regionSi") String regionSi,
+        @Param("regionGu") String regionGu,
+        @Param("regionDong") String regionDong,
+        @Param("isRecruitment") Boolean isRecruitment,
+        @Param("search") String search,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+    
+    // 인기 게시글 조회 (좋아요 많은 순, 카테고리/지역 선택)
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false " +
            "AND p.createdAt > :since " +
+           "AND (:category IS NULL OR p.category = :category) " +
+           "AND (:regionSi IS NULL OR p.regionSi = :regionSi) " +
+           "AND (:regionGu IS NULL OR p.regionGu = :regionGu) " +
            "ORDER BY p.likeCount DESC, p.viewCount DESC")
-    Page<Post> findPopularPosts(@Param("since") LocalDateTime since, Pageable pageable);
+    Page<Post> findPopularPosts(
+        @Param("since") LocalDateTime since,
+        @Param("category") String category,
+        @Param("regionSi") String regionSi,
+        @Param("regionGu") String regionGu,
+        Pageable pageable
+    );
+    
+    // 인기 순위 구성용 최근 게시글 통계 (id, category, regionSi, regionGu, createdAt, likeCount, dislikeCount, commentCount, viewCount)
+    @Query("SELECT p.id, p.category, p.regionSi, p.regionGu, p.createdAt, " +
+           "p.likeCount, p.dislikeCount, p.commentCount, p.viewCount " +
+           "FROM Post p WHERE p.isDeleted = false AND p.createdAt >= :since")
+    List<Object[]> findRankingStatsSince(@Param("since") LocalDateTime since);
     
     // 특정 기간 이후 가장 많은 추천을 받은 게시글 조회
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false " +
@@ -0,0 +1,105 @@
+package com.maltan.community.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 전문 검색 (PostgreSQL tsvector + GIN 인덱스)
+ * posts.search_vector 컬럼은 엔티티에 매핑하지 않고 이 클래스에서만 다룬다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchRepository {
+    
+    private static final String RANK = "ts_rank(p.search_vector, to_tsquery('simple', :query))";
+    
+    private final EntityManager entityManager;
+    
+    /**
+     * 검색 색인 갱신 (제목 가중치 A, 본문 가중치 B)
+     */
+    public void updateSearchVector(Long postId, String titleDocument, String contentDocument) {
+        entityManager.createNativeQuery(
+                "UPDATE posts SET search_vector = " +
+                "setweight(to_tsvector('simple', :title), 'A') || " +
+                "setweight(to_tsvector('simple', :content), 'B') " +
+                "WHERE id = :postId")
+            .setParameter("title", titleDocument)
+            .setParameter("content", contentDocument)
+            .setParameter("postId", postId)
+            .executeUpdate();
+    }
+    
+    /**
+     * 검색 색인이 없는 게시글 ID 조회
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> findIdsWithoutSearchVector(Long afterId, int limit) {
+        List<Number> ids = entityManager.createNativeQuery(
+                "SELECT id FROM posts WHERE search_vector IS NULL AND id > :afterId ORDER BY id LIMIT :limit")
+            .setParameter("afterId", afterId)
+            .setParameter("limit", limit)
+            .getResultList();
+        return ids.stream().map(Number::longValue).toList();
+    }
+    
+    /**
+     * 검색어로 게시글 검색 (관련도 순, keyset 페이징)
+     * 주어진 필터만 조건에 포함시켜 필터 조합별로 구체적인 실행 계획을 쓰도록 한다.
+     *
+     * @param query to_tsquery 식
+     * @param cursorRank 이전 페이지 마지막 항목의 관련도 (첫 페이지면 null)
+     * @param cursorId 이전 페이지 마지막 항목의 ID (첫 페이지면 null)
+     * @return [postId, rank] 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object[]> search(String query, String category, String regionSi, String regionGu,
+                                 String regionDong, Boolean isRecruitment,
+                                 Float cursorRank, Long cursorId, int limit) {
+        StringBuilder sql = new StringBuilder()
+            .append("SELECT p.id, ").append(RANK).append(" AS rank FROM posts p ")
+            .append("WHERE p.is_deleted = false ")
+            .append("AND p.search_vector @@ to_tsquery('simple', :query) ");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("query", query);
+        
+        if (category != null) {
+            sql.append("AND p.category = :category ");
+            parameters.put("category", category);
+        }
+        if (regionSi != null) {
+            sql.append("AND p.region_si = :regionSi ");
+            parameters.put("regionSi", regionSi);
+        }
+        if (regionGu != null) {
+            sql.append("AND p.region_gu = :regionGu ");
+            parameters.put("regionGu", regionGu);
+        }
+        if (regionDong != null) {
+            sql.append("AND p.region_dong = :regionDong ");
+            parameters.put("regionDong", regionDong);
+        }
+        if (isRecruitment != null) {
+            sql.append("AND p.is_recruitment = :isRecruitment ");
+            parameters.put("isRecruitment", isRecruitment);
+        }
+        if (cursorRank != null && cursorId != null) {
+            sql.append("AND (").append(RANK).append(" < :cursorRank ")
+               .append("OR (").append(RANK).append(" = :cursorRank AND p.id < :cursorId)) ");
+            parameters.put("cursorRank", cursorRank);
+            parameters.put("cursorId", cursorId);
+        }
+        sql.append("ORDER BY rank DESC, p.id DESC LIMIT :limit");
+        parameters.put("limit", limit);
+        
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString());
+        parameters.forEach(nativeQuery::setParameter);
+        return nativeQuery.getResultList();
+    }
+}
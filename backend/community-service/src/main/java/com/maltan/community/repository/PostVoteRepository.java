@@ -5,6 +5,8 @@ import com.maltan.community.model.VoteType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,6 +15,9 @@ public interface PostVoteRepository extends JpaRepository<PostVote, Long> {
     // 사용자의 특정 게시글 투표 조회
     Optional<PostVote> findByPostIdAndUserId(Long postId, Long userId);
     
+    // 사용자의 여러 게시글 투표 조회
+    List<PostVote> findByUserIdAndPostIdIn(Long userId, Collection<Long> postIds);
+    
     // 사용자가 특정 게시글에 투표했는지 확인
     boolean existsByPostIdAndUserId(Long postId, Long userId);
     
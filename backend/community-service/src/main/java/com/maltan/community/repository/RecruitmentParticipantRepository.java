@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +28,15 @@ public interface RecruitmentParticipantRepository extends JpaRepository<Recruitm
     // 사용자가 참여한 모집 게시글 목록
     List<RecruitmentParticipant> findByUserIdAndStatus(Long userId, ParticipantStatus status);
     
+    // 여러 게시글 중 사용자가 참여 중인 게시글 ID 목록
+    @Query("SELECT rp.postId FROM RecruitmentParticipant rp " +
+           "WHERE rp.userId = :userId AND rp.status = :status AND rp.postId IN :postIds")
+    List<Long> findPostIdsByUserIdAndStatusAndPostIdIn(
+        @Param("userId") Long userId,
+        @Param("status") ParticipantStatus status,
+        @Param("postIds") Collection<Long> postIds
+    );
+    
     // 사용자가 특정 게시글에 참여 중인지 확인
     @Query("SELECT CASE WHEN COUNT(rp) > 0 THEN true ELSE false END " +
            "FROM RecruitmentParticipant rp " +
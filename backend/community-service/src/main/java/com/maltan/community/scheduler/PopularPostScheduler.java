@@ -2,6 +2,7 @@ package com.maltan.community.scheduler;
 
 import com.maltan.community.model.Post;
 import com.maltan.community.repository.PostRepository;
+import com.maltan.community.service.HotPostRanker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -12,13 +13,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PopularPostScheduler {
     
+    private static final int HOT_CANDIDATE_SIZE = 50;
+    private static final int MIN_PINNED_LIKE_COUNT = 10;
+    
     private final PostRepository postRepository;
+    private final HotPostRanker hotPostRanker;
     
     /**
      * 매일 자정에 인기 게시글 선정 및 고정
@@ -33,16 +40,21 @@ public class PopularPostScheduler {
             // 기존 고정 게시글 해제
             unpinExpiredPosts();
             
-            // 지난 24시간 동안 가장 많은 추천을 받은 게시글 찾기
+            // 지난 24시간 동안 작성된 게시글 중 인기 순위가 가장 높은 게시글 찾기
             LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
-            Pageable pageable = PageRequest.of(0, 1); // 첫 번째 페이지, 1개만 조회
-            List<Post> topPosts = postRepository.findTopByLikeCountSince(yesterday, pageable);
+            List<Post> topPosts;
+            if (hotPostRanker.isReady()) {
+                topPosts = findTopHotPostSince(yesterday);
+            } else {
+                Pageable pageable = PageRequest.of(0, 1); // 첫 번째 페이지, 1개만 조회
+                topPosts = postRepository.findTopByLikeCountSince(yesterday, pageable);
+            }
             
             if (!topPosts.isEmpty()) {
                 Post topPost = topPosts.get(0);
                 
                 // 최소 추천 수 조건 (예: 10개 이상)
-                if (topPost.getLikeCount() >= 10) {
+                if (topPost.getLikeCount() >= MIN_PINNED_LIKE_COUNT) {
                     // 24시간 동안 고정
                     LocalDateTime pinnedUntil = LocalDateTime.now().plusDays(1);
                     topPost.pin(pinnedUntil);
@@ -51,8 +63,8 @@ public class PopularPostScheduler {
                     log.info("인기 게시글 선정 완료: postId={}, title={}, likeCount={}", 
                         topPost.getId(), topPost.getTitle(), topPost.getLikeCount());
                 } else {
-                    log.info("추천 수가 부족하여 인기 게시글 미선정 (최소 10개 필요, 현재: {})", 
-                        topPost.getLikeCount());
+                    log.info("추천 수가 부족하여 인기 게시글 미선정 (최소 {}개 필요, 현재: {})", 
+                        MIN_PINNED_LIKE_COUNT, topPost.getLikeCount());
                 }
             } else {
                 log.info("지난 24시간 동안 게시글이 없어 인기 게시글 미선정");
@@ -62,6 +74,21 @@ public class PopularPostScheduler {
         }
     }
     
+    /**
+     * 인기 순위 상위 게시글 중 기간 내 작성되고 최소 추천 수를 넘은 첫 게시글 (최대 1건)
+     */
+    private List<Post> findTopHotPostSince(LocalDateTime since) {
+        List<Long> postIds = hotPostRanker.getHotPostIds(null, null, null, HOT_CANDIDATE_SIZE);
+        Map<Long, Post> postsById = postRepository.findAllById(postIds).stream()
+            .collect(Collectors.toMap(Post::getId, post -> post));
+        return postIds.stream()
+            .map(postsById::get)
+            .filter(post -> post != null && !post.getIsDeleted() && !post.getCreatedAt().isBefore(since))
+            .filter(post -> post.getLikeCount() >= MIN_PINNED_LIKE_COUNT)
+            .limit(1)
+            .collect(Collectors.toList());
+    }
+    
     /**
      * 매 시간마다 만료된 고정 게시글 해제
      */
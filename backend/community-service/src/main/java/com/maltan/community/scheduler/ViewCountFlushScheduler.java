@@ -0,0 +1,64 @@
+package com.maltan.community.scheduler;
+
+import com.maltan.community.repository.PostRepository;
+import com.maltan.community.service.HotPostRanker;
+import com.maltan.community.service.ViewCountAccumulator;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+    
+    private static final int MAX_IDS_PER_UPDATE = 500;
+    
+    private final PostRepository postRepository;
+    private final ViewCountAccumulator viewCountAccumulator;
+    private final HotPostRanker hotPostRanker;
+    
+    /**
+     * 누적된 게시글 조회수를 DB에 반영
+     * 같은 증가량을 가진 게시글끼리 묶어 한 번의 UPDATE로 처리
+     */
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public void flushViewCounts() {
+        Map<Long, List<Long>> idsByDelta = viewCountAccumulator.drain();
+        if (idsByDelta.isEmpty()) {
+            return;
+        }
+        
+        int updated = 0;
+        for (Map.Entry<Long, List<Long>> entry : idsByDelta.entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, ids.size()));
+                try {
+                    postRepository.updateViewCount(chunk, entry.getKey().intValue());
+                    updated += chunk.size();
+                    // 반영에 성공한 조회수만 순위에 반영 (실패분은 재시도 때 반영되므로 중복 계산 방지)
+                    hotPostRanker.recordViews(chunk, entry.getKey());
+                } catch (Exception e) {
+                    // 실패한 증가분은 다음 주기에 다시 반영
+                    log.warn("게시글 조회수 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+                    chunk.forEach(postId -> viewCountAccumulator.add(postId, entry.getKey()));
+                }
+            }
+        }
+        log.debug("게시글 조회수 반영 완료: {}건", updated);
+    }
+    
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
@@ -1,9 +1,11 @@
 package com.maltan.community.service;
 
+import com.maltan.community.client.UserNameCache;
 import com.maltan.community.client.UserServiceClient;
 import com.maltan.community.dto.CommentDto;
 import com.maltan.community.dto.request.CreateCommentRequest;
 import com.maltan.community.dto.request.UpdateCommentRequest;
+import com.maltan.community.dto.response.CommentListResponse;
 import com.maltan.community.exception.CommentNotFoundException;
 import com.maltan.community.exception.PostNotFoundException;
 import com.maltan.community.exception.UnauthorizedException;
@@ -11,11 +13,17 @@ import com.maltan.community.model.*;
 import com.maltan.community.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,19 +34,44 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final CommentVoteRepository commentVoteRepository;
-    private final UserServiceClient userServiceClient;
+    private final UserNameCache userNameCache;
+    private final HotPostRanker hotPostRanker;
     
     /**
      * 게시글의 댓글 목록 조회
+     * 게시글의 댓글을 한 번에 조회한 뒤 메모리에서 트리로 구성
      */
     @Transactional(readOnly = true)
     public List<CommentDto> getComments(Long postId, Long currentUserId) {
-        // 부모 댓글만 조회
-        List<Comment> parentComments = commentRepository.findByPostIdAndParentCommentIsNull(postId);
+        List<Comment> comments = commentRepository.findByPostIdAndIsDeletedFalse(postId);
         
-        return parentComments.stream()
-            .map(comment -> convertToDto(comment, currentUserId))
+        List<Comment> rootComments = comments.stream()
+            .filter(comment -> comment.getParentComment() == null)
             .collect(Collectors.toList());
+        
+        return buildTree(rootComments, comments, currentUserId);
+    }
+    
+    /**
+     * 게시글의 댓글 목록 조회 (최상위 댓글 기준 페이징)
+     */
+    @Transactional(readOnly = true)
+    public CommentListResponse getComments(Long postId, Long currentUserId, Pageable pageable) {
+        Page<Comment> rootPage = commentRepository.findRootCommentsByPostId(postId, pageable);
+        
+        List<CommentDto> commentDtos = buildTree(
+            rootPage.getContent(), findDescendants(rootPage.getContent()), currentUserId
+        );
+        
+        return CommentListResponse.builder()
+            .content(commentDtos)
+            .totalElements(rootPage.getTotalElements())
+            .totalPages(rootPage.getTotalPages())
+            .currentPage(rootPage.getNumber())
+            .pageSize(rootPage.getSize())
+            .hasNext(rootPage.hasNext())
+            .hasPrevious(rootPage.hasPrevious())
+            .build();
     }
     
     /**
@@ -66,6 +99,7 @@ public class CommentService {
         
         // 게시글의 댓글 수 증가
         post.incrementCommentCount();
+        hotPostRanker.recordComment(post, true);
         
         log.info("댓글 작성 완료: commentId={}, postId={}, userId={}", savedComment.getId(), postId, userId);
         
@@ -111,34 +145,92 @@ public class CommentService {
         // 게시글의 댓글 수 감소
         Post post = comment.getPost();
         post.decrementCommentCount();
+        hotPostRanker.recordComment(post, false);
         
         log.info("댓글 삭제 완료: commentId={}, userId={}", commentId, userId);
     }
     
     /**
-     * Entity를 DTO로 변환
+     * Entity를 DTO로 변환 (단건, 하위 댓글 포함)
      */
     private CommentDto convertToDto(Comment comment, Long currentUserId) {
-        // 대댓글 목록
-        List<CommentDto> replyDtos = new ArrayList<>();
-        if (!comment.isReply()) {
-            replyDtos = commentRepository.findByParentCommentId(comment.getId()).stream()
-                .map(reply -> convertToDto(reply, currentUserId))
+        List<Comment> roots = List.of(comment);
+        return buildTree(roots, findDescendants(roots), currentUserId).get(0);
+    }
+    
+    /**
+     * 주어진 댓글들의 하위 댓글 전체 조회 (깊이 단위로 한 번씩 조회)
+     */
+    private List<Comment> findDescendants(List<Comment> roots) {
+        List<Comment> descendants = new ArrayList<>();
+        List<Long> parentIds = roots.stream()
+            .map(Comment::getId)
+            .collect(Collectors.toList());
+        
+        while (!parentIds.isEmpty()) {
+            List<Comment> children = commentRepository.findByParentCommentIdIn(parentIds);
+            descendants.addAll(children);
+            parentIds = children.stream()
+                .map(Comment::getId)
                 .collect(Collectors.toList());
         }
+        return descendants;
+    }
+    
+    /**
+     * 댓글 트리 구성
+     * 작성자 이름과 현재 사용자의 투표 상태는 트리 전체에 대해 한 번씩만 조회
+     */
+    private List<CommentDto> buildTree(List<Comment> roots, List<Comment> comments, Long currentUserId) {
+        Map<Long, List<Comment>> childrenByParentId = new HashMap<>();
+        Set<Long> commentIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        
+        for (Comment root : roots) {
+            commentIds.add(root.getId());
+            userIds.add(root.getUserId());
+        }
+        for (Comment comment : comments) {
+            if (comment.getParentComment() != null) {
+                childrenByParentId
+                    .computeIfAbsent(comment.getParentComment().getId(), id -> new ArrayList<>())
+                    .add(comment);
+            }
+            commentIds.add(comment.getId());
+            userIds.add(comment.getUserId());
+        }
         
-        // 사용자의 투표 상태 확인
-        Boolean isLiked = false;
-        Boolean isDisliked = false;
-        if (currentUserId != null) {
-            commentVoteRepository.findByCommentIdAndUserId(comment.getId(), currentUserId)
-                .ifPresent(vote -> {
-                    // 투표 상태 설정 로직
-                });
+        // 사용자의 투표 상태
+        Map<Long, VoteType> voteTypes = new HashMap<>();
+        if (currentUserId != null && !commentIds.isEmpty()) {
+            commentVoteRepository.findByUserIdAndCommentIdIn(currentUserId, commentIds)
+                .forEach(vote -> voteTypes.put(vote.getCommentId(), vote.getVoteType()));
         }
         
-        // User Service에서 사용자 이름 조회
-        String userName = userServiceClient.getUserName(comment.getUserId());
+        // 작성자 이름
+        Map<Long, String> userNames = userNameCache.getUserNames(userIds);
+        
+        return roots.stream()
+            .map(root -> convertToDto(root, childrenByParentId, voteTypes, userNames))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Entity를 DTO로 변환
+     */
+    private CommentDto convertToDto(Comment comment, Map<Long, List<Comment>> childrenByParentId,
+                                    Map<Long, VoteType> voteTypes, Map<Long, String> userNames) {
+        // 대댓글 목록
+        List<CommentDto> replyDtos = childrenByParentId.getOrDefault(comment.getId(), List.of()).stream()
+            .map(reply -> convertToDto(reply, childrenByParentId, voteTypes, userNames))
+            .collect(Collectors.toList());
+        
+        // 사용자의 투표 상태
+        VoteType voteType = voteTypes.get(comment.getId());
+        
+        // User Service에서 조회한 사용자 이름
+        String userName = userNames.getOrDefault(comment.getUserId(),
+            UserServiceClient.defaultUserName(comment.getUserId()));
         
         return CommentDto.builder()
             .id(comment.getId())
@@ -150,12 +242,11 @@ public class CommentService {
             .content(comment.getContent())
             .likeCount(comment.getLikeCount())
             .dislikeCount(comment.getDislikeCount())
-            .isLiked(isLiked)
-            .isDisliked(isDisliked)
+            .isLiked(voteType == VoteType.LIKE)
+            .isDisliked(voteType == VoteType.DISLIKE)
             .createdAt(comment.getCreatedAt())
             .updatedAt(comment.getUpdatedAt())
             .replies(replyDtos)
             .build();
     }
 }
-
@@ -0,0 +1,415 @@
+package com.maltan.community.service;
+
+import com.maltan.community.model.Post;
+import com.maltan.community.model.VoteType;
+import com.maltan.community.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 게시글 인기(hot) 순위
+ * - 점수는 이벤트(추천, 댓글, 조회)마다 가중치 × 2^((발생 시각 - 기준 시각) / 반감기)를 더하는 방식이라,
+ *   시간이 지나도 게시글 간 순서가 바뀌지 않아 이벤트가 있을 때만 갱신하면 된다.
+ * - 전체/지역(시, 시+구)/카테고리 및 그 조합 구간마다 상위 K개만 유지한다.
+ *   점수가 내려가거나 삭제되어 자리가 비면 밀려났던 게시글로 다시 채운다.
+ * - 시작 시 최근 게시글로 구성하고, 매시 오래된 게시글을 정리하며 기준 시각을 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotPostRanker {
+
+    private static final double BASE_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 3.0;
+    private static final double DISLIKE_WEIGHT = -1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double VIEW_WEIGHT = 0.1;
+
+    private static final String ALL_SEGMENT = "*";
+
+    private final PostRepository postRepository;
+
+    @Value("${app.hot-posts.half-life-hours:12}")
+    private double halfLifeHours;
+
+    @Value("${app.hot-posts.top-k:100}")
+    private int topK;
+
+    @Value("${app.hot-posts.window-days:7}")
+    private int windowDays;
+
+    private final Map<Long, RankedPost> posts = new HashMap<>();
+    private final Map<String, Segment> segments = new HashMap<>();
+    private LocalDateTime epoch = LocalDateTime.now();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 순위 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 순위 대상 기간 (일)
+     */
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    /**
+     * 시작 시 최근 게시글로 순위 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<Object[]> rows = postRepository.findRankingStatsSince(now.minusDays(windowDays));
+            synchronized (this) {
+                posts.clear();
+                epoch = now;
+                for (Object[] row : rows) {
+                    LocalDateTime createdAt = (LocalDateTime) row[4];
+                    double engagement = BASE_WEIGHT
+                        + LIKE_WEIGHT * intValue(row[5])
+                        + DISLIKE_WEIGHT * intValue(row[6])
+                        + COMMENT_WEIGHT * intValue(row[7])
+                        + VIEW_WEIGHT * intValue(row[8]);
+                    // 누적된 반응은 작성 시점에 발생한 것으로 간주
+                    RankedPost post = new RankedPost((Long) row[0], (String) row[1], (String) row[2], (String) row[3], createdAt);
+                    post.score = Math.max(0.0, engagement * decayFactor(createdAt));
+                    posts.put(post.id, post);
+                }
+                rebuildSegments();
+                ready = true;
+            }
+            log.info("인기 게시글 순위 구성 완료: {}건, 구간 {}개", rows.size(), segments.size());
+        } catch (Exception e) {
+            log.warn("인기 게시글 순위 구성 실패, 다음 정리 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 매시 오래된 게시글 정리 및 기준 시각 이동
+     */
+    @Scheduled(cron = "${app.hot-posts.maintenance-cron:0 5 * * * *}")
+    public void maintain() {
+        if (!ready) {
+            load();
+            return;
+        }
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime since = now.minusDays(windowDays);
+            double rebase = 1.0 / decayFactor(now);
+            posts.values().removeIf(post -> post.createdAt.isBefore(since));
+            posts.values().forEach(post -> post.score *= rebase);
+            epoch = now;
+            rebuildSegments();
+        }
+        log.debug("인기 게시글 순위 정리 완료");
+    }
+
+    /**
+     * 인기 게시글 ID 조회 (점수 높은 순)
+     * regionGu는 regionSi와 함께 주어질 때만 적용한다.
+     */
+    public synchronized List<Long> getHotPostIds(String category, String regionSi, String regionGu, int limit) {
+        Segment segment = segments.get(segmentKey(category, regionSi, regionSi != null ? regionGu : null));
+        List<Long> ids = new ArrayList<>();
+        if (segment == null) {
+            return ids;
+        }
+        for (Entry entry : segment.entries) {
+            if (ids.size() >= limit) {
+                break;
+            }
+            ids.add(entry.postId);
+        }
+        return ids;
+    }
+
+    /**
+     * 게시글 작성/수정 반영 (카테고리가 바뀌면 구간 재배치)
+     */
+    public void track(Post post) {
+        RankedPost ranked = toRankedPost(post);
+        afterCommit(() -> {
+            synchronized (this) {
+                RankedPost existing = posts.get(ranked.id);
+                if (existing != null) {
+                    removeFromSegments(existing);
+                    ranked.score = existing.score;
+                } else {
+                    ranked.score = BASE_WEIGHT * decayFactor(ranked.createdAt);
+                }
+                posts.put(ranked.id, ranked);
+                offerToSegments(ranked);
+                if (existing != null) {
+                    // 카테고리가 바뀌었으면 이전 구간의 빈자리 채움
+                    refillSegments(existing);
+                }
+            }
+        });
+    }
+
+    /**
+     * 게시글 삭제 반영
+     */
+    public void remove(Long postId) {
+        afterCommit(() -> {
+            synchronized (this) {
+                RankedPost existing = posts.remove(postId);
+                if (existing != null) {
+                    removeFromSegments(existing);
+                    refillSegments(existing);
+                }
+            }
+        });
+    }
+
+    /**
+     * 추천/비추천 반영 (취소는 음수 가중치)
+     */
+    public void recordVote(Post post, VoteType voteType, boolean increment) {
+        double weight = voteType == VoteType.LIKE ? LIKE_WEIGHT : DISLIKE_WEIGHT;
+        addEvent(post, increment ? weight : -weight);
+    }
+
+    /**
+     * 댓글 작성/삭제 반영
+     */
+    public void recordComment(Post post, boolean increment) {
+        addEvent(post, increment ? COMMENT_WEIGHT : -COMMENT_WEIGHT);
+    }
+
+    /**
+     * 조회수 반영 (조회수 누적분을 DB에 반영할 때 함께 호출)
+     */
+    public synchronized void recordViews(Collection<Long> postIds, long views) {
+        double delta = VIEW_WEIGHT * views * decayFactor(LocalDateTime.now());
+        for (Long postId : postIds) {
+            RankedPost post = posts.get(postId);
+            if (post != null) {
+                updateScore(post, delta);
+            }
+        }
+    }
+
+    private void addEvent(Post post, double weight) {
+        RankedPost candidate = toRankedPost(post);
+        afterCommit(() -> {
+            synchronized (this) {
+                RankedPost ranked = posts.get(candidate.id);
+                if (ranked == null) {
+                    // 순위 구성 이후 작성되었거나 이전에 정리된 게시글
+                    if (candidate.createdAt.isBefore(LocalDateTime.now().minusDays(windowDays))) {
+                        return;
+                    }
+                    ranked = candidate;
+                    ranked.score = BASE_WEIGHT * decayFactor(ranked.createdAt);
+                    posts.put(ranked.id, ranked);
+                    offerToSegments(ranked);
+                }
+                updateScore(ranked, weight * decayFactor(LocalDateTime.now()));
+            }
+        });
+    }
+
+    /**
+     * 커밋 이후 지연 로딩이 일어나지 않도록 필요한 값을 미리 복사
+     */
+    private static RankedPost toRankedPost(Post post) {
+        LocalDateTime createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now();
+        return new RankedPost(post.getId(), post.getCategory(), post.getRegionSi(), post.getRegionGu(), createdAt);
+    }
+
+    private void updateScore(RankedPost post, double delta) {
+        removeFromSegments(post);
+        post.score = Math.max(0.0, post.score + delta);
+        offerToSegments(post);
+        if (delta < 0) {
+            // 밀려났던 게시글이 이제 더 높을 수 있음
+            refillSegments(post);
+        }
+    }
+
+    private void rebuildSegments() {
+        segments.clear();
+        posts.values().forEach(this::offerToSegments);
+    }
+
+    private void offerToSegments(RankedPost post) {
+        for (String key : post.segmentKeys) {
+            segments.computeIfAbsent(key, k -> new Segment()).offer(post, topK);
+        }
+    }
+
+    /**
+     * 게시글이 속했던 구간을 상위 K개로 다시 채움 (점수 하락, 삭제, 구간 이동 후)
+     * 한 번이라도 밀려난 게시글이 있는 구간만 전체 게시글을 훑는다.
+     */
+    private void refillSegments(RankedPost post) {
+        for (String key : post.segmentKeys) {
+            Segment segment = segments.get(key);
+            if (segment == null || !segment.truncated) {
+                continue;
+            }
+            segment.truncated = false;
+            for (RankedPost candidate : posts.values()) {
+                if (!segment.contains(candidate.id) && candidate.segmentKeys.contains(key)) {
+                    segment.offer(candidate, topK);
+                }
+            }
+        }
+    }
+
+    private void removeFromSegments(RankedPost post) {
+        for (String key : post.segmentKeys) {
+            Segment segment = segments.get(key);
+            if (segment != null) {
+                segment.remove(post.id);
+            }
+        }
+    }
+
+    /**
+     * 기준 시각 대비 가중 배율 (반감기마다 2배)
+     */
+    private double decayFactor(LocalDateTime time) {
+        double hours = Duration.between(epoch, time).toMillis() / 3_600_000.0;
+        return Math.pow(2.0, hours / halfLifeHours);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 반영 (트랜잭션 밖이면 즉시)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String segmentKey(String category, String regionSi, String regionGu) {
+        StringBuilder key = new StringBuilder();
+        if (category != null) {
+            key.append("c:").append(category);
+        }
+        if (regionSi != null) {
+            if (key.length() > 0) {
+                key.append('|');
+            }
+            key.append("r:").append(regionSi);
+            if (regionGu != null) {
+                key.append('/').append(regionGu);
+            }
+        }
+        return key.length() > 0 ? key.toString() : ALL_SEGMENT;
+    }
+
+    private static int intValue(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * 순위 대상 게시글
+     */
+    private static final class RankedPost {
+        private final Long id;
+        private final LocalDateTime createdAt;
+        private final List<String> segmentKeys = new ArrayList<>();
+        private double score;
+
+        private RankedPost(Long id, String category, String regionSi, String regionGu, LocalDateTime createdAt) {
+            this.id = id;
+            this.createdAt = createdAt;
+
+            // 전체, 지역(시, 시+구), 카테고리 및 조합 구간
+            for (String segmentCategory : new String[]{null, category}) {
+                segmentKeys.add(segmentKey(segmentCategory, null, null));
+                if (regionSi != null) {
+                    segmentKeys.add(segmentKey(segmentCategory, regionSi, null));
+                    if (regionGu != null) {
+                        segmentKeys.add(segmentKey(segmentCategory, regionSi, regionGu));
+                    }
+                }
+                if (category == null) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 구간별 상위 K개 (점수 높은 순, 같은 점수는 최신 ID 우선)
+     */
+    private static final class Segment {
+        private final TreeSet<Entry> entries = new TreeSet<>(
+            Comparator.comparingDouble((Entry entry) -> entry.score).reversed()
+                .thenComparing(entry -> entry.postId, Comparator.reverseOrder())
+        );
+        private final Map<Long, Entry> byPostId = new HashMap<>();
+        private boolean truncated; // 상위 K개 밖으로 밀려난 게시글이 있는지
+
+        void offer(RankedPost post, int capacity) {
+            Entry entry = new Entry(post.id, post.score);
+            if (entries.size() >= capacity) {
+                truncated = true;
+                Entry lowest = entries.last();
+                if (entries.comparator().compare(entry, lowest) >= 0) {
+                    return;
+                }
+                entries.remove(lowest);
+                byPostId.remove(lowest.postId);
+            }
+            entries.add(entry);
+            byPostId.put(entry.postId, entry);
+        }
+
+        boolean contains(Long postId) {
+            return byPostId.containsKey(postId);
+        }
+
+        void remove(Long postId) {
+            Entry entry = byPostId.remove(postId);
+            if (entry != null) {
+                entries.remove(entry);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Long postId;
+        private final double score;
+
+        private Entry(Long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.maltan.community.service;
+
+import com.maltan.community.model.Post;
+import com.maltan.community.repository.PostRepository;
+import com.maltan.community.repository.PostSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 색인 관리
+ * 게시글 작성/수정 시 search_vector를 갱신하고, 시작 시 색인이 없는 게시글을 채운다.
+ * search_vector 컬럼이 없는 DB에서는 비활성화되어 기존 LIKE 검색을 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexer {
+    
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    
+    private final PostRepository postRepository;
+    private final PostSearchRepository postSearchRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    private volatile boolean available = false;
+    
+    /**
+     * 색인 검색 사용 가능 여부
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+    
+    /**
+     * 게시글 색인 갱신 (호출한 트랜잭션 안에서 실행)
+     */
+    public void index(Post post) {
+        if (!available) {
+            return;
+        }
+        postSearchRepository.updateSearchVector(
+            post.getId(),
+            PostSearchTokenizer.toDocument(post.getTitle()),
+            PostSearchTokenizer.toDocument(post.getContent())
+        );
+    }
+    
+    /**
+     * 시작 시 색인이 없는 게시글 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            // search_vector 컬럼 존재 확인 후, 이후 작성/수정되는 게시글부터 바로 색인
+            postSearchRepository.findIdsWithoutSearchVector(0L, 1);
+            available = true;
+        } catch (Exception e) {
+            log.warn("게시글 검색 색인을 사용할 수 없어 LIKE 검색을 사용합니다: {}", e.getMessage());
+            return;
+        }
+        
+        try {
+            long lastId = 0L;
+            int indexed = 0;
+            while (true) {
+                final long afterId = lastId;
+                List<Long> ids = transactionTemplate.execute(status -> {
+                    List<Long> batch = postSearchRepository.findIdsWithoutSearchVector(afterId, BACKFILL_BATCH_SIZE);
+                    postRepository.findAllById(batch).forEach(this::index);
+                    return batch;
+                });
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                indexed += ids.size();
+                lastId = ids.get(ids.size() - 1);
+            }
+            log.info("게시글 검색 색인 채우기 완료: {}건", indexed);
+        } catch (Exception e) {
+            log.warn("게시글 검색 색인 채우기 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.maltan.community.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 검색어/본문 토큰화
+ * PostgreSQL 'simple' 설정에는 한국어 형태소 분석이 없으므로
+ * 한글이 포함된 단어는 2글자 단위(bigram)로 쪼개 색인하고 검색한다.
+ * 예) "맛집추천" -> "맛집 집추 추천"
+ */
+public final class PostSearchTokenizer {
+    
+    private static final int MAX_DOCUMENT_LENGTH = 10000;
+    
+    private PostSearchTokenizer() {
+    }
+    
+    /**
+     * 색인용 문서 생성 (공백으로 구분된 토큰)
+     */
+    public static String toDocument(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String source = text.length() > MAX_DOCUMENT_LENGTH ? text.substring(0, MAX_DOCUMENT_LENGTH) : text;
+        
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(source)) {
+            if (containsHangul(word) && word.length() >= 2) {
+                tokens.addAll(bigrams(word));
+            } else {
+                tokens.add(word);
+            }
+        }
+        return String.join(" ", tokens);
+    }
+    
+    /**
+     * 검색어를 to_tsquery 식으로 변환
+     * 한글 단어는 bigram을 모두 포함해야 하고, 그 외 단어는 접두어로 검색한다.
+     *
+     * @return 색인으로 검색할 수 없는 검색어(한글 1글자 등)만 있으면 null
+     */
+    public static String toQuery(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(search)) {
+            if (containsHangul(word)) {
+                if (word.length() < 2) {
+                    return null;
+                }
+                terms.addAll(bigrams(word));
+            } else {
+                terms.add(word + ":*");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+    
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+    
+    private static List<String> bigrams(String word) {
+        List<String> bigrams = new ArrayList<>(word.length() - 1);
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            bigrams.add(word.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+    
+    private static boolean containsHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.UnicodeScript.of(word.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,10 +1,12 @@
 package com.maltan.community.service;
 
-import com.maltan.community.client.UserServiceClient;
+import com.maltan.community.client.UserNameCache;
+import com.maltan.community.dto.CreatedAtCursor;
 import com.maltan.community.dto.PostDto;
 import com.maltan.community.dto.request.CreatePostRequest;
 import com.maltan.community.dto.request.UpdatePostRequest;
 import com.maltan.community.dto.response.PostListResponse;
+import com.maltan.community.exception.InvalidPageRequestException;
 import com.maltan.community.exception.PostNotFoundException;
 import com.maltan.community.exception.UnauthorizedException;
 import com.maltan.community.model.*;
@@ -12,12 +14,20 @@ import com.maltan.community.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,7 +39,14 @@ public class PostService {
     private final PostImageRepository postImageRepository;
     private final PostVoteRepository postVoteRepository;
     private final RecruitmentParticipantRepository participantRepository;
-    private final UserServiceClient userServiceClient;
+    private final UserNameCache userNameCache;
+    private final ViewCountAccumulator viewCountAccumulator;
+    private final PostSearchIndexer postSearchIndexer;
+    private final PostSearchRepository postSearchRepository;
+    private final HotPostRanker hotPostRanker;
+    
+    // 관련도 순 검색을 요청하는 정렬 이름 (sort=relevance)
+    private static final String RELEVANCE_SORT = "relevance";
     
     /**
      * 게시글 목록 조회
@@ -42,16 +59,38 @@ public class PostService {
             String regionDong,
             Boolean isRecruitment,
             String search,
+            String cursor,
             Pageable pageable,
             Long currentUserId
     ) {
+        // 관련도 순 검색(색인)은 cursor를 보내거나 sort=relevance로 요청할 때만 사용
+        // 그 외 검색은 기존처럼 page/sort가 적용되는 LIKE 검색
+        boolean relevance = pageable.getSort().getOrderFor(RELEVANCE_SORT) != null;
+        if (relevance) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        }
+        String searchQuery = postSearchIndexer.isAvailable() ? PostSearchTokenizer.toQuery(search) : null;
+        if (searchQuery != null && (relevance || cursor != null)) {
+            rejectPageAndSort(pageable, "관련도 순 검색은 다음 페이지를 cursor로 요청해야 합니다");
+            return searchPosts(category, regionSi, regionGu, regionDong, isRecruitment,
+                searchQuery, cursor, pageable.getPageSize(), currentUserId);
+        }
+        
+        // 커서가 주어지면 (빈 값은 첫 페이지) COUNT 없이 최신순 커서 방식으로 조회
+        if (cursor != null) {
+            rejectPageAndSort(pageable, "커서 조회는 최신순으로만 조회되며 다음 페이지는 cursor로 요청해야 합니다");
+            return getPostsByCursor(category, regionSi, regionGu, regionDong, isRecruitment,
+                search, cursor, pageable.getPageSize(), currentUserId);
+        }
+        
+        if (pageable.getSort().isUnsorted()) {
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt"));
+        }
         Page<Post> postsPage = postRepository.findByFilters(
             category, regionSi, regionGu, regionDong, isRecruitment, search, pageable
         );
         
-        List<PostDto> postDtos = postsPage.getContent().stream()
-            .map(post -> convertToDto(post, currentUserId))
-            .collect(Collectors.toList());
+        List<PostDto> postDtos = convertToDtos(postsPage.getContent(), currentUserId);
         
         return PostListResponse.builder()
             .content(postDtos)
@@ -64,16 +103,164 @@ public class PostService {
             .build();
     }
     
+    /**
+     * 커서 기반 조회에서 page/sort 지정 거절 (지정해도 적용되지 않으므로)
+     */
+    private void rejectPageAndSort(Pageable pageable, String message) {
+        if (pageable.getPageNumber() > 0 || pageable.getSort().isSorted()) {
+            throw new InvalidPageRequestException(message + " (page, sort 사용 불가)");
+        }
+    }
+    
+    /**
+     * 검색어로 게시글 검색 (관련도 순, 커서 기반 페이징)
+     * 커서 형식: "{관련도}_{게시글 ID}"
+     */
+    private PostListResponse searchPosts(
+            String category,
+            String regionSi,
+            String regionGu,
+            String regionDong,
+            Boolean isRecruitment,
+            String searchQuery,
+            String cursor,
+            int pageSize,
+            Long currentUserId
+    ) {
+        Float cursorRank = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split("_");
+            try {
+                cursorRank = Float.parseFloat(parts[0]);
+                cursorId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new InvalidPageRequestException("잘못된 커서입니다: " + cursor);
+            }
+        }
+        
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Object[]> rows = postSearchRepository.search(
+            searchQuery, category, regionSi, regionGu, regionDong, isRecruitment,
+            cursorRank, cursorId, pageSize + 1
+        );
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        
+        List<Long> postIds = rows.stream()
+            .map(row -> ((Number) row[0]).longValue())
+            .collect(Collectors.toList());
+        Map<Long, Post> postsById = postRepository.findAllById(postIds).stream()
+            .collect(Collectors.toMap(Post::getId, post -> post));
+        List<Post> posts = postIds.stream()
+            .map(postsById::get)
+            .filter(post -> post != null)
+            .collect(Collectors.toList());
+        
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = rows.get(rows.size() - 1);
+            nextCursor = ((Number) last[1]).floatValue() + "_" + ((Number) last[0]).longValue();
+        }
+        
+        return PostListResponse.builder()
+            .content(convertToDtos(posts, currentUserId))
+            .currentPage(0)
+            .pageSize(pageSize)
+            .hasNext(hasNext)
+            .hasPrevious(cursor != null && !cursor.isBlank())
+            .nextCursor(nextCursor)
+            .build();
+    }
+    
+    /**
+     * 게시글 목록 조회 (최신순, 커서 기반 페이징)
+     * 커서는 마지막 게시글의 (작성일시, 게시글 ID)를 CreatedAtCursor로 인코딩한 값
+     */
+    private PostListResponse getPostsByCursor(
+            String category,
+            String regionSi,
+            String regionGu,
+            String regionDong,
+            Boolean isRecruitment,
+            String search,
+            String cursor,
+            int pageSize,
+            Long currentUserId
+    ) {
+        Pageable pageable = PageRequest.of(0, pageSize);
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+        Slice<Post> posts;
+        if (after == null) {
+            posts = postRepository.findSliceByFilters(
+                category, regionSi, regionGu, regionDong, isRecruitment, search, pageable
+            );
+        } else {
+            posts = postRepository.findSliceByFiltersBefore(
+                category, regionSi, regionGu, regionDong, isRecruitment, search,
+                after.getCreatedAt(), after.getId(), pageable
+            );
+        }
+        
+        String nextCursor = null;
+        if (posts.hasNext() && posts.hasContent()) {
+            Post last = posts.getContent().get(posts.getNumberOfElements() - 1);
+            nextCursor = CreatedAtCursor.encode(last.getCreatedAt(), last.getId());
+        }
+        
+        return PostListResponse.builder()
+            .content(convertToDtos(posts.getContent(), currentUserId))
+            .currentPage(0)
+            .pageSize(pageSize)
+            .hasNext(posts.hasNext())
+            .hasPrevious(!cursor.isBlank())
+            .nextCursor(nextCursor)
+            .build();
+    }
+    
+    /**
+     * 인기 게시글 조회 (시간 감쇠 인기 순위, 카테고리/지역별)
+     * 순위가 아직 구성되지 않았으면 기간 내 추천 많은 순으로 대신 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public PostListResponse getHotPosts(String category, String regionSi, String regionGu, int limit, Long currentUserId) {
+        List<Post> posts;
+        if (hotPostRanker.isReady()) {
+            List<Long> postIds = hotPostRanker.getHotPostIds(category, regionSi, regionGu, limit);
+            Map<Long, Post> postsById = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+            posts = postIds.stream()
+                .map(postsById::get)
+                .filter(post -> post != null && !post.getIsDeleted())
+                .collect(Collectors.toList());
+        } else {
+            LocalDateTime since = LocalDateTime.now().minusDays(hotPostRanker.getWindowDays());
+            posts = postRepository.findPopularPosts(
+                since, category, regionSi, regionSi != null ? regionGu : null, PageRequest.of(0, limit)
+            ).getContent();
+        }
+        
+        return PostListResponse.builder()
+            .content(convertToDtos(posts, currentUserId))
+            .currentPage(0)
+            .pageSize(limit)
+            .hasNext(false)
+            .hasPrevious(false)
+            .build();
+    }
+    
     /**
      * 게시글 상세 조회
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDto getPost(Long postId, Long currentUserId) {
         Post post = postRepository.findByIdAndIsDeletedFalse(postId)
             .orElseThrow(() -> new PostNotFoundException(postId));
         
-        // 조회수 증가
-        post.incrementViewCount();
+        // 조회수 증가 (메모리 누적 후 ViewCountFlushScheduler가 반영)
+        viewCountAccumulator.increment(postId);
         
         return convertToDto(post, currentUserId);
     }
@@ -85,9 +272,7 @@ public class PostService {
     public PostListResponse getPostsByPlaceId(Long placeId, Pageable pageable, Long currentUserId) {
         Page<Post> postsPage = postRepository.findByIsDeletedFalseAndPlaceIdOrderByCreatedAtDesc(placeId, pageable);
         
-        List<PostDto> postDtos = postsPage.getContent().stream()
-            .map(post -> convertToDto(post, currentUserId))
-            .collect(Collectors.toList());
+        List<PostDto> postDtos = convertToDtos(postsPage.getContent(), currentUserId);
         
         return PostListResponse.builder()
             .content(postDtos)
@@ -139,6 +324,10 @@ public class PostService {
             }
         }
         
+        // 검색 색인 갱신
+        postSearchIndexer.index(savedPost);
+        hotPostRanker.track(savedPost);
+        
         log.info("게시글 작성 완료: postId={}, userId={}", savedPost.getId(), userId);
         
         return convertToDto(savedPost, userId);
@@ -186,6 +375,10 @@ public class PostService {
             }
         }
         
+        // 검색 색인 갱신
+        postSearchIndexer.index(post);
+        hotPostRanker.track(post);
+        
         log.info("게시글 수정 완료: postId={}, userId={}", postId, userId);
         
         return convertToDto(post, userId);
@@ -206,12 +399,68 @@ public class PostService {
         
         // Soft Delete
         post.softDelete();
+        hotPostRanker.remove(postId);
         
         log.info("게시글 삭제 완료: postId={}, userId={}", postId, userId);
     }
     
     /**
-     * Entity를 DTO로 변환
+     * Entity 목록을 DTO로 변환
+     * 페이지에 포함된 게시글의 이미지, 사용자 투표, 모집 참여 여부, 작성자 이름을 각각 한 번에 조회
+     */
+    private List<PostDto> convertToDtos(List<Post> posts, Long currentUserId) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Long> postIds = posts.stream()
+            .map(Post::getId)
+            .collect(Collectors.toList());
+        
+        // 이미지 URL 목록
+        Map<Long, List<String>> imageUrlsByPostId = new HashMap<>();
+        for (PostImage image : postImageRepository.findByPostIdIn(postIds)) {
+            imageUrlsByPostId
+                .computeIfAbsent(image.getPost().getId(), id -> new ArrayList<>())
+                .add(image.getImageUrl());
+        }
+        
+        // 사용자의 투표 상태 및 모집 참여 여부
+        Map<Long, VoteType> voteTypes = new HashMap<>();
+        Set<Long> joinedPostIds = new HashSet<>();
+        if (currentUserId != null) {
+            postVoteRepository.findByUserIdAndPostIdIn(currentUserId, postIds)
+                .forEach(vote -> voteTypes.put(vote.getPostId(), vote.getVoteType()));
+            
+            List<Long> recruitmentPostIds = posts.stream()
+                .filter(post -> Boolean.TRUE.equals(post.getIsRecruitment()))
+                .map(Post::getId)
+                .collect(Collectors.toList());
+            if (!recruitmentPostIds.isEmpty()) {
+                joinedPostIds.addAll(participantRepository.findPostIdsByUserIdAndStatusAndPostIdIn(
+                    currentUserId, ParticipantStatus.JOINED, recruitmentPostIds
+                ));
+            }
+        }
+        
+        // 작성자 이름
+        Map<Long, String> userNames = userNameCache.getUserNames(
+            posts.stream().map(Post::getUserId).collect(Collectors.toSet())
+        );
+        
+        return posts.stream()
+            .map(post -> convertToDto(
+                post,
+                userNames.get(post.getUserId()),
+                imageUrlsByPostId.getOrDefault(post.getId(), new ArrayList<>()),
+                voteTypes.get(post.getId()),
+                joinedPostIds.contains(post.getId())
+            ))
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Entity를 DTO로 변환 (단건)
      */
     private PostDto convertToDto(Post post, Long currentUserId) {
         // 이미지 URL 목록
@@ -220,30 +469,29 @@ public class PostService {
             .collect(Collectors.toList());
         
         // 사용자의 투표 상태 확인
-        Boolean isLiked = false;
-        Boolean isDisliked = false;
+        VoteType voteType = null;
         if (currentUserId != null) {
-            postVoteRepository.findByPostIdAndUserId(post.getId(), currentUserId)
-                .ifPresent(vote -> {
-                    if (vote.getVoteType() == VoteType.LIKE) {
-                        // isLiked를 true로 설정하려면 변수를 final이 아닌 다른 방식으로 처리해야 함
-                    } else if (vote.getVoteType() == VoteType.DISLIKE) {
-                        // isDisliked를 true로 설정
-                    }
-                });
+            voteType = postVoteRepository.findByPostIdAndUserId(post.getId(), currentUserId)
+                .map(PostVote::getVoteType)
+                .orElse(null);
         }
         
         // 모집 참여 여부 확인
-        Boolean isJoined = false;
+        boolean isJoined = false;
         if (post.getIsRecruitment() && currentUserId != null) {
             isJoined = participantRepository.existsByPostIdAndUserIdAndStatus(
                 post.getId(), currentUserId, ParticipantStatus.JOINED
             );
         }
         
-        // User Service에서 사용자 이름 조회
-        String userName = userServiceClient.getUserName(post.getUserId());
-        
+        return convertToDto(post, userNameCache.getUserName(post.getUserId()), imageUrls, voteType, isJoined);
+    }
+    
+    /**
+     * Entity를 DTO로 변환
+     */
+    private PostDto convertToDto(Post post, String userName, List<String> imageUrls,
+                                 VoteType voteType, boolean isJoined) {
         return PostDto.builder()
             .id(post.getId())
             .userId(post.getUserId())
@@ -264,7 +512,7 @@ public class PostService {
             .latitude(post.getLatitude())
             .longitude(post.getLongitude())
             .address(post.getAddress())
-            .viewCount(post.getViewCount())
+            .viewCount((int) (post.getViewCount() + viewCountAccumulator.getPending(post.getId())))
             .likeCount(post.getLikeCount())
             .dislikeCount(post.getDislikeCount())
             .commentCount(post.getCommentCount())
@@ -274,8 +522,8 @@ public class PostService {
             .images(imageUrls)
             .isPinned(post.getIsPinned())
             .pinnedUntil(post.getPinnedUntil())
-            .isLiked(isLiked)
-            .isDisliked(isDisliked)
+            .isLiked(voteType == VoteType.LIKE)
+            .isDisliked(voteType == VoteType.DISLIKE)
             .isJoined(isJoined)
             .build();
     }
@@ -0,0 +1,56 @@
+package com.maltan.community.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 누적기 (write-behind)
+ * 상세 조회 시 DB를 갱신하지 않고 메모리에 누적하며,
+ * ViewCountFlushScheduler가 주기적으로 꺼내 일괄 반영한다.
+ * 증가와 꺼내기는 키 단위 원자 연산(merge/remove)이라, 꺼내는 중에 들어온 조회도 다음 주기에 반영된다.
+ */
+@Component
+public class ViewCountAccumulator {
+    
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    
+    /**
+     * 조회수 1 증가 (메모리)
+     */
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+    
+    /**
+     * 증가분 되돌리기 (DB 반영 실패 시)
+     */
+    public void add(Long postId, long delta) {
+        pending.merge(postId, delta, Long::sum);
+    }
+    
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPending(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+    
+    /**
+     * 누적값을 꺼내 증가량별로 묶음 (꺼낸 항목은 제거)
+     */
+    public Map<Long, List<Long>> drain() {
+        Map<Long, List<Long>> idsByDelta = new TreeMap<>();
+        for (Long id : pending.keySet()) {
+            Long delta = pending.remove(id);
+            if (delta != null && delta > 0) {
+                idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id);
+            }
+        }
+        return idsByDelta;
+    }
+}
@@ -20,6 +20,7 @@ public class VoteService {
     private final PostVoteRepository postVoteRepository;
     private final CommentRepository commentRepository;
     private final CommentVoteRepository commentVoteRepository;
+    private final HotPostRanker hotPostRanker;
     
     /**
      * 게시글 추천/비추천
@@ -173,6 +174,7 @@ public class VoteService {
      * 게시글 투표 카운트 업데이트
      */
     private void updatePostVoteCount(Post post, VoteType voteType, boolean increment) {
+        hotPostRanker.recordVote(post, voteType, increment);
         if (voteType == VoteType.LIKE) {
             if (increment) {
                 post.incrementLikeCount();
@@ -0,0 +1,87 @@
+package com.maltan.community.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceClientTest {
+
+    private RestTemplate restTemplate;
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        userServiceClient = new UserServiceClient(restTemplate);
+        ReflectionTestUtils.setField(userServiceClient, "userServiceUrl", "http://user-service");
+    }
+
+    @Test
+    void defaultUserNameAppendsUserId() {
+        assertEquals("사용자42", UserServiceClient.defaultUserName(42L));
+    }
+
+    @Test
+    void getUserNameReturnsNameFromUserService() {
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenReturn(Map.of("name", "홍길동"));
+
+        assertEquals("홍길동", userServiceClient.getUserName(1L));
+    }
+
+    @Test
+    void getUserNameFallsBackWhenUserIsUnknown() {
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenReturn(Map.of());
+
+        assertEquals("사용자7", userServiceClient.getUserName(7L));
+    }
+
+    @Test
+    void getUserNameFallsBackWhenUserServiceIsDown() {
+        when(restTemplate.getForObject(anyString(), eq(Map.class)))
+                .thenThrow(new ResourceAccessException("connection refused"));
+
+        assertEquals("사용자7", userServiceClient.getUserName(7L));
+    }
+
+    @Test
+    void getUserNamesSplitsRequestsByMaxBatchSize() {
+        List<List<Long>> requests = new ArrayList<>();
+        when(restTemplate.postForObject(anyString(), any(), eq(Map.class))).thenAnswer(invocation -> {
+            List<Long> chunk = new ArrayList<>(invocation.<List<Long>>getArgument(1));
+            requests.add(chunk);
+            return chunk.stream().collect(Collectors.toMap(String::valueOf, id -> "이름" + id));
+        });
+        List<Long> userIds = LongStream.rangeClosed(1, 2500).boxed().collect(Collectors.toList());
+        userIds.add(1L); // 중복은 한 번만 요청
+
+        Map<Long, String> userNames = userServiceClient.getUserNames(userIds);
+
+        assertEquals(List.of(1000, 1000, 500), requests.stream().map(List::size).collect(Collectors.toList()));
+        assertEquals(2500, userNames.size());
+        assertEquals("이름2500", userNames.get(2500L));
+    }
+
+    @Test
+    void getUserNamesWithoutIdsSkipsRequest() {
+        assertTrue(userServiceClient.getUserNames(List.of()).isEmpty());
+        verify(restTemplate, never()).postForObject(anyString(), any(), eq(Map.class));
+    }
+}
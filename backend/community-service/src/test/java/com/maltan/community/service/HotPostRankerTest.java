@@ -0,0 +1,191 @@
+package com.maltan.community.service;
+
+import com.maltan.community.model.Post;
+import com.maltan.community.model.VoteType;
+import com.maltan.community.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotPostRankerTest {
+
+    private PostRepository postRepository;
+    private HotPostRanker hotPostRanker;
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        when(postRepository.findRankingStatsSince(any(LocalDateTime.class))).thenReturn(rows);
+
+        hotPostRanker = new HotPostRanker(postRepository);
+        ReflectionTestUtils.setField(hotPostRanker, "halfLifeHours", 12.0);
+        ReflectionTestUtils.setField(hotPostRanker, "topK", 100);
+        ReflectionTestUtils.setField(hotPostRanker, "windowDays", 7);
+    }
+
+    @Test
+    void notReadyUntilLoaded() {
+        assertFalse(hotPostRanker.isReady());
+
+        hotPostRanker.load();
+
+        assertTrue(hotPostRanker.isReady());
+    }
+
+    @Test
+    void engagementHalvesEveryHalfLife() {
+        LocalDateTime now = LocalDateTime.now();
+        // 12시간 전 추천 1개: (1 + 3) × 1/2 = 2 > 방금 작성: 1
+        rows.add(row(1L, null, null, null, now.minusHours(12), 1, 0, 0, 0));
+        rows.add(row(2L, null, null, null, now, 0, 0, 0, 0));
+        // 24시간 전 추천 2개: (1 + 6) × 1/4 = 1.75, 36시간 전 추천 1개: 4 × 1/8 = 0.5
+        rows.add(row(3L, null, null, null, now.minusHours(24), 2, 0, 0, 0));
+        rows.add(row(4L, null, null, null, now.minusHours(36), 1, 0, 0, 0));
+
+        hotPostRanker.load();
+
+        assertEquals(List.of(1L, 3L, 2L, 4L), hotPostRanker.getHotPostIds(null, null, null, 10));
+    }
+
+    @Test
+    void laterEventOutweighsSameEventEarlier() {
+        LocalDateTime now = LocalDateTime.now();
+        // 12시간 전 작성된 두 게시글 (각 0.5), 지금 들어온 반응은 배율 1로 더해진다
+        rows.add(row(1L, null, null, null, now.minusHours(12), 0, 0, 0, 0));
+        rows.add(row(2L, null, null, null, now.minusHours(12), 0, 0, 0, 0));
+        hotPostRanker.load();
+
+        hotPostRanker.recordComment(post(1L, null, null, null, now.minusHours(12)), true);
+
+        // 1: 0.5 + 2 × 1 = 2.5, 2: 0.5
+        assertEquals(List.of(1L, 2L), hotPostRanker.getHotPostIds(null, null, null, 10));
+
+        hotPostRanker.recordVote(post(2L, null, null, null, now.minusHours(12)), VoteType.LIKE, true);
+
+        // 2: 0.5 + 3 × 1 = 3.5
+        assertEquals(List.of(2L, 1L), hotPostRanker.getHotPostIds(null, null, null, 10));
+    }
+
+    @Test
+    void segmentKeepsOnlyTopK() {
+        ReflectionTestUtils.setField(hotPostRanker, "topK", 2);
+        LocalDateTime now = LocalDateTime.now();
+        rows.add(row(1L, "맛집", "서울", "강남구", now, 1, 0, 0, 0));
+        rows.add(row(2L, "맛집", "서울", "강남구", now, 2, 0, 0, 0));
+        rows.add(row(3L, "맛집", "서울", "강남구", now, 3, 0, 0, 0));
+        hotPostRanker.load();
+
+        assertEquals(List.of(3L, 2L), hotPostRanker.getHotPostIds(null, null, null, 10));
+        assertEquals(List.of(3L, 2L), hotPostRanker.getHotPostIds("맛집", "서울", "강남구", 10));
+
+        // 가장 낮은 항목보다 점수가 높으면 밀어내고 들어간다
+        hotPostRanker.recordVote(post(1L, "맛집", "서울", "강남구", now), VoteType.LIKE, true);
+        hotPostRanker.recordVote(post(1L, "맛집", "서울", "강남구", now), VoteType.LIKE, true);
+        hotPostRanker.recordVote(post(1L, "맛집", "서울", "강남구", now), VoteType.LIKE, true);
+
+        assertEquals(List.of(1L, 3L), hotPostRanker.getHotPostIds(null, null, null, 10));
+    }
+
+    @Test
+    void segmentsAreSeparatedByCategoryAndRegion() {
+        LocalDateTime now = LocalDateTime.now();
+        rows.add(row(1L, "맛집", "서울", "강남구", now, 0, 0, 0, 0));
+        rows.add(row(2L, "모임", "서울", "마포구", now, 0, 0, 0, 0));
+        rows.add(row(3L, "맛집", "부산", null, now, 0, 0, 0, 0));
+        hotPostRanker.load();
+
+        assertEquals(List.of(3L, 1L), hotPostRanker.getHotPostIds("맛집", null, null, 10));
+        assertEquals(List.of(2L, 1L), hotPostRanker.getHotPostIds(null, "서울", null, 10));
+        assertEquals(List.of(1L), hotPostRanker.getHotPostIds("맛집", "서울", "강남구", 10));
+        // regionGu는 regionSi 없이 적용하지 않는다
+        assertEquals(List.of(3L, 2L, 1L), hotPostRanker.getHotPostIds(null, null, "강남구", 10));
+        assertTrue(hotPostRanker.getHotPostIds("모임", "부산", null, 10).isEmpty());
+    }
+
+    @Test
+    void removedPostLeavesAllSegments() {
+        LocalDateTime now = LocalDateTime.now();
+        rows.add(row(1L, "맛집", "서울", "강남구", now, 0, 0, 0, 0));
+        rows.add(row(2L, "맛집", "서울", "강남구", now, 0, 0, 0, 0));
+        hotPostRanker.load();
+
+        hotPostRanker.remove(2L);
+
+        assertEquals(List.of(1L), hotPostRanker.getHotPostIds(null, null, null, 10));
+        assertEquals(List.of(1L), hotPostRanker.getHotPostIds("맛집", "서울", "강남구", 10));
+    }
+
+    @Test
+    void removedPostIsBackFilledFromRemainingPosts() {
+        ReflectionTestUtils.setField(hotPostRanker, "topK", 2);
+        LocalDateTime now = LocalDateTime.now();
+        rows.add(row(1L, "맛집", "서울", "강남구", now, 1, 0, 0, 0));
+        rows.add(row(2L, "맛집", "서울", "강남구", now, 2, 0, 0, 0));
+        rows.add(row(3L, "맛집", "서울", "강남구", now, 3, 0, 0, 0));
+        hotPostRanker.load();
+
+        hotPostRanker.remove(3L);
+
+        // 밀려났던 1번이 다음 정리 전에 다시 들어온다
+        assertEquals(List.of(2L, 1L), hotPostRanker.getHotPostIds(null, null, null, 10));
+        assertEquals(List.of(2L, 1L), hotPostRanker.getHotPostIds("맛집", "서울", "강남구", 10));
+    }
+
+    @Test
+    void demotedPostIsReplacedByHigherOutsider() {
+        ReflectionTestUtils.setField(hotPostRanker, "topK", 2);
+        LocalDateTime now = LocalDateTime.now();
+        rows.add(row(1L, null, null, null, now, 1, 0, 0, 0));
+        rows.add(row(2L, null, null, null, now, 2, 0, 0, 0));
+        rows.add(row(3L, null, null, null, now, 3, 0, 0, 0));
+        hotPostRanker.load();
+
+        // 3번: 1 + 9 - 9 = 1, 밀려났던 1번(1 + 3 = 4)보다 낮아진다
+        for (int i = 0; i < 3; i++) {
+            hotPostRanker.recordVote(post(3L, null, null, null, now), VoteType.LIKE, false);
+        }
+
+        assertEquals(List.of(2L, 1L), hotPostRanker.getHotPostIds(null, null, null, 10));
+    }
+
+    @Test
+    void maintainDropsPostsOutsideWindowAndKeepsOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        rows.add(row(1L, null, null, null, now.minusDays(8), 100, 0, 0, 0));
+        rows.add(row(2L, null, null, null, now.minusHours(12), 1, 0, 0, 0));
+        rows.add(row(3L, null, null, null, now, 0, 0, 0, 0));
+        hotPostRanker.load();
+
+        hotPostRanker.maintain();
+
+        assertEquals(List.of(2L, 3L), hotPostRanker.getHotPostIds(null, null, null, 10));
+    }
+
+    private static Object[] row(Long id, String category, String regionSi, String regionGu, LocalDateTime createdAt,
+                                int likes, int dislikes, int comments, int views) {
+        return new Object[]{id, category, regionSi, regionGu, createdAt, likes, dislikes, comments, views};
+    }
+
+    private static Post post(Long id, String category, String regionSi, String regionGu, LocalDateTime createdAt) {
+        Post post = Post.builder()
+            .id(id)
+            .category(category)
+            .regionSi(regionSi)
+            .regionGu(regionGu)
+            .build();
+        post.setCreatedAt(createdAt);
+        return post;
+    }
+}
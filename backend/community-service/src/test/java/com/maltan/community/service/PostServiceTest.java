@@ -0,0 +1,183 @@
+package com.maltan.community.service;
+
+import com.maltan.community.client.UserNameCache;
+import com.maltan.community.dto.CreatedAtCursor;
+import com.maltan.community.dto.PostDto;
+import com.maltan.community.dto.response.PostListResponse;
+import com.maltan.community.exception.InvalidPageRequestException;
+import com.maltan.community.model.Post;
+import com.maltan.community.repository.PostImageRepository;
+import com.maltan.community.repository.PostRepository;
+import com.maltan.community.repository.PostSearchRepository;
+import com.maltan.community.repository.PostVoteRepository;
+import com.maltan.community.repository.RecruitmentParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PostServiceTest {
+
+    private PostRepository postRepository;
+    private PostSearchIndexer postSearchIndexer;
+    private PostSearchRepository postSearchRepository;
+    private HotPostRanker hotPostRanker;
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postSearchIndexer = mock(PostSearchIndexer.class);
+        postSearchRepository = mock(PostSearchRepository.class);
+        hotPostRanker = mock(HotPostRanker.class);
+        postService = new PostService(
+            postRepository,
+            mock(PostImageRepository.class),
+            mock(PostVoteRepository.class),
+            mock(RecruitmentParticipantRepository.class),
+            mock(UserNameCache.class),
+            mock(ViewCountAccumulator.class),
+            postSearchIndexer,
+            postSearchRepository,
+            hotPostRanker
+        );
+        when(postSearchIndexer.isAvailable()).thenReturn(true);
+    }
+
+    @Test
+    void searchWithPageKeepsLikePaging() {
+        when(postRepository.findByFilters(any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of()));
+
+        postService.getPosts(null, null, null, null, null, "맛집", null,
+            PageRequest.of(2, 20, Sort.by(Sort.Direction.DESC, "createdAt")), null);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(postRepository).findByFilters(any(), any(), any(), any(), any(), eq("맛집"), pageable.capture());
+        assertEquals(2, pageable.getValue().getPageNumber());
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt"), pageable.getValue().getSort());
+        verifyNoInteractions(postSearchRepository);
+    }
+
+    @Test
+    void relevanceSortUsesSearchIndex() {
+        when(postSearchRepository.search(eq("맛집"), isNull(), isNull(), isNull(), isNull(), isNull(),
+            isNull(), isNull(), anyInt())).thenReturn(List.of());
+
+        PostListResponse response = postService.getPosts(
+            null, null, null, null, null, "맛집", null, PageRequest.of(0, 20, Sort.by("relevance")), null);
+
+        assertEquals(20, response.getPageSize());
+        verify(postSearchRepository).search(eq("맛집"), isNull(), isNull(), isNull(), isNull(), isNull(),
+            isNull(), isNull(), eq(21));
+    }
+
+    @Test
+    void searchWithCursorUsesSearchIndex() {
+        when(postSearchRepository.search(eq("맛집"), isNull(), isNull(), isNull(), isNull(), isNull(),
+            isNull(), isNull(), anyInt())).thenReturn(List.of());
+
+        postService.getPosts(null, null, null, null, null, "맛집", "", PageRequest.of(0, 20), null);
+
+        verify(postSearchRepository).search(eq("맛집"), isNull(), isNull(), isNull(), isNull(), isNull(),
+            isNull(), isNull(), eq(21));
+    }
+
+    @Test
+    void relevanceSearchRejectsPageNumber() {
+        assertThrows(InvalidPageRequestException.class, () -> postService.getPosts(
+            null, null, null, null, null, "맛집", null, PageRequest.of(2, 20, Sort.by("relevance")), null));
+        verifyNoInteractions(postSearchRepository);
+    }
+
+    @Test
+    void cursorModeRejectsPageNumber() {
+        assertThrows(InvalidPageRequestException.class, () -> postService.getPosts(
+            null, null, null, null, null, null, "", PageRequest.of(1, 20), null));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(InvalidPageRequestException.class, () -> postService.getPosts(
+            null, null, null, null, null, null, "not-a-cursor", PageRequest.of(0, 20), null));
+    }
+
+    @Test
+    void cursorModeContinuesAfterDecodedCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        when(postRepository.findSliceByFiltersBefore(any(), any(), any(), any(), any(), any(),
+            eq(createdAt), eq(42L), any(Pageable.class))).thenReturn(new SliceImpl<>(List.of()));
+
+        postService.getPosts(null, null, null, null, null, null,
+            CreatedAtCursor.encode(createdAt, 42L), PageRequest.of(0, 20), null);
+
+        verify(postRepository).findSliceByFiltersBefore(any(), any(), any(), any(), any(), any(),
+            eq(createdAt), eq(42L), any(Pageable.class));
+    }
+
+    @Test
+    void pageModeDefaultsToLatestFirst() {
+        Page<Post> empty = new PageImpl<>(List.of());
+        when(postRepository.findByFilters(any(), any(), any(), any(), any(), any(), any(Pageable.class)))
+            .thenReturn(empty);
+
+        postService.getPosts(null, null, null, null, null, null, null, PageRequest.of(3, 20), null);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(postRepository).findByFilters(any(), any(), any(), any(), any(), any(), pageable.capture());
+        assertEquals(3, pageable.getValue().getPageNumber());
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt"), pageable.getValue().getSort());
+    }
+
+    @Test
+    void hotPostsUseRankerOrderWhenReady() {
+        Post first = Post.builder().id(2L).title("첫째").build();
+        Post second = Post.builder().id(1L).title("둘째").build();
+        when(hotPostRanker.isReady()).thenReturn(true);
+        when(hotPostRanker.getHotPostIds("맛집", "서울", null, 10)).thenReturn(List.of(2L, 1L));
+        when(postRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(second, first));
+
+        PostListResponse response = postService.getHotPosts("맛집", "서울", null, 10, null);
+
+        assertEquals(List.of(2L, 1L), response.getContent().stream().map(PostDto::getId).toList());
+        verify(postRepository, never()).findPopularPosts(any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void hotPostsFallBackToPopularQueryWhenRankerNotLoaded() {
+        when(hotPostRanker.isReady()).thenReturn(false);
+        when(hotPostRanker.getWindowDays()).thenReturn(7);
+        when(postRepository.findPopularPosts(any(LocalDateTime.class), eq("맛집"), eq("서울"), isNull(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of()));
+
+        // regionGu는 regionSi 없이 적용하지 않는다
+        postService.getHotPosts("맛집", "서울", null, 10, null);
+        postService.getHotPosts(null, null, "강남구", 10, null);
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(postRepository).findPopularPosts(any(LocalDateTime.class), eq("맛집"), eq("서울"), isNull(), pageable.capture());
+        assertEquals(10, pageable.getValue().getPageSize());
+        verify(postRepository).findPopularPosts(any(LocalDateTime.class), isNull(), isNull(), isNull(), any(Pageable.class));
+        verify(hotPostRanker, never()).getHotPostIds(any(), any(), any(), anyInt());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.placeservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 로컬 캐시 설정 (Caffeine)
+ * 캐시마다 크기/유효 시간을 따로 두고 통계를 기록한다.
+ * 시작 시 등록된 캐시는 actuator가 cache.gets/cache.puts/cache.evictions 메트릭으로 노출한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORIES_WITH_COUNT = "categories-with-count";
+    public static final String PLACE_DETAILS = "place-details";
+    public static final String POPULAR_PLACES = "popular-places";
+    public static final String TOP_RATED_PLACES = "top-rated-places";
+    public static final String RECOMMENDED_PLACES = "recommended-places";
+    public static final String CATEGORY_POPULAR_PLACES = "category-popular-places";
+    public static final String PLACE_LIST_RESPONSES = "place-list-responses";
+
+    /**
+     * 장소 데이터가 포함된 캐시 (장소/카테고리/리뷰 변경 시 함께 무효화)
+     */
+    public static final List<String> PLACE_LISTS = List.of(
+        POPULAR_PLACES, TOP_RATED_PLACES, RECOMMENDED_PLACES, CATEGORY_POPULAR_PLACES);
+
+    private static final String DEFAULT_SPEC = "maximumSize=100,expireAfterWrite=60s";
+
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        for (String name : List.of(CATEGORIES, CATEGORIES_WITH_COUNT, PLACE_DETAILS, POPULAR_PLACES,
+                TOP_RATED_PLACES, RECOMMENDED_PLACES, CATEGORY_POPULAR_PLACES, PLACE_LIST_RESPONSES)) {
+            String spec = properties.getSpecs().getOrDefault(name, DEFAULT_SPEC);
+            cacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+        }
+        return cacheManager;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.placeservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로컬 캐시 설정 (캐시 이름 -> Caffeine spec)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+
+    private Map<String, String> specs = new LinkedHashMap<>();
+
+    // Getters and Setters
+    public Map<String, String> getSpecs() {
+        return specs;
+    }
+
+    public void setSpecs(Map<String, String> specs) {
+        this.specs = specs;
+    }
+}
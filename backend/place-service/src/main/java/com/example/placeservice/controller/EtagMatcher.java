@@ -0,0 +1,32 @@
+package com.example.placeservice.controller;
+
+/**
+ * If-None-Match 조건 비교 (파일 제공, 직렬화 응답 캐시 공용)
+ * GET/HEAD의 If-None-Match는 약한 비교이므로 W/ 접두사는 무시한다.
+ */
+final class EtagMatcher {
+
+    private EtagMatcher() {
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인 (쉼표로 구분된 목록, * 지원)
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String expected = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || opaqueTag(value).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
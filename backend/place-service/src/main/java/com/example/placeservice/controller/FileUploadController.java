@@ -1,8 +1,14 @@
 package com.example.placeservice.controller;
 
 import com.example.placeservice.dto.ApiResponse;
+import com.example.placeservice.dto.DirectUploadRequest;
+import com.example.placeservice.dto.DirectUploadResponse;
 import com.example.placeservice.dto.PhotoDto;
+import com.example.placeservice.service.DirectUploadService;
 import com.example.placeservice.service.FileUploadService;
+import com.example.placeservice.service.LocalDirectUploadStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +28,12 @@ public class FileUploadController {
     @Autowired
     private FileUploadService fileUploadService;
 
+    @Autowired
+    private DirectUploadService directUploadService;
+
+    @Autowired(required = false)
+    private LocalDirectUploadStorage localDirectUploadStorage; // GCS 비활성화 시에만 존재
+
     /**
      * 단일 파일 업로드
      */
@@ -104,6 +116,88 @@ public class FileUploadController {
         }
     }
 
+    /**
+     * 직접 업로드 URL 발급 (1단계)
+     * 파일은 응답의 uploadUrl로 직접 올리고, 완료 후 /direct-uploads/{photoId}/complete를 호출한다.
+     */
+    @PostMapping("/direct-uploads")
+    public ResponseEntity<ApiResponse<DirectUploadResponse>> createDirectUpload(
+            @Valid @RequestBody DirectUploadRequest request) {
+        try {
+            DirectUploadResponse upload = directUploadService.createUpload(request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success("업로드 URL 발급 성공", upload));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("업로드 URL 발급 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 직접 업로드 완료 (2단계)
+     */
+    @PostMapping("/direct-uploads/{photoId}/complete")
+    public ResponseEntity<ApiResponse<PhotoDto>> completeDirectUpload(@PathVariable Long photoId) {
+        try {
+            PhotoDto photo = directUploadService.completeUpload(photoId);
+            if (photo == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("파일을 찾을 수 없습니다: " + photoId));
+            }
+            return ResponseEntity.ok(ApiResponse.success("파일 업로드 완료", photo));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("파일 업로드 완료 처리 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 로컬 직접 업로드 수신 (GCS 비활성화 시 Signed URL 대신 사용)
+     */
+    @PutMapping("/direct-uploads/local/{token}")
+    public ResponseEntity<ApiResponse<Long>> receiveLocalUpload(
+            @PathVariable String token,
+            HttpServletRequest request) {
+        if (localDirectUploadStorage == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("로컬 직접 업로드가 비활성화되어 있습니다."));
+        }
+        try {
+            long size = localDirectUploadStorage.write(token, request.getContentType(), request.getInputStream());
+            return ResponseEntity.ok(ApiResponse.success("파일 저장 성공", size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("파일 저장 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 사진 처리 상태 조회 (UPLOADING / PROCESSING / READY / FAILED)
+     */
+    @GetMapping("/{photoId}/status")
+    public ResponseEntity<ApiResponse<PhotoDto>> getPhotoStatus(@PathVariable Long photoId) {
+        try {
+            PhotoDto photo = fileUploadService.getPhoto(photoId);
+            if (photo == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("파일을 찾을 수 없습니다: " + photoId));
+            }
+            return ResponseEntity.ok(ApiResponse.success("사진 상태 조회 성공", photo));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("사진 상태 조회 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 파일 삭제
      */
@@ -1,17 +1,23 @@
 package com.example.placeservice.controller;
 
 import com.example.placeservice.dto.ApiResponse;
+import com.example.placeservice.dto.CursorPage;
 import com.example.placeservice.dto.PhotoDto;
 import com.example.placeservice.dto.PlaceDto;
+import com.example.placeservice.dto.PlaceSuggestionDto;
+import com.example.placeservice.dto.PlaceSummary;
 import com.example.placeservice.service.FileUploadService;
 import com.example.placeservice.service.PlaceService;
+import com.example.placeservice.service.SerializedResponseCache;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,6 +26,7 @@ import java.math.BigDecimal;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 장소 REST API 컨트롤러
@@ -34,11 +41,14 @@ public class PlaceController {
     @Autowired
     private FileUploadService fileUploadService;
 
+    @Autowired
+    private SerializedResponseCache responseCache;
+
     /**
      * 모든 활성화된 장소 조회 (페이징)
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<PlaceDto>>> getAllPlaces(
+    public ResponseEntity<ApiResponse<Page<PlaceSummary>>> getAllPlaces(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -48,7 +58,7 @@ public class PlaceController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
             
-            Page<PlaceDto> places = placeService.getAllActivePlaces(pageable);
+            Page<PlaceSummary> places = placeService.getAllActivePlaces(pageable);
             return ResponseEntity.ok(ApiResponse.success("장소 목록 조회 성공", places));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -56,6 +66,26 @@ public class PlaceController {
         }
     }
 
+    /**
+     * 장소 목록 조회 (커서 방식, 무한 스크롤용)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<PlaceSummary>>> getAllPlacesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            int pageSize = Math.max(1, Math.min(size, 100));
+            CursorPage<PlaceSummary> result = placeService.getLatestPlaces(cursor, pageSize);
+            return ResponseEntity.ok(ApiResponse.success("장소 목록 조회 성공", result));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("장소 목록 조회 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 장소 ID로 상세 조회
      */
@@ -92,13 +122,13 @@ public class PlaceController {
      * 카테고리별 장소 조회 (페이징)
      */
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<ApiResponse<Page<PlaceDto>>> getPlacesByCategory(
+    public ResponseEntity<ApiResponse<Page<PlaceSummary>>> getPlacesByCategory(
             @PathVariable Long categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<PlaceDto> places = placeService.getPlacesByCategory(categoryId, pageable);
+            Page<PlaceSummary> places = placeService.getPlacesByCategory(categoryId, pageable);
             return ResponseEntity.ok(ApiResponse.success("카테고리별 장소 조회 성공", places));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -110,14 +140,14 @@ public class PlaceController {
      * 장소 검색 (이름 또는 주소)
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<Page<PlaceDto>>> searchPlaces(
+    public ResponseEntity<ApiResponse<Page<PlaceSummary>>> searchPlaces(
             @RequestParam String keyword,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<PlaceDto> places;
+            Page<PlaceSummary> places;
             
             if (categoryId != null) {
                 places = placeService.searchPlacesByCategoryAndKeyword(categoryId, keyword, pageable);
@@ -132,6 +162,24 @@ public class PlaceController {
         }
     }
 
+    /**
+     * 장소 이름 자동완성 (초성 입력 지원)
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<PlaceSuggestionDto>>> autocompletePlaces(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            int clampedLimit = Math.max(1, Math.min(limit, 50));
+            List<PlaceSuggestionDto> suggestions = placeService.autocompletePlaces(prefix, categoryId, clampedLimit);
+            return ResponseEntity.ok(ApiResponse.success("장소 자동완성 성공", suggestions));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("장소 자동완성 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 장소 생성 (JSON만)
      */
@@ -282,13 +330,14 @@ public class PlaceController {
      * 인기 장소 조회 (조회수 기준)
      */
     @GetMapping("/popular")
-    public ResponseEntity<ApiResponse<Page<PlaceDto>>> getPopularPlaces(
+    public ResponseEntity<?> getPopularPlaces(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<PlaceDto> places = placeService.getPopularPlaces(pageable);
-            return ResponseEntity.ok(ApiResponse.success("인기 장소 조회 성공", places));
+            return cachedResponse("popular?page=" + page + "&size=" + size, ifNoneMatch,
+                    "인기 장소 조회 성공", () -> placeService.getPopularPlaces(pageable));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("인기 장소 조회 실패: " + e.getMessage()));
@@ -299,12 +348,12 @@ public class PlaceController {
      * 최신 장소 조회
      */
     @GetMapping("/latest")
-    public ResponseEntity<ApiResponse<Page<PlaceDto>>> getLatestPlaces(
+    public ResponseEntity<ApiResponse<Page<PlaceSummary>>> getLatestPlaces(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<PlaceDto> places = placeService.getLatestPlaces(pageable);
+            Page<PlaceSummary> places = placeService.getLatestPlaces(pageable);
             return ResponseEntity.ok(ApiResponse.success("최신 장소 조회 성공", places));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -312,18 +361,40 @@ public class PlaceController {
         }
     }
 
+    /**
+     * 최신 장소 조회 (커서 방식, 무한 스크롤용)
+     */
+    @GetMapping(value = "/latest", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<PlaceSummary>>> getLatestPlacesByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            int pageSize = Math.max(1, Math.min(size, 100));
+            CursorPage<PlaceSummary> result = placeService.getLatestPlaces(cursor, pageSize);
+            return ResponseEntity.ok(ApiResponse.success("최신 장소 조회 성공", result));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("최신 장소 조회 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 평점 높은 장소 조회
      */
     @GetMapping("/top-rated")
-    public ResponseEntity<ApiResponse<Page<PlaceDto>>> getTopRatedPlaces(
+    public ResponseEntity<?> getTopRatedPlaces(
             @RequestParam(defaultValue = "5") Integer minReviewCount,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<PlaceDto> places = placeService.getTopRatedPlaces(minReviewCount, pageable);
-            return ResponseEntity.ok(ApiResponse.success("평점 높은 장소 조회 성공", places));
+            return cachedResponse("top-rated?minReviewCount=" + minReviewCount + "&page=" + page + "&size=" + size,
+                    ifNoneMatch, "평점 높은 장소 조회 성공",
+                    () -> placeService.getTopRatedPlaces(minReviewCount, pageable));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("평점 높은 장소 조회 실패: " + e.getMessage()));
@@ -334,11 +405,12 @@ public class PlaceController {
      * 추천 장소 조회
      */
     @GetMapping("/recommended")
-    public ResponseEntity<ApiResponse<List<PlaceDto>>> getRecommendedPlaces(
-            @RequestParam(defaultValue = "10") int limit) {
+    public ResponseEntity<?> getRecommendedPlaces(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
         try {
-            List<PlaceDto> places = placeService.getRecommendedPlaces(limit);
-            return ResponseEntity.ok(ApiResponse.success("추천 장소 조회 성공", places));
+            return cachedResponse("recommended?limit=" + limit, ifNoneMatch,
+                    "추천 장소 조회 성공", () -> placeService.getRecommendedPlaces(limit));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("추천 장소 조회 실패: " + e.getMessage()));
@@ -353,9 +425,18 @@ public class PlaceController {
             @RequestParam BigDecimal latitude,
             @RequestParam BigDecimal longitude,
             @RequestParam(defaultValue = "5.0") Double radius,
-            @RequestParam(required = false) Long categoryId) {
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "50") int limit) {
+        if (latitude.abs().compareTo(BigDecimal.valueOf(90)) > 0
+                || longitude.abs().compareTo(BigDecimal.valueOf(180)) > 0
+                || radius.isNaN() || radius <= 0 || limit <= 0) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("위도(-90~90), 경도(-180~180), 반경(0 초과), 개수(1 이상)를 확인해주세요"));
+        }
         try {
-            List<PlaceDto> places = placeService.getNearbyPlaces(latitude, longitude, radius, categoryId);
+            double radiusKm = Math.min(radius, 50.0); // 최대 반경 50km
+            int size = Math.min(limit, 100); // 최대 100건 (가까운 순)
+            List<PlaceDto> places = placeService.getNearbyPlaces(latitude, longitude, radiusKm, categoryId, size);
             return ResponseEntity.ok(ApiResponse.success("주변 장소 조회 성공", places));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -367,10 +448,12 @@ public class PlaceController {
      * 카테고리별 인기 장소 조회
      */
     @GetMapping("/category/{categoryId}/popular")
-    public ResponseEntity<ApiResponse<List<PlaceDto>>> getPopularPlacesByCategory(@PathVariable Long categoryId) {
+    public ResponseEntity<?> getPopularPlacesByCategory(
+            @PathVariable Long categoryId,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
         try {
-            List<PlaceDto> places = placeService.getPopularPlacesByCategory(categoryId);
-            return ResponseEntity.ok(ApiResponse.success("카테고리별 인기 장소 조회 성공", places));
+            return cachedResponse("category/" + categoryId + "/popular", ifNoneMatch,
+                    "카테고리별 인기 장소 조회 성공", () -> placeService.getPopularPlacesByCategory(categoryId));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("카테고리별 인기 장소 조회 실패: " + e.getMessage()));
@@ -381,13 +464,13 @@ public class PlaceController {
      * 사용자가 생성한 장소 목록 조회
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponse<Page<PlaceDto>>> getPlacesByUser(
+    public ResponseEntity<ApiResponse<Page<PlaceSummary>>> getPlacesByUser(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<PlaceDto> places = placeService.getPlacesByUser(userId, pageable);
+            Page<PlaceSummary> places = placeService.getPlacesByUser(userId, pageable);
             return ResponseEntity.ok(ApiResponse.success("사용자별 장소 조회 성공", places));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -399,14 +482,14 @@ public class PlaceController {
      * 평점 범위로 장소 검색
      */
     @GetMapping("/rating-range")
-    public ResponseEntity<ApiResponse<Page<PlaceDto>>> getPlacesByRatingRange(
+    public ResponseEntity<ApiResponse<Page<PlaceSummary>>> getPlacesByRatingRange(
             @RequestParam BigDecimal minRating,
             @RequestParam BigDecimal maxRating,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<PlaceDto> places = placeService.getPlacesByRatingRange(minRating, maxRating, pageable);
+            Page<PlaceSummary> places = placeService.getPlacesByRatingRange(minRating, maxRating, pageable);
             return ResponseEntity.ok(ApiResponse.success("평점 범위별 장소 조회 성공", places));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -511,4 +594,22 @@ public class PlaceController {
                     .body(ApiResponse.error("사진 삭제 실패: " + e.getMessage()));
         }
     }
+
+    /**
+     * 직렬화된 응답 캐시로 응답 (ETag가 같으면 본문 없이 304)
+     */
+    private ResponseEntity<?> cachedResponse(String key, String ifNoneMatch, String message, Supplier<?> loader) {
+        SerializedResponseCache.CachedResponse cached = responseCache.get(key, message, loader);
+        if (EtagMatcher.matches(ifNoneMatch, cached.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.getBody());
+    }
 }
@@ -1,7 +1,9 @@
 package com.example.placeservice.controller;
 
 import com.example.placeservice.dto.ApiResponse;
+import com.example.placeservice.dto.CursorPage;
 import com.example.placeservice.dto.ReviewDto;
+import com.example.placeservice.dto.ReviewLikeDto;
 import com.example.placeservice.service.ReviewService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -135,12 +137,20 @@ public class ReviewController {
     }
 
     /**
-     * 리뷰 좋아요 추가
+     * 리뷰 좋아요 추가 (리뷰 전체 반환)
+     * userId는 필수이며 사용자당 한 번만 반영된다 (없으면 400).
+     * 좋아요 수만 필요하면 POST /{id}/likes 사용
      */
     @PostMapping("/{id}/like")
-    public ResponseEntity<ApiResponse<ReviewDto>> likeReview(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<ReviewDto>> likeReview(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long userId) {
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("userId는 필수입니다."));
+        }
         try {
-            ReviewDto updatedReview = reviewService.likeReview(id);
+            ReviewDto updatedReview = reviewService.likeReviewAndGet(id, userId);
             return ResponseEntity.ok(ApiResponse.success("리뷰 좋아요 성공", updatedReview));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -152,12 +162,20 @@ public class ReviewController {
     }
 
     /**
-     * 리뷰 좋아요 취소
+     * 리뷰 좋아요 취소 (리뷰 전체 반환)
+     * userId는 필수이며 사용자당 한 번만 반영된다 (없으면 400).
+     * 좋아요 수만 필요하면 DELETE /{id}/likes 사용
      */
     @DeleteMapping("/{id}/like")
-    public ResponseEntity<ApiResponse<ReviewDto>> unlikeReview(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<ReviewDto>> unlikeReview(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long userId) {
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("userId는 필수입니다."));
+        }
         try {
-            ReviewDto updatedReview = reviewService.unlikeReview(id);
+            ReviewDto updatedReview = reviewService.unlikeReviewAndGet(id, userId);
             return ResponseEntity.ok(ApiResponse.success("리뷰 좋아요 취소 성공", updatedReview));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -168,6 +186,44 @@ public class ReviewController {
         }
     }
 
+    /**
+     * 리뷰 좋아요 추가 (사용자당 한 번, 좋아요 수만 반환하고 리뷰는 다시 조회하지 않음)
+     */
+    @PostMapping("/{id}/likes")
+    public ResponseEntity<ApiResponse<ReviewLikeDto>> addLike(
+            @PathVariable Long id,
+            @RequestParam Long userId) {
+        try {
+            ReviewLikeDto result = reviewService.likeReview(id, userId);
+            return ResponseEntity.ok(ApiResponse.success("리뷰 좋아요 성공", result));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("리뷰 좋아요 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 리뷰 좋아요 취소 (좋아요 수만 반환하고 리뷰는 다시 조회하지 않음)
+     */
+    @DeleteMapping("/{id}/likes")
+    public ResponseEntity<ApiResponse<ReviewLikeDto>> removeLike(
+            @PathVariable Long id,
+            @RequestParam Long userId) {
+        try {
+            ReviewLikeDto result = reviewService.unlikeReview(id, userId);
+            return ResponseEntity.ok(ApiResponse.success("리뷰 좋아요 취소 성공", result));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("리뷰 좋아요 취소 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 장소별 최신 리뷰 조회 (제한된 개수)
      */
@@ -217,6 +273,26 @@ public class ReviewController {
         }
     }
 
+    /**
+     * 최신 리뷰 조회 (커서 방식, 무한 스크롤용)
+     */
+    @GetMapping(value = "/latest", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ReviewDto>>> getLatestReviewsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            int pageSize = Math.max(1, Math.min(size, 100));
+            CursorPage<ReviewDto> result = reviewService.getLatestReviews(cursor, pageSize);
+            return ResponseEntity.ok(ApiResponse.success("최신 리뷰 조회 성공", result));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("최신 리뷰 조회 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 전체 인기 리뷰 조회 (페이징)
      */
@@ -0,0 +1,240 @@
+package com.example.placeservice.controller;
+
+import com.example.placeservice.service.ImageVariantGenerator;
+import com.example.placeservice.service.LocalPhotoStorage;
+import com.example.placeservice.service.PhotoStorage;
+import com.example.placeservice.service.PhotoStorageRegistry;
+import com.example.placeservice.service.UploadFileCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일 제공 컨트롤러
+ * /uploads/** 요청에 대해 ?w= 파라미터와 Accept 헤더로 너비/형식 변형을 선택한다.
+ * - ?w=320 : 요청 너비 이상인 가장 작은 변형 (없으면 원본)
+ * - Accept: image/webp : WebP 변형이 있으면 WebP로 제공
+ * 장기 캐시(immutable), ETag/304, Range 요청을 지원한다.
+ * 파일은 경로로 찾은 저장소(PhotoStorageRegistry)에서 읽으며, 변형/sendfile은 로컬 저장소 파일에만 적용한다.
+ */
+@RestController
+public class UploadFileController {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final MediaType IMAGE_WEBP = MediaType.parseMediaType("image/webp");
+
+    // Tomcat sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ImageVariantGenerator variantGenerator;
+
+    @Autowired
+    private UploadFileCache fileCache;
+
+    @Autowired
+    private PhotoStorageRegistry photoStorages;
+
+    @Autowired
+    private LocalPhotoStorage localPhotoStorage;
+
+    @Value("${app.upload.serving.cache-max-age:31536000}") // 브라우저 캐시 기간 (초, 기본 1년)
+    private long cacheMaxAgeSeconds;
+
+    @Value("${app.upload.serving.sendfile-min-size:49152}") // sendfile 사용 최소 파일 크기 (48KB)
+    private long sendfileMinSize;
+
+    /**
+     * 업로드 파일 조회
+     */
+    @GetMapping("/uploads/**")
+    public ResponseEntity<Resource> getFile(
+            HttpServletRequest request,
+            @RequestParam(value = "w", required = false) Integer width,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) throws IOException {
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String pathWithinMapping = (String) request.getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
+        String filePath = PATH_MATCHER.extractPathWithinPattern(pattern, pathWithinMapping);
+
+        // 숨김 경로(임시 저장 등)는 제공하지 않음
+        if (filePath.isEmpty() || filePath.startsWith(".") || filePath.contains("/.")) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 메모리 등 업로드 디렉토리 밖 저장소의 파일은 저장소에서 읽어 제공 (변형 없음)
+        PhotoStorage storage = photoStorages.forPath(filePath);
+        if (storage != photoStorages.local()) {
+            return getStoredFile(storage, filePath, ifNoneMatch, range);
+        }
+
+        Path requested;
+        try {
+            requested = localPhotoStorage.resolve(filePath);
+        } catch (IOException e) {
+            // 업로드 디렉토리 밖 경로
+            return ResponseEntity.notFound().build();
+        }
+
+        boolean acceptWebp = accept != null && accept.contains(IMAGE_WEBP.toString());
+        Path selected = selectVariant(requested, filePath, width, acceptWebp);
+        if (!Files.isRegularFile(selected)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 업로드 파일은 경로별 내용이 바뀌지 않으므로 장기 캐시 + 파일명/수정 시각 기반 ETag
+        BasicFileAttributes attributes = Files.readAttributes(selected, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + selected.getFileName() + "-" + Long.toHexString(lastModified) + "\"";
+
+        HttpHeaders headers = cacheHeaders(etag);
+        if (EtagMatcher.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        MediaType mediaType = mediaTypeOf(selected);
+        long size = attributes.size();
+
+        // 작은 파일(썸네일 등)은 메모리 캐시에서 제공
+        if (fileCache.isCacheable(size)) {
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .contentType(mediaType)
+                    .body(new ByteArrayResource(fileCache.get(selected, lastModified)));
+        }
+
+        // 큰 파일 전체 요청은 Tomcat sendfile로 커널에서 바로 전송 (범위 요청은 Spring이 처리)
+        if (range == null && size >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, selected.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .contentType(mediaType)
+                    .contentLength(size)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentType(mediaType)
+                .body(new FileSystemResource(selected));
+    }
+
+    /**
+     * 업로드 디렉토리 밖 저장소의 파일 제공
+     * 파일명이 내용 해시이므로 파일명을 ETag로 쓴다. 범위 요청은 내용을 읽어서 처리한다.
+     */
+    private ResponseEntity<Resource> getStoredFile(PhotoStorage storage, String filePath,
+                                                   String ifNoneMatch, String range) throws IOException {
+        long size = storage.size(filePath);
+        if (size < 0) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String fileName = filePath.substring(filePath.lastIndexOf(':') + 1);
+        String etag = "\"" + fileName + "\"";
+        HttpHeaders headers = cacheHeaders(etag);
+        if (EtagMatcher.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        if (range != null) {
+            try (InputStream inputStream = storage.open(filePath)) {
+                return ResponseEntity.ok()
+                        .headers(headers)
+                        .contentType(mediaType)
+                        .body(new ByteArrayResource(inputStream.readAllBytes()));
+            }
+        }
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentType(mediaType)
+                .contentLength(size)
+                .body(new InputStreamResource(storage.open(filePath)));
+    }
+
+    /**
+     * 장기 캐시(immutable) 응답 헤더
+     */
+    private HttpHeaders cacheHeaders(String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(CacheControl.maxAge(cacheMaxAgeSeconds, TimeUnit.SECONDS).cachePublic().immutable());
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        return headers;
+    }
+
+    /**
+     * 요청 너비/형식에 맞는 파일 선택 (변형이 없으면 요청 경로 그대로)
+     */
+    private Path selectVariant(Path requested, String filePath, Integer width, boolean acceptWebp) throws IOException {
+        if (!filePath.endsWith("." + ImageVariantGenerator.JPEG) || (width == null && !acceptWebp)) {
+            return requested;
+        }
+
+        if (width != null) {
+            for (int candidate : variantGenerator.getWidths()) {
+                if (candidate < width) {
+                    continue;
+                }
+                if (acceptWebp) {
+                    Path webp = localPhotoStorage.resolve(ImageVariantGenerator.variantPath(filePath, candidate, ImageVariantGenerator.WEBP));
+                    if (Files.isRegularFile(webp)) {
+                        return webp;
+                    }
+                }
+                Path jpeg = localPhotoStorage.resolve(ImageVariantGenerator.variantPath(filePath, candidate, ImageVariantGenerator.JPEG));
+                if (Files.isRegularFile(jpeg)) {
+                    return jpeg;
+                }
+            }
+        }
+
+        if (acceptWebp) {
+            Path webp = localPhotoStorage.resolve(ImageVariantGenerator.webpPath(filePath));
+            if (Files.isRegularFile(webp)) {
+                return webp;
+            }
+        }
+        return requested;
+    }
+
+    private static MediaType mediaTypeOf(Path file) {
+        String fileName = file.getFileName().toString();
+        if (fileName.endsWith("." + ImageVariantGenerator.WEBP)) {
+            return IMAGE_WEBP;
+        }
+        return MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+}
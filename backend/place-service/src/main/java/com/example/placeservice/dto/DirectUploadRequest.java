@@ -0,0 +1,79 @@
+package com.example.placeservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 직접 업로드 요청 DTO (업로드 URL 발급용)
+ */
+public class DirectUploadRequest {
+
+    @NotBlank(message = "파일명은 필수입니다")
+    private String fileName;
+
+    @NotBlank(message = "파일 형식은 필수입니다")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long fileSize;
+
+    @NotNull(message = "업로드 사용자는 필수입니다")
+    private Long uploadedBy;
+
+    private Long placeId;  // 장소 사진인 경우 (업로드 완료 시 기존 장소 사진을 교체)
+    private Long reviewId; // 리뷰 사진인 경우
+
+    // 기본 생성자
+    public DirectUploadRequest() {}
+
+    // Getters and Setters
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Long getUploadedBy() {
+        return uploadedBy;
+    }
+
+    public void setUploadedBy(Long uploadedBy) {
+        this.uploadedBy = uploadedBy;
+    }
+
+    public Long getPlaceId() {
+        return placeId;
+    }
+
+    public void setPlaceId(Long placeId) {
+        this.placeId = placeId;
+    }
+
+    public Long getReviewId() {
+        return reviewId;
+    }
+
+    public void setReviewId(Long reviewId) {
+        this.reviewId = reviewId;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.placeservice.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 직접 업로드 응답 DTO
+ * 클라이언트는 uploadUrl로 method와 headers를 그대로 사용해 파일을 올린 뒤 완료 API를 호출한다.
+ */
+public class DirectUploadResponse {
+
+    private Long photoId;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;
+    private LocalDateTime expiresAt;
+
+    // 기본 생성자
+    public DirectUploadResponse() {}
+
+    // 생성자
+    public DirectUploadResponse(Long photoId, String uploadUrl, String method, Map<String, String> headers, LocalDateTime expiresAt) {
+        this.photoId = photoId;
+        this.uploadUrl = uploadUrl;
+        this.method = method;
+        this.headers = headers;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public Long getPhotoId() {
+        return photoId;
+    }
+
+    public void setPhotoId(Long photoId) {
+        this.photoId = photoId;
+    }
+
+    public String getUploadUrl() {
+        return uploadUrl;
+    }
+
+    public void setUploadUrl(String uploadUrl) {
+        this.uploadUrl = uploadUrl;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
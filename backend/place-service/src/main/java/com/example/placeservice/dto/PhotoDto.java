@@ -1,8 +1,12 @@
 package com.example.placeservice.dto;
 
 import com.example.placeservice.entity.Photo;
+import com.example.placeservice.entity.PhotoStatus;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 사진 DTO
@@ -19,6 +23,11 @@ public class PhotoDto {
     private Boolean isMain;
     private Integer sortOrder;
     private Long uploadedBy;
+    private PhotoStatus status;
+    private Integer width;
+    private Integer height;
+    private List<Integer> variantWidths; // fileUrl?w={너비}로 요청 가능한 너비
+    private List<String> variantFormats;
     private Long placeId;
     private Long reviewId;
     private LocalDateTime createdAt;
@@ -47,6 +56,12 @@ public class PhotoDto {
         this.isMain = photo.getIsMain();
         this.sortOrder = photo.getSortOrder();
         this.uploadedBy = photo.getUploadedBy();
+        this.status = photo.getStatus();
+        this.width = photo.getWidth();
+        this.height = photo.getHeight();
+        this.variantWidths = splitWidths(photo.getVariantWidths());
+        this.variantFormats = photo.getVariantFormats() != null
+            ? Arrays.asList(photo.getVariantFormats().split(",")) : List.of();
         this.placeId = photo.getPlace() != null ? photo.getPlace().getId() : null;
         this.reviewId = photo.getReview() != null ? photo.getReview().getId() : null;
         this.createdAt = photo.getCreatedAt();
@@ -85,6 +100,16 @@ public class PhotoDto {
         return String.format("%.1f GB", size / (1024.0 * 1024.0 * 1024.0));
     }
 
+    // 변형 너비 문자열 파싱 (쉼표 구분)
+    private static List<Integer> splitWidths(String widths) {
+        if (widths == null || widths.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(widths.split(","))
+            .map(Integer::valueOf)
+            .collect(Collectors.toList());
+    }
+
     // 이미지 파일 여부 확인
     public boolean isImage() {
         return contentType != null && contentType.startsWith("image/");
@@ -171,6 +196,46 @@ public class PhotoDto {
         this.uploadedBy = uploadedBy;
     }
 
+    public PhotoStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PhotoStatus status) {
+        this.status = status;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+
+    public List<Integer> getVariantWidths() {
+        return variantWidths;
+    }
+
+    public void setVariantWidths(List<Integer> variantWidths) {
+        this.variantWidths = variantWidths;
+    }
+
+    public List<String> getVariantFormats() {
+        return variantFormats;
+    }
+
+    public void setVariantFormats(List<String> variantFormats) {
+        this.variantFormats = variantFormats;
+    }
+
     public Long getPlaceId() {
         return placeId;
     }
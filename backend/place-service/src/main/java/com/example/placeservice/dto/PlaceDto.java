@@ -104,6 +104,34 @@ public class PlaceDto {
         }
     }
 
+    // 복사 생성자 (캐시된 DTO를 변경하지 않고 일부 값만 바꿔 반환할 때 사용, 목록은 공유)
+    public PlaceDto(PlaceDto other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.description = other.description;
+        this.address = other.address;
+        this.detailedAddress = other.detailedAddress;
+        this.latitude = other.latitude;
+        this.longitude = other.longitude;
+        this.phoneNumber = other.phoneNumber;
+        this.website = other.website;
+        this.openingTime = other.openingTime;
+        this.closingTime = other.closingTime;
+        this.isOpen24h = other.isOpen24h;
+        this.closedDays = other.closedDays;
+        this.averageRating = other.averageRating;
+        this.reviewCount = other.reviewCount;
+        this.viewCount = other.viewCount;
+        this.isActive = other.isActive;
+        this.createdBy = other.createdBy;
+        this.categoryId = other.categoryId;
+        this.category = other.category;
+        this.reviews = other.reviews;
+        this.photos = other.photos;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
     // DTO -> Entity 변환
     public Place toEntity() {
         Place place = new Place();
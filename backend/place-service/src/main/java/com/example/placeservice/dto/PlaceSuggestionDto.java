@@ -0,0 +1,56 @@
+package com.example.placeservice.dto;
+
+/**
+ * 장소 자동완성 DTO
+ */
+public class PlaceSuggestionDto {
+
+    private Long id;
+    private String name;
+    private String address;
+    private Long categoryId;
+
+    // 기본 생성자
+    public PlaceSuggestionDto() {}
+
+    // 생성자
+    public PlaceSuggestionDto(Long id, String name, String address, Long categoryId) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+        this.categoryId = categoryId;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.placeservice.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 장소 목록용 요약 DTO
+ * JPQL 생성자 표현식으로 필요한 컬럼만 조회해 엔티티 로딩과 카테고리 지연 로딩을 피한다.
+ * 목록 화면에서 쓰지 않는 설명(TEXT), 연락처 등은 포함하지 않는다.
+ * 카테고리는 PlaceDto와 같은 category 객체로 응답해 기존 클라이언트 형식을 유지한다.
+ */
+public class PlaceSummary {
+
+    private Long id;
+    private String name;
+    private String address;
+    private String detailedAddress;
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+    private LocalTime openingTime;
+    private LocalTime closingTime;
+    private Boolean isOpen24h;
+    private BigDecimal averageRating;
+    private Integer reviewCount;
+    private Long viewCount;
+    private Long categoryId;
+    private CategoryDto category; // PlaceDto와 같은 중첩 형식 (id, name, iconUrl만 채움)
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public PlaceSummary() {}
+
+    // JPQL 생성자 표현식용 생성자 (PlaceRepository.SUMMARY_SELECT와 인자 순서 일치)
+    public PlaceSummary(Long id, String name, String address, String detailedAddress,
+                        BigDecimal latitude, BigDecimal longitude,
+                        LocalTime openingTime, LocalTime closingTime, Boolean isOpen24h,
+                        BigDecimal averageRating, Integer reviewCount, Long viewCount,
+                        Long categoryId, String categoryName, String categoryIconUrl,
+                        LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+        this.detailedAddress = detailedAddress;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.openingTime = openingTime;
+        this.closingTime = closingTime;
+        this.isOpen24h = isOpen24h;
+        this.averageRating = averageRating;
+        this.reviewCount = reviewCount;
+        this.viewCount = viewCount;
+        this.categoryId = categoryId;
+        this.category = new CategoryDto();
+        this.category.setId(categoryId);
+        this.category.setName(categoryName);
+        this.category.setIconUrl(categoryIconUrl);
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public String getDetailedAddress() {
+        return detailedAddress;
+    }
+
+    public void setDetailedAddress(String detailedAddress) {
+        this.detailedAddress = detailedAddress;
+    }
+
+    public BigDecimal getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(BigDecimal latitude) {
+        this.latitude = latitude;
+    }
+
+    public BigDecimal getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(BigDecimal longitude) {
+        this.longitude = longitude;
+    }
+
+    public LocalTime getOpeningTime() {
+        return openingTime;
+    }
+
+    public void setOpeningTime(LocalTime openingTime) {
+        this.openingTime = openingTime;
+    }
+
+    public LocalTime getClosingTime() {
+        return closingTime;
+    }
+
+    public void setClosingTime(LocalTime closingTime) {
+        this.closingTime = closingTime;
+    }
+
+    public Boolean getIsOpen24h() {
+        return isOpen24h;
+    }
+
+    public void setIsOpen24h(Boolean isOpen24h) {
+        this.isOpen24h = isOpen24h;
+    }
+
+    public BigDecimal getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(BigDecimal averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    public Integer getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(Integer reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+
+    public Long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(Long viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public CategoryDto getCategory() {
+        return category;
+    }
+
+    public void setCategory(CategoryDto category) {
+        this.category = category;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.placeservice.dto;
+
+/**
+ * 리뷰 좋아요 결과 DTO
+ */
+public class ReviewLikeDto {
+
+    private Long reviewId;
+    private Long userId;
+    private boolean liked;
+    private Long likeCount;
+
+    // 기본 생성자
+    public ReviewLikeDto() {}
+
+    // 생성자
+    public ReviewLikeDto(Long reviewId, Long userId, boolean liked, Long likeCount) {
+        this.reviewId = reviewId;
+        this.userId = userId;
+        this.liked = liked;
+        this.likeCount = likeCount;
+    }
+
+    // Getters and Setters
+    public Long getReviewId() {
+        return reviewId;
+    }
+
+    public void setReviewId(Long reviewId) {
+        this.reviewId = reviewId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public boolean isLiked() {
+        return liked;
+    }
+
+    public void setLiked(boolean liked) {
+        this.liked = liked;
+    }
+
+    public Long getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(Long likeCount) {
+        this.likeCount = likeCount;
+    }
+}
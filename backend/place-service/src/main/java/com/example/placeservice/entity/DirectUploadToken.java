@@ -0,0 +1,103 @@
+package com.example.placeservice.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로컬 직접 업로드 토큰 엔티티
+ * LocalDirectUploadStorage가 발급한 일회용 업로드 URL의 토큰과 업로드 정보를 보관한다.
+ */
+@Entity
+@Table(name = "direct_upload_tokens")
+@EntityListeners(AuditingEntityListener.class)
+public class DirectUploadToken {
+
+    @Id
+    @Column(name = "token", length = 36)
+    private String token;
+
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath; // 업로드 디렉토리 기준 저장 경로
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "max_size", nullable = false)
+    private Long maxSize; // 허용할 최대 파일 크기 (바이트)
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public DirectUploadToken() {}
+
+    // 생성자
+    public DirectUploadToken(String token, String filePath, String contentType, Long maxSize, LocalDateTime expiresAt) {
+        this.token = token;
+        this.filePath = filePath;
+        this.contentType = contentType;
+        this.maxSize = maxSize;
+        this.expiresAt = expiresAt;
+    }
+
+    // 비즈니스 메서드
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    // Getters and Setters
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(Long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
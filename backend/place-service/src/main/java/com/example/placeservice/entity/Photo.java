@@ -49,6 +49,25 @@ public class Photo {
     @Column(name = "uploaded_by")
     private Long uploadedBy;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20, columnDefinition = "varchar(20)")
+    private PhotoStatus status = PhotoStatus.READY;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 원본 파일 SHA-256 (hex)
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    @Column(name = "variant_widths", length = 100)
+    private String variantWidths; // 생성된 변형 너비 (쉼표 구분, 예: 160,320,640)
+
+    @Column(name = "variant_formats", length = 50)
+    private String variantFormats; // 생성된 변형 형식 (쉼표 구분, 예: jpg,webp)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "place_id")
     private Place place;
@@ -174,6 +193,54 @@ public class Photo {
         this.uploadedBy = uploadedBy;
     }
 
+    public PhotoStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PhotoStatus status) {
+        this.status = status;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+
+    public String getVariantWidths() {
+        return variantWidths;
+    }
+
+    public void setVariantWidths(String variantWidths) {
+        this.variantWidths = variantWidths;
+    }
+
+    public String getVariantFormats() {
+        return variantFormats;
+    }
+
+    public void setVariantFormats(String variantFormats) {
+        this.variantFormats = variantFormats;
+    }
+
     public Place getPlace() {
         return place;
     }
@@ -206,6 +273,7 @@ public class Photo {
                 ", storedName='" + storedName + '\'' +
                 ", fileSize=" + fileSize +
                 ", isMain=" + isMain +
+                ", status=" + status +
                 '}';
     }
 }
@@ -0,0 +1,11 @@
+package com.example.placeservice.entity;
+
+/**
+ * 사진 처리 상태
+ */
+public enum PhotoStatus {
+    UPLOADING,  // 직접 업로드 URL 발급됨, 클라이언트 업로드 완료 대기 중
+    PROCESSING, // 원본 저장 완료, 리사이즈/썸네일 생성 대기 중
+    READY,      // 처리 완료
+    FAILED      // 처리 실패 (원본 그대로 제공)
+}
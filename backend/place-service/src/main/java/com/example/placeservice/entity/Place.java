@@ -1,11 +1,13 @@
 package com.example.placeservice.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -66,6 +68,25 @@ public class Place {
     @Column(name = "review_count")
     private Integer reviewCount = 0;
 
+    @Column(name = "rating_sum", precision = 12, scale = 1)
+    private BigDecimal ratingSum = BigDecimal.ZERO;
+
+    // 별점 분포 (평점 정수부 기준)
+    @Column(name = "one_star_count")
+    private Integer oneStarCount = 0;
+
+    @Column(name = "two_star_count")
+    private Integer twoStarCount = 0;
+
+    @Column(name = "three_star_count")
+    private Integer threeStarCount = 0;
+
+    @Column(name = "four_star_count")
+    private Integer fourStarCount = 0;
+
+    @Column(name = "five_star_count")
+    private Integer fiveStarCount = 0;
+
     @Column(name = "view_count")
     private Long viewCount = 0L;
 
@@ -80,9 +101,11 @@ public class Place {
     private Category category;
 
     @OneToMany(mappedBy = "place", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 100) // 장소 목록(주변 장소 등)의 리뷰를 장소별 쿼리 대신 IN 쿼리로 묶어서 로드
     private List<Review> reviews = new ArrayList<>();
 
     @OneToMany(mappedBy = "place", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 100) // 장소 목록(주변 장소 등)의 사진을 장소별 쿼리 대신 IN 쿼리로 묶어서 로드
     private List<Photo> photos = new ArrayList<>();
 
     @CreatedDate
@@ -105,16 +128,32 @@ public class Place {
 
     // 비즈니스 메서드
     public void updateAverageRating() {
-        if (reviews.isEmpty()) {
-            this.averageRating = BigDecimal.ZERO;
-            this.reviewCount = 0;
-        } else {
-            double sum = reviews.stream()
-                    .mapToDouble(review -> review.getRating().doubleValue())
-                    .sum();
-            this.averageRating = BigDecimal.valueOf(sum / reviews.size());
-            this.reviewCount = reviews.size();
+        int[] starCounts = new int[6];
+        BigDecimal sum = BigDecimal.ZERO;
+        int count = 0;
+        for (Review review : reviews) {
+            if (!Boolean.TRUE.equals(review.getIsActive()) || review.getRating() == null) {
+                continue;
+            }
+            sum = sum.add(review.getRating());
+            starCounts[starOf(review.getRating())]++;
+            count++;
         }
+        this.ratingSum = sum;
+        this.reviewCount = count;
+        this.averageRating = count > 0
+                ? sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+        this.oneStarCount = starCounts[1];
+        this.twoStarCount = starCounts[2];
+        this.threeStarCount = starCounts[3];
+        this.fourStarCount = starCounts[4];
+        this.fiveStarCount = starCounts[5];
+    }
+
+    // 평점이 속하는 별점 구간 (1 ~ 5)
+    public static int starOf(BigDecimal rating) {
+        return Math.max(1, Math.min(5, rating.intValue()));
     }
 
     public void incrementViewCount() {
@@ -264,6 +303,54 @@ public class Place {
         this.reviewCount = reviewCount;
     }
 
+    public BigDecimal getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(BigDecimal ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public Integer getOneStarCount() {
+        return oneStarCount;
+    }
+
+    public void setOneStarCount(Integer oneStarCount) {
+        this.oneStarCount = oneStarCount;
+    }
+
+    public Integer getTwoStarCount() {
+        return twoStarCount;
+    }
+
+    public void setTwoStarCount(Integer twoStarCount) {
+        this.twoStarCount = twoStarCount;
+    }
+
+    public Integer getThreeStarCount() {
+        return threeStarCount;
+    }
+
+    public void setThreeStarCount(Integer threeStarCount) {
+        this.threeStarCount = threeStarCount;
+    }
+
+    public Integer getFourStarCount() {
+        return fourStarCount;
+    }
+
+    public void setFourStarCount(Integer fourStarCount) {
+        this.fourStarCount = fourStarCount;
+    }
+
+    public Integer getFiveStarCount() {
+        return fiveStarCount;
+    }
+
+    public void setFiveStarCount(Integer fiveStarCount) {
+        this.fiveStarCount = fiveStarCount;
+    }
+
     public Long getViewCount() {
         return viewCount;
     }
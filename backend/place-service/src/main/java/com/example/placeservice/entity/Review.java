@@ -1,6 +1,7 @@
 package com.example.placeservice.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -46,6 +47,7 @@ public class Review {
     private Place place;
 
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50) // 리뷰 목록의 사진을 리뷰별 쿼리 대신 IN 쿼리로 묶어서 로드
     private List<Photo> photos = new ArrayList<>();
 
     @CreatedDate
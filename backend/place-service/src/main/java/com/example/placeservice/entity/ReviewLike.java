@@ -0,0 +1,75 @@
+package com.example.placeservice.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 좋아요 엔티티
+ * (user_id, review_id) 유니크 인덱스로 사용자당 리뷰 하나에 한 번만 좋아요를 누를 수 있다.
+ * 좋아요 수는 reviews.like_count에 함께 반영한다.
+ */
+@Entity
+@Table(name = "review_likes",
+       uniqueConstraints = @UniqueConstraint(name = "uk_review_likes_user_review", columnNames = {"user_id", "review_id"}))
+@EntityListeners(AuditingEntityListener.class)
+public class ReviewLike {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public ReviewLike() {}
+
+    // 생성자
+    public ReviewLike(Long userId, Long reviewId) {
+        this.userId = userId;
+        this.reviewId = reviewId;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getReviewId() {
+        return reviewId;
+    }
+
+    public void setReviewId(Long reviewId) {
+        this.reviewId = reviewId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
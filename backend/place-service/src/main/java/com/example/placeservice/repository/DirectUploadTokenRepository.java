@@ -0,0 +1,28 @@
+package com.example.placeservice.repository;
+
+import com.example.placeservice.entity.DirectUploadToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로컬 직접 업로드 토큰 Repository
+ */
+@Repository
+public interface DirectUploadTokenRepository extends JpaRepository<DirectUploadToken, String> {
+
+    /**
+     * 만료된 토큰 일괄 삭제
+     *
+     * @return 삭제된 토큰 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DirectUploadToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
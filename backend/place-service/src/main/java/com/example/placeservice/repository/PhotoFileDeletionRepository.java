@@ -0,0 +1,21 @@
+package com.example.placeservice.repository;
+
+import com.example.placeservice.entity.PhotoFileDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사진 파일 삭제 대기 Repository
+ */
+@Repository
+public interface PhotoFileDeletionRepository extends JpaRepository<PhotoFileDeletion, Long> {
+
+    /**
+     * 삭제 시도 시각이 된 항목 조회 (오래된 순)
+     */
+    List<PhotoFileDeletion> findByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now, Pageable pageable);
+}
@@ -1,13 +1,17 @@
 package com.example.placeservice.repository;
 
 import com.example.placeservice.entity.Photo;
+import com.example.placeservice.entity.PhotoStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +21,58 @@ import java.util.Optional;
 @Repository
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
 
+    /**
+     * 처리 대기 중인 사진 조회 (재처리용, 오래된 순)
+     */
+    List<Photo> findTop100ByStatusOrderByIdAsc(PhotoStatus status);
+
+    /**
+     * 특정 시각 이전에 생성된 해당 상태 사진 조회 (완료되지 않은 직접 업로드 정리용)
+     */
+    List<Photo> findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(PhotoStatus status, LocalDateTime createdAt);
+
+    /**
+     * 같은 내용(해시)의 사진 중 가장 먼저 저장된 사진 조회 (중복 업로드 재사용)
+     */
+    Optional<Photo> findFirstByContentHashOrderByIdAsc(String contentHash);
+
+    /**
+     * 같은 내용(해시)의 특정 상태 사진 조회
+     */
+    Optional<Photo> findFirstByContentHashAndStatusOrderByIdAsc(String contentHash, PhotoStatus status);
+
+    /**
+     * 같은 내용(해시)의 먼저 저장된 사진이 해당 상태인지 확인
+     */
+    boolean existsByContentHashAndStatusAndIdLessThan(String contentHash, PhotoStatus status, Long id);
+
+    /**
+     * 같은 내용(해시)을 참조하는 사진 개수 (파일 참조 카운트)
+     */
+    long countByContentHash(String contentHash);
+
+    /**
+     * 이미지 처리 결과 반영 (처리 중인 사진만, 다른 필드는 건드리지 않음)
+     * 같은 내용(해시)을 참조하는 처리 중 사진에도 함께 반영한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.filePath = :filePath, p.fileSize = :fileSize, p.contentType = :contentType, " +
+           "p.mimeType = :contentType, p.width = :width, p.height = :height, " +
+           "p.variantWidths = :variantWidths, p.variantFormats = :variantFormats, p.status = :status " +
+           "WHERE (p.id = :id OR p.contentHash = :contentHash) AND p.status = :processing")
+    int completeProcessing(@Param("id") Long id,
+                           @Param("contentHash") String contentHash,
+                           @Param("filePath") String filePath,
+                           @Param("fileSize") Long fileSize,
+                           @Param("contentType") String contentType,
+                           @Param("width") Integer width,
+                           @Param("height") Integer height,
+                           @Param("variantWidths") String variantWidths,
+                           @Param("variantFormats") String variantFormats,
+                           @Param("status") PhotoStatus status,
+                           @Param("processing") PhotoStatus processing);
+
     /**
      * 장소별 사진 목록 조회 (정렬 순서대로)
      */
@@ -73,6 +129,17 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
      */
     Optional<Photo> findByFilePath(String filePath);
 
+    /**
+     * 파일 경로를 참조하는 사진 존재 여부
+     */
+    boolean existsByFilePath(String filePath);
+
+    /**
+     * 사진이 속한 장소 ID (장소 사진은 장소, 리뷰 사진은 리뷰의 장소)
+     */
+    @Query("SELECT COALESCE(pl.id, r.place.id) FROM Photo p LEFT JOIN p.place pl LEFT JOIN p.review r WHERE p.id = :photoId")
+    Optional<Long> findOwningPlaceId(@Param("photoId") Long photoId);
+
     /**
      * 저장된 파일명으로 사진 조회
      */
@@ -84,6 +151,11 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
     @Query("SELECT p FROM Photo p WHERE p.place.id = :placeId ORDER BY p.isMain DESC, p.sortOrder ASC, p.createdAt DESC")
     Page<Photo> findByPlaceIdOrderByIsMainDescSortOrderAscCreatedAtDesc(@Param("placeId") Long placeId, Pageable pageable);
 
+    /**
+     * 장소별 사진 목록 조회 (대표 사진 우선, 제한된 개수, 특정 상태 제외)
+     */
+    List<Photo> findByPlaceIdAndStatusNotOrderByIsMainDescSortOrderAscCreatedAtDesc(Long placeId, PhotoStatus status, Pageable pageable);
+
     /**
      * 리뷰별 사진 목록 조회 (페이징)
      */
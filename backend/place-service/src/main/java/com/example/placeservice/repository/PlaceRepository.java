@@ -1,15 +1,20 @@
 package com.example.placeservice.repository;
 
+import com.example.placeservice.dto.PlaceSummary;
 import com.example.placeservice.entity.Place;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,15 +25,48 @@ import java.util.Optional;
 public interface PlaceRepository extends JpaRepository<Place, Long> {
 
     /**
-     * 활성화된 장소 목록 조회 (페이징)
+     * 장소 요약 조회 SELECT 절 (카테고리 조인 포함, PlaceSummary 생성자와 인자 순서 일치)
      */
-    Page<Place> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
+    String SUMMARY_SELECT = "SELECT new com.example.placeservice.dto.PlaceSummary(" +
+           "p.id, p.name, p.address, p.detailedAddress, p.latitude, p.longitude, " +
+           "p.openingTime, p.closingTime, p.isOpen24h, p.averageRating, p.reviewCount, p.viewCount, " +
+           "c.id, c.name, c.iconUrl, p.createdAt) " +
+           "FROM Place p JOIN p.category c ";
 
     /**
-     * 카테고리별 활성화된 장소 목록 조회 (페이징)
+     * 활성화된 장소 목록 조회 (요약, 페이징)
      */
-    @Query("SELECT p FROM Place p WHERE p.category.id = :categoryId AND p.isActive = true ORDER BY p.createdAt DESC")
-    Page<Place> findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc(@Param("categoryId") Long categoryId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = true ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Place p WHERE p.isActive = true")
+    Page<PlaceSummary> findActiveSummaries(Pageable pageable);
+
+    /**
+     * 활성화된 장소 첫 페이지 (요약, 커서 방식, COUNT 없음)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.isActive = true ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PlaceSummary> findActiveSummariesByCursor(Pageable pageable);
+
+    /**
+     * 커서 이후의 활성화된 장소 (요약, createdAt, id 역순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.isActive = true " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PlaceSummary> findActiveSummariesBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                  Pageable pageable);
+
+    /**
+     * 카테고리별 활성화된 장소 목록 조회 (요약, 페이징)
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE c.id = :categoryId AND p.isActive = true ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Place p WHERE p.category.id = :categoryId AND p.isActive = true")
+    Page<PlaceSummary> findSummariesByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * ID 목록으로 장소 요약 조회 (검색 인덱스 결과 로드용, 순서는 호출자가 정렬)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids AND p.isActive = true")
+    List<PlaceSummary> findActiveSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * 장소 이름으로 검색 (페이징)
@@ -41,37 +79,47 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     Page<Place> findByAddressContainingIgnoreCaseAndIsActiveTrueOrderByCreatedAtDesc(String address, Pageable pageable);
 
     /**
-     * 장소 이름 또는 주소로 검색 (페이징)
+     * 장소 이름 또는 주소로 검색 (요약, 페이징)
      */
-    @Query("SELECT p FROM Place p WHERE p.isActive = true AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY p.createdAt DESC")
-    Page<Place> findByNameOrAddressContaining(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = true AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Place p WHERE p.isActive = true AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.address) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<PlaceSummary> findSummariesByNameOrAddressContaining(@Param("keyword") String keyword, Pageable pageable);
 
     /**
-     * 카테고리와 키워드로 검색 (페이징)
+     * 카테고리와 키워드로 검색 (요약, 페이징)
      */
-    @Query("SELECT p FROM Place p WHERE p.category.id = :categoryId AND p.isActive = true AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY p.createdAt DESC")
-    Page<Place> findByCategoryAndKeyword(@Param("categoryId") Long categoryId, @Param("keyword") String keyword, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE c.id = :categoryId AND p.isActive = true AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.address) LIKE LOWER(CONCAT('%', :keyword, '%'))) ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Place p WHERE p.category.id = :categoryId AND p.isActive = true AND (LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.address) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+    Page<PlaceSummary> findSummariesByCategoryAndKeyword(@Param("categoryId") Long categoryId, @Param("keyword") String keyword, Pageable pageable);
 
     /**
-     * 평점 범위로 검색 (페이징)
+     * 평점 범위로 검색 (요약, 페이징)
      */
-    Page<Place> findByAverageRatingBetweenAndIsActiveTrueOrderByAverageRatingDesc(BigDecimal minRating, BigDecimal maxRating, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.averageRating BETWEEN :minRating AND :maxRating AND p.isActive = true ORDER BY p.averageRating DESC",
+           countQuery = "SELECT COUNT(p) FROM Place p WHERE p.averageRating BETWEEN :minRating AND :maxRating AND p.isActive = true")
+    Page<PlaceSummary> findSummariesByRatingRange(@Param("minRating") BigDecimal minRating,
+                                                  @Param("maxRating") BigDecimal maxRating, Pageable pageable);
 
     /**
-     * 인기 장소 조회 (조회수 기준, 페이징)
+     * 인기 장소 조회 (요약, 조회수 기준, 페이징)
      */
-    Page<Place> findByIsActiveTrueOrderByViewCountDescCreatedAtDesc(Pageable pageable);
-
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = true ORDER BY p.viewCount DESC, p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Place p WHERE p.isActive = true")
+    Page<PlaceSummary> findPopularSummaries(Pageable pageable);
 
     /**
-     * 평점 높은 장소 조회 (페이징)
+     * 평점 높은 장소 조회 (요약, 페이징)
      */
-    Page<Place> findByIsActiveTrueAndReviewCountGreaterThanOrderByAverageRatingDescReviewCountDesc(Integer minReviewCount, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = true AND p.reviewCount > :minReviewCount " +
+           "ORDER BY p.averageRating DESC, p.reviewCount DESC",
+           countQuery = "SELECT COUNT(p) FROM Place p WHERE p.isActive = true AND p.reviewCount > :minReviewCount")
+    Page<PlaceSummary> findTopRatedSummaries(@Param("minReviewCount") Integer minReviewCount, Pageable pageable);
 
     /**
      * 위치 기반 검색 (반경 내 장소)
      */
-    @Query("SELECT p FROM Place p WHERE p.isActive = true AND " +
+    @Query("SELECT p FROM Place p JOIN FETCH p.category WHERE p.isActive = true " +
+           "AND (:categoryId IS NULL OR p.category.id = :categoryId) AND " +
            "6371 * acos(cos(radians(:latitude)) * cos(radians(p.latitude)) * " +
            "cos(radians(p.longitude) - radians(:longitude)) + " +
            "sin(radians(:latitude)) * sin(radians(p.latitude))) <= :radius " +
@@ -80,12 +128,30 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
            "sin(radians(:latitude)) * sin(radians(p.latitude))))")
     List<Place> findNearbyPlaces(@Param("latitude") BigDecimal latitude, 
                                  @Param("longitude") BigDecimal longitude, 
-                                 @Param("radius") Double radius);
+                                 @Param("radius") Double radius,
+                                 @Param("categoryId") Long categoryId,
+                                 Pageable pageable);
+
+    /**
+     * 위치 인덱스용 활성 장소 좌표 조회 (id, latitude, longitude, categoryId)
+     */
+    @Query("SELECT p.id, p.latitude, p.longitude, p.category.id FROM Place p " +
+           "WHERE p.isActive = true AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
+    List<Object[]> findActiveCoordinates();
+
+    /**
+     * 검색 인덱스용 활성 장소 조회 (id, name, address, categoryId, viewCount, averageRating, reviewCount)
+     */
+    @Query("SELECT p.id, p.name, p.address, p.category.id, p.viewCount, p.averageRating, p.reviewCount " +
+           "FROM Place p WHERE p.isActive = true")
+    List<Object[]> findSearchDocuments();
 
     /**
-     * 사용자가 생성한 장소 목록 조회
+     * 사용자가 생성한 장소 목록 조회 (요약)
      */
-    Page<Place> findByCreatedByOrderByCreatedAtDesc(Long createdBy, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.createdBy = :createdBy ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Place p WHERE p.createdBy = :createdBy")
+    Page<PlaceSummary> findSummariesByCreatedBy(@Param("createdBy") Long createdBy, Pageable pageable);
 
     /**
      * 장소 조회수 증가
@@ -94,6 +160,72 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     @Query("UPDATE Place p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
     void incrementViewCount(@Param("id") Long id);
 
+    /**
+     * 평점 집계 증분 반영 (리뷰 수, 평점 합계, 별점 분포, 평균을 한 번에 갱신)
+     * addedStar/removedStar: 추가/제거되는 별점 구간 (해당 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Place p SET " +
+           "p.averageRating = CASE WHEN COALESCE(p.reviewCount, 0) + :countDelta > 0 " +
+           "    THEN (COALESCE(p.ratingSum, 0) + :sumDelta) / (COALESCE(p.reviewCount, 0) + :countDelta) ELSE 0 END, " +
+           "p.ratingSum = COALESCE(p.ratingSum, 0) + :sumDelta, " +
+           "p.reviewCount = COALESCE(p.reviewCount, 0) + :countDelta, " +
+           "p.oneStarCount = COALESCE(p.oneStarCount, 0) " +
+           "    + CASE WHEN :addedStar = 1 THEN 1 ELSE 0 END - CASE WHEN :removedStar = 1 THEN 1 ELSE 0 END, " +
+           "p.twoStarCount = COALESCE(p.twoStarCount, 0) " +
+           "    + CASE WHEN :addedStar = 2 THEN 1 ELSE 0 END - CASE WHEN :removedStar = 2 THEN 1 ELSE 0 END, " +
+           "p.threeStarCount = COALESCE(p.threeStarCount, 0) " +
+           "    + CASE WHEN :addedStar = 3 THEN 1 ELSE 0 END - CASE WHEN :removedStar = 3 THEN 1 ELSE 0 END, " +
+           "p.fourStarCount = COALESCE(p.fourStarCount, 0) " +
+           "    + CASE WHEN :addedStar = 4 THEN 1 ELSE 0 END - CASE WHEN :removedStar = 4 THEN 1 ELSE 0 END, " +
+           "p.fiveStarCount = COALESCE(p.fiveStarCount, 0) " +
+           "    + CASE WHEN :addedStar = 5 THEN 1 ELSE 0 END - CASE WHEN :removedStar = 5 THEN 1 ELSE 0 END " +
+           "WHERE p.id = :placeId")
+    void applyRatingDelta(@Param("placeId") Long placeId,
+                          @Param("countDelta") Integer countDelta,
+                          @Param("sumDelta") BigDecimal sumDelta,
+                          @Param("addedStar") Integer addedStar,
+                          @Param("removedStar") Integer removedStar);
+
+    /**
+     * 저장된 평점 집계 조회 (ID 순, 정합성 검증용)
+     * 결과: placeId, 리뷰 수, 평점 합계, 1~5점 구간별 개수
+     */
+    @Query("SELECT p.id, p.reviewCount, p.ratingSum, " +
+           "p.oneStarCount, p.twoStarCount, p.threeStarCount, p.fourStarCount, p.fiveStarCount " +
+           "FROM Place p WHERE p.id > :lastId ORDER BY p.id")
+    List<Object[]> findRatingStatsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 평점 집계 덮어쓰기 (읽은 뒤 변경되지 않은 경우에만)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Place p SET p.reviewCount = :reviewCount, p.ratingSum = :ratingSum, p.averageRating = :averageRating, " +
+           "p.oneStarCount = :oneStarCount, p.twoStarCount = :twoStarCount, p.threeStarCount = :threeStarCount, " +
+           "p.fourStarCount = :fourStarCount, p.fiveStarCount = :fiveStarCount " +
+           "WHERE p.id = :placeId AND COALESCE(p.reviewCount, 0) = :expectedCount " +
+           "AND COALESCE(p.ratingSum, 0) = :expectedSum")
+    int overwriteRatingStats(@Param("placeId") Long placeId,
+                             @Param("reviewCount") Integer reviewCount,
+                             @Param("ratingSum") BigDecimal ratingSum,
+                             @Param("averageRating") BigDecimal averageRating,
+                             @Param("oneStarCount") Integer oneStarCount,
+                             @Param("twoStarCount") Integer twoStarCount,
+                             @Param("threeStarCount") Integer threeStarCount,
+                             @Param("fourStarCount") Integer fourStarCount,
+                             @Param("fiveStarCount") Integer fiveStarCount,
+                             @Param("expectedCount") Integer expectedCount,
+                             @Param("expectedSum") BigDecimal expectedSum);
+
+    /**
+     * 장소 조회수 일괄 증가 (같은 증가량끼리 묶어서 반영)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Place p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :ids")
+    int addViewCount(@Param("ids") Collection<Long> ids, @Param("delta") Long delta);
+
     /**
      * 카테고리별 장소 개수 조회
      */
@@ -116,18 +248,18 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     boolean existsByNameAndAddressAndIsActiveTrueAndIdNot(String name, String address, Long id);
 
     /**
-     * 추천 장소 조회 (평점과 리뷰 수 기준)
+     * 추천 장소 조회 (요약, 평점과 리뷰 수 기준)
      */
-    @Query("SELECT p FROM Place p WHERE p.isActive = true AND p.averageRating >= :minRating AND p.reviewCount >= :minReviewCount ORDER BY (p.averageRating * 0.7 + (p.reviewCount * 0.1)) DESC, p.viewCount DESC")
-    List<Place> findRecommendedPlaces(@Param("minRating") BigDecimal minRating, 
-                                     @Param("minReviewCount") Integer minReviewCount, 
-                                     Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE p.isActive = true AND p.averageRating >= :minRating AND p.reviewCount >= :minReviewCount ORDER BY (p.averageRating * 0.7 + (p.reviewCount * 0.1)) DESC, p.viewCount DESC")
+    List<PlaceSummary> findRecommendedSummaries(@Param("minRating") BigDecimal minRating,
+                                                @Param("minReviewCount") Integer minReviewCount,
+                                                Pageable pageable);
 
     /**
-     * 카테고리별 인기 장소 조회
+     * 카테고리별 인기 장소 조회 (요약)
      */
-    @Query("SELECT p FROM Place p WHERE p.category.id = :categoryId AND p.isActive = true ORDER BY p.viewCount DESC, p.averageRating DESC")
-    List<Place> findTop10ByCategoryIdAndIsActiveTrueOrderByViewCountDescAverageRatingDesc(@Param("categoryId") Long categoryId, Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE c.id = :categoryId AND p.isActive = true ORDER BY p.viewCount DESC, p.averageRating DESC")
+    List<PlaceSummary> findPopularSummariesByCategory(@Param("categoryId") Long categoryId, Pageable pageable);
 
     /**
      * 최근 등록된 장소 조회
@@ -135,8 +267,15 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     List<Place> findTop10ByIsActiveTrueOrderByCreatedAtDesc();
 
     /**
-     * 장소 상세 정보 조회 (리뷰와 사진 포함)
+     * 활성화된 장소 조회 (카테고리 포함, 상세 조회용)
+     * 리뷰와 사진은 개수를 제한한 별도 쿼리로 조회한다.
+     */
+    @Query("SELECT p FROM Place p JOIN FETCH p.category WHERE p.id = :id AND p.isActive = true")
+    Optional<Place> findActiveWithCategory(@Param("id") Long id);
+
+    /**
+     * 활성화된 장소 여러 건 조회 (카테고리 포함, 주변 장소 목록용)
      */
-    @Query("SELECT p FROM Place p LEFT JOIN FETCH p.reviews r LEFT JOIN FETCH p.photos ph WHERE p.id = :id AND p.isActive = true AND (r.isActive = true OR r.isActive IS NULL)")
-    Optional<Place> findByIdWithDetails(@Param("id") Long id);
+    @Query("SELECT p FROM Place p JOIN FETCH p.category WHERE p.id IN :ids AND p.isActive = true")
+    List<Place> findActiveWithCategoryByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,32 @@
+package com.example.placeservice.repository;
+
+import com.example.placeservice.entity.ReviewLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 리뷰 좋아요 Repository
+ */
+@Repository
+public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
+
+    /**
+     * 좋아요 추가 (이미 있으면 무시)
+     * 결과: 새로 추가되면 1, 이미 좋아요한 상태면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_likes (user_id, review_id, created_at) VALUES (:userId, :reviewId, NOW(6))",
+           nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
+
+    /**
+     * 좋아요 삭제
+     * 결과: 삭제되면 1, 좋아요하지 않은 상태였으면 0
+     */
+    @Modifying
+    @Query("DELETE FROM ReviewLike l WHERE l.userId = :userId AND l.reviewId = :reviewId")
+    int deleteByUserIdAndReviewId(@Param("userId") Long userId, @Param("reviewId") Long reviewId);
+}
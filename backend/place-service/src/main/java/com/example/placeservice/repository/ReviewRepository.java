@@ -3,6 +3,7 @@ package com.example.placeservice.repository;
 import com.example.placeservice.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,6 +11,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,6 +73,19 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     Page<Review> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
 
+    /**
+     * 최신 리뷰 첫 페이지 (커서 방식, COUNT 없음)
+     */
+    Slice<Review> findByIsActiveTrueOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    /**
+     * 커서 이후의 최신 리뷰 (createdAt, id 역순)
+     */
+    @Query("SELECT r FROM Review r WHERE r.isActive = true " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<Review> findActiveBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     /**
      * 인기 리뷰 조회 (좋아요 수 기준)
      */
@@ -115,33 +131,53 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Page<Review> findReviewsWithPhotosByPlaceId(@Param("placeId") Long placeId, Pageable pageable);
 
     /**
-     * 리뷰 좋아요 수 증가
+     * 활성 리뷰의 좋아요 수 증감 (변경 후 값을 LAST_INSERT_ID에 기록, findLastInsertId로 재조회 없이 확인)
+     * 결과: 대상 리뷰가 있으면 1, 없거나 비활성화된 리뷰면 0
      */
     @Modifying
-    @Query("UPDATE Review r SET r.likeCount = r.likeCount + 1 WHERE r.id = :id")
-    void incrementLikeCount(@Param("id") Long id);
+    @Query(value = "UPDATE reviews SET like_count = LAST_INSERT_ID(GREATEST(COALESCE(like_count, 0) + :delta, 0)) " +
+                   "WHERE id = :id AND is_active = true", nativeQuery = true)
+    int applyLikeDelta(@Param("id") Long id, @Param("delta") int delta);
 
     /**
-     * 리뷰 좋아요 수 감소
+     * 현재 커넥션의 LAST_INSERT_ID 값 (applyLikeDelta 직후 호출 시 변경된 좋아요 수)
      */
-    @Modifying
-    @Query("UPDATE Review r SET r.likeCount = r.likeCount - 1 WHERE r.id = :id AND r.likeCount > 0")
-    void decrementLikeCount(@Param("id") Long id);
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long findLastInsertId();
 
     /**
-     * 장소별 리뷰 통계 조회
+     * 리뷰가 속한 장소 ID (캐시 제거용, 리뷰 엔티티를 로드하지 않음)
+     */
+    @Query("SELECT r.place.id FROM Review r WHERE r.id = :id")
+    Optional<Long> findPlaceIdById(@Param("id") Long id);
+
+    /**
+     * 장소별 리뷰 통계 조회 (장소에 누적된 집계값 사용)
      */
     @Query("SELECT " +
-           "COUNT(r) as totalReviews, " +
-           "AVG(r.rating) as averageRating, " +
-           "SUM(CASE WHEN r.rating = 5 THEN 1 ELSE 0 END) as fiveStars, " +
-           "SUM(CASE WHEN r.rating = 4 THEN 1 ELSE 0 END) as fourStars, " +
-           "SUM(CASE WHEN r.rating = 3 THEN 1 ELSE 0 END) as threeStars, " +
-           "SUM(CASE WHEN r.rating = 2 THEN 1 ELSE 0 END) as twoStars, " +
-           "SUM(CASE WHEN r.rating = 1 THEN 1 ELSE 0 END) as oneStars " +
-           "FROM Review r WHERE r.place.id = :placeId AND r.isActive = true")
+           "p.reviewCount as totalReviews, " +
+           "p.averageRating as averageRating, " +
+           "p.fiveStarCount as fiveStars, " +
+           "p.fourStarCount as fourStars, " +
+           "p.threeStarCount as threeStars, " +
+           "p.twoStarCount as twoStars, " +
+           "p.oneStarCount as oneStars " +
+           "FROM Place p WHERE p.id = :placeId")
     Object[] findReviewStatsByPlaceId(@Param("placeId") Long placeId);
 
+    /**
+     * 장소별 평점 집계 재계산 (정합성 검증용)
+     * 결과: placeId, 리뷰 수, 평점 합계, 1~5점 구간별 개수
+     */
+    @Query("SELECT r.place.id, COUNT(r), SUM(r.rating), " +
+           "SUM(CASE WHEN r.rating < 2 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.rating >= 2 AND r.rating < 3 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.rating >= 3 AND r.rating < 4 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.rating >= 4 AND r.rating < 5 THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN r.rating >= 5 THEN 1 ELSE 0 END) " +
+           "FROM Review r WHERE r.place.id IN :placeIds AND r.isActive = true GROUP BY r.place.id")
+    List<Object[]> aggregateRatingsByPlaceIds(@Param("placeIds") Collection<Long> placeIds);
+
     /**
      * 리뷰 상세 정보 조회 (사진 포함)
      */
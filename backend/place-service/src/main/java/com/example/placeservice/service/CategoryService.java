@@ -1,9 +1,11 @@
 package com.example.placeservice.service;
 
+import com.example.placeservice.config.CacheConfig;
 import com.example.placeservice.dto.CategoryDto;
 import com.example.placeservice.entity.Category;
 import com.example.placeservice.repository.CategoryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,9 +23,13 @@ public class CategoryService {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private PlaceCacheEvictor placeCacheEvictor;
+
     /**
-     * 모든 활성화된 카테고리 조회
+     * 모든 활성화된 카테고리 조회 (캐시)
      */
+    @Cacheable(CacheConfig.CATEGORIES)
     @Transactional(readOnly = true)
     public List<CategoryDto> getAllActiveCategories() {
         return categoryRepository.findByIsActiveTrueOrderBySortOrderAscNameAsc()
@@ -68,6 +74,7 @@ public class CategoryService {
         }
 
         Category savedCategory = categoryRepository.save(category);
+        placeCacheEvictor.evictCategories();
         return new CategoryDto(savedCategory);
     }
 
@@ -97,6 +104,7 @@ public class CategoryService {
         }
 
         Category updatedCategory = categoryRepository.save(existingCategory);
+        placeCacheEvictor.evictCategories();
         return new CategoryDto(updatedCategory);
     }
 
@@ -116,6 +124,7 @@ public class CategoryService {
             // 장소가 없으면 완전 삭제
             categoryRepository.delete(category);
         }
+        placeCacheEvictor.evictCategories();
     }
 
     /**
@@ -127,6 +136,7 @@ public class CategoryService {
 
         category.setIsActive(!category.getIsActive());
         Category updatedCategory = categoryRepository.save(category);
+        placeCacheEvictor.evictCategories();
         return new CategoryDto(updatedCategory);
     }
 
@@ -142,13 +152,15 @@ public class CategoryService {
             category.setSortOrder(i + 1);
             categoryRepository.save(category);
         }
+        placeCacheEvictor.evictCategories();
 
         return getAllActiveCategories();
     }
 
     /**
-     * 카테고리별 장소 개수 포함 조회
+     * 카테고리별 장소 개수 포함 조회 (캐시)
      */
+    @Cacheable(CacheConfig.CATEGORIES_WITH_COUNT)
     @Transactional(readOnly = true)
     public List<CategoryDto> getCategoriesWithPlaceCount() {
         return categoryRepository.findActiveCategoriesWithPlaces()
@@ -210,6 +222,7 @@ public class CategoryService {
 
         category.setIconUrl(iconUrl);
         Category updatedCategory = categoryRepository.save(category);
+        placeCacheEvictor.evictCategories();
         return new CategoryDto(updatedCategory);
     }
 }
@@ -6,6 +6,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -61,13 +68,88 @@ public class CloudStorageService {
             .setContentType(file.getContentType())
             .build();
 
-        // 파일 업로드
-        Blob blob = getStorage().create(blobInfo, file.getBytes());
+        // 파일 업로드 (스트리밍, 전체 바이트를 힙에 올리지 않음)
+        try (InputStream inputStream = file.getInputStream()) {
+            getStorage().createFrom(blobInfo, inputStream);
+        }
 
         // Public URL 반환
         return getPublicUrl(fileName);
     }
 
+    /**
+     * 스트림을 지정한 이름으로 GCS에 업로드
+     * 같은 이름의 객체가 이미 있으면 업로드하지 않는다 (내용 기반 이름용).
+     *
+     * @param fileName 저장할 파일명 (폴더 포함)
+     * @param inputStream 업로드할 내용
+     * @param contentType 파일 형식
+     * @return 업로드된 파일의 Public URL
+     * @throws IOException
+     */
+    public String uploadFile(String fileName, InputStream inputStream, String contentType) throws IOException {
+        if (!storageEnabled) {
+            throw new IllegalStateException("Google Cloud Storage가 비활성화되어 있습니다.");
+        }
+
+        BlobId blobId = BlobId.of(bucketName, fileName);
+        if (getStorage().get(blobId) == null) {
+            BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
+                .setContentType(contentType)
+                .build();
+            getStorage().createFrom(blobInfo, inputStream);
+        }
+
+        return getPublicUrl(fileName);
+    }
+
+    /**
+     * GCS 파일 읽기 스트림 열기
+     *
+     * @param fileUrl 파일의 Public URL
+     */
+    public InputStream openFile(String fileUrl) throws IOException {
+        if (!storageEnabled) {
+            throw new IllegalStateException("Google Cloud Storage가 비활성화되어 있습니다.");
+        }
+
+        String fileName = extractFileNameFromUrl(fileUrl);
+        if (fileName == null) {
+            throw new IOException("GCS 파일 URL이 아닙니다: " + fileUrl);
+        }
+        return Channels.newInputStream(getStorage().reader(BlobId.of(bucketName, fileName)));
+    }
+
+    /**
+     * GCS 객체 이름 변경
+     * 대상 객체가 이미 있으면 복사하지 않고 원본만 삭제한다 (내용 기반 이름용).
+     *
+     * @param sourceName 원본 파일명 (폴더 포함)
+     * @param targetName 새 파일명 (폴더 포함)
+     * @return 대상 파일의 Public URL
+     */
+    public String moveFile(String sourceName, String targetName) {
+        if (!storageEnabled) {
+            throw new IllegalStateException("Google Cloud Storage가 비활성화되어 있습니다.");
+        }
+
+        BlobId source = BlobId.of(bucketName, sourceName);
+        BlobId target = BlobId.of(bucketName, targetName);
+        if (getStorage().get(target) == null) {
+            getStorage().copy(Storage.CopyRequest.of(source, target)).getResult();
+        }
+        getStorage().delete(source);
+
+        return getPublicUrl(targetName);
+    }
+
+    /**
+     * GCS에 저장된 파일 URL인지 확인
+     */
+    public boolean isFileUrl(String fileUrl) {
+        return fileUrl != null && fileUrl.startsWith(getPublicUrl(""));
+    }
+
     /**
      * GCS에서 파일 삭제
      * 
@@ -95,6 +177,37 @@ public class CloudStorageService {
         }
     }
 
+    /**
+     * GCS에서 여러 파일을 한 번의 배치 요청으로 삭제
+     *
+     * @param fileUrls 삭제할 파일의 Public URL 목록
+     * @return 파일별 삭제 여부 (이미 없거나 URL이 잘못되었으면 false), 요청 자체가 실패하면 예외
+     */
+    public List<Boolean> deleteFiles(List<String> fileUrls) {
+        if (!storageEnabled) {
+            throw new IllegalStateException("Google Cloud Storage가 비활성화되어 있습니다.");
+        }
+
+        List<BlobId> blobIds = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < fileUrls.size(); i++) {
+            String fileName = extractFileNameFromUrl(fileUrls.get(i));
+            if (fileName != null) {
+                blobIds.add(BlobId.of(bucketName, fileName));
+                positions.add(i);
+            }
+        }
+
+        List<Boolean> results = new ArrayList<>(Collections.nCopies(fileUrls.size(), false));
+        if (!blobIds.isEmpty()) {
+            List<Boolean> deleted = getStorage().delete(blobIds);
+            for (int i = 0; i < deleted.size(); i++) {
+                results.set(positions.get(i), deleted.get(i));
+            }
+        }
+        return results;
+    }
+
     /**
      * 파일의 Signed URL 생성 (임시 접근 URL)
      * 
@@ -119,22 +232,88 @@ public class CloudStorageService {
         ).toString();
     }
 
+    /**
+     * 재개 가능(resumable) 업로드 시작용 Signed URL 생성
+     * 클라이언트가 이 URL로 POST(x-goog-resumable: start)하면 업로드 세션 URL을 받아 GCS로 직접 업로드한다.
+     *
+     * @param fileName 저장할 파일명 (폴더 포함)
+     * @param contentType 업로드할 파일 형식 (서명에 포함되어 다른 형식은 거부됨)
+     * @param maxSize 허용할 최대 파일 크기 (바이트)
+     * @param duration URL 유효 시간
+     * @param unit 시간 단위
+     * @return Signed URL
+     */
+    public String generateResumableUploadUrl(String fileName, String contentType, long maxSize, long duration, TimeUnit unit) {
+        if (!storageEnabled) {
+            throw new IllegalStateException("Google Cloud Storage가 비활성화되어 있습니다.");
+        }
+
+        BlobInfo blobInfo = BlobInfo.newBuilder(BlobId.of(bucketName, fileName))
+            .setContentType(contentType)
+            .build();
+
+        return getStorage().signUrl(
+            blobInfo,
+            duration,
+            unit,
+            Storage.SignUrlOption.httpMethod(HttpMethod.POST),
+            Storage.SignUrlOption.withContentType(),
+            Storage.SignUrlOption.withExtHeaders(uploadHeaders(maxSize)),
+            Storage.SignUrlOption.withV4Signature()
+        ).toString();
+    }
+
+    /**
+     * 재개 가능 업로드 시작 요청에 포함해야 하는 헤더 (서명에 포함됨)
+     */
+    public Map<String, String> uploadHeaders(long maxSize) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("x-goog-resumable", "start");
+        headers.put("x-goog-content-length-range", "0," + maxSize);
+        return headers;
+    }
+
+    /**
+     * 업로드된 객체 크기 조회
+     *
+     * @param fileUrl 파일의 Public URL
+     * @return 파일 크기 (바이트), 객체가 없으면 -1
+     */
+    public long getFileSize(String fileUrl) {
+        if (!storageEnabled) {
+            throw new IllegalStateException("Google Cloud Storage가 비활성화되어 있습니다.");
+        }
+
+        String fileName = extractFileNameFromUrl(fileUrl);
+        if (fileName == null) {
+            return -1;
+        }
+        Blob blob = getStorage().get(BlobId.of(bucketName, fileName));
+        return blob != null ? blob.getSize() : -1;
+    }
+
     /**
      * 파일명 생성 (UUID + 원본 확장자)
      */
     private String generateFileName(String originalFilename, String folder) {
-        String extension = "";
+        String uuid = UUID.randomUUID().toString();
+        return folder + "/" + uuid + extensionOf(originalFilename);
+    }
+
+    /**
+     * 원본 파일명의 확장자 (점 포함, 없으면 빈 문자열)
+     */
+    private String extensionOf(String originalFilename) {
         if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+            return originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
         }
-        String uuid = UUID.randomUUID().toString();
-        return folder + "/" + uuid + extension;
+        return "";
     }
 
     /**
      * Public URL 생성
      */
-    private String getPublicUrl(String fileName) {
+    public String getPublicUrl(String fileName) {
         return String.format("https://storage.googleapis.com/%s/%s", bucketName, fileName);
     }
 
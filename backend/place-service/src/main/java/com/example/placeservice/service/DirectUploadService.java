@@ -0,0 +1,180 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.dto.DirectUploadRequest;
+import com.example.placeservice.dto.DirectUploadResponse;
+import com.example.placeservice.dto.PhotoDto;
+import com.example.placeservice.entity.Photo;
+import com.example.placeservice.entity.PhotoStatus;
+import com.example.placeservice.entity.Place;
+import com.example.placeservice.entity.Review;
+import com.example.placeservice.repository.PhotoRepository;
+import com.example.placeservice.repository.PlaceRepository;
+import com.example.placeservice.repository.ReviewRepository;
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 직접 업로드 서비스 (2단계)
+ * 1단계: 업로드 URL과 UPLOADING 상태의 Photo를 발급한다. 파일 내용은 place-service를 거치지 않는다.
+ * 2단계: 클라이언트가 업로드 완료를 알리면 저장된 파일을 확인하고 후처리를 시작한다.
+ * 완료되지 않은 업로드는 주기적으로 정리한다.
+ */
+@Service
+public class DirectUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(DirectUploadService.class);
+
+    @Autowired
+    private DirectUploadStorage directUploadStorage;
+
+    @Autowired
+    private FileUploadService fileUploadService;
+
+    @Autowired
+    private PhotoProcessor photoProcessor;
+
+    @Autowired
+    private PhotoFileDeleter photoFileDeleter;
+
+    @Autowired
+    private PlaceCacheEvictor placeCacheEvictor;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Value("${app.upload.direct.url-validity-minutes:15}") // 업로드 URL 유효 시간 (분)
+    private long urlValidityMinutes;
+
+    @Value("${app.upload.direct.expire-after-minutes:60}") // 완료되지 않은 업로드 정리 기준 (분)
+    private long expireAfterMinutes;
+
+    /**
+     * 1단계: 업로드 URL 발급
+     */
+    public DirectUploadResponse createUpload(DirectUploadRequest request) {
+        fileUploadService.validateUpload(request.getFileName(), request.getContentType(), request.getFileSize());
+
+        Place place = null;
+        if (request.getPlaceId() != null) {
+            place = placeRepository.findById(request.getPlaceId()).orElseThrow(() ->
+                new RuntimeException("장소를 찾을 수 없습니다: " + request.getPlaceId()));
+        }
+        Review review = null;
+        if (request.getReviewId() != null) {
+            review = reviewRepository.findById(request.getReviewId()).orElseThrow(() ->
+                new RuntimeException("리뷰를 찾을 수 없습니다: " + request.getReviewId()));
+        }
+
+        String storedName = UUID.randomUUID() + "." + FilenameUtils.getExtension(request.getFileName()).toLowerCase();
+        Duration validity = Duration.ofMinutes(urlValidityMinutes);
+        DirectUploadStorage.UploadTarget target = directUploadStorage.createUploadTarget(
+            storedName, request.getContentType(), fileUploadService.getMaxFileSize(), validity);
+
+        Photo photo = new Photo(
+            request.getFileName(),
+            storedName,
+            target.getFilePath(),
+            request.getFileSize(),
+            request.getContentType(),
+            request.getUploadedBy()
+        );
+        photo.setStatus(PhotoStatus.UPLOADING);
+        if (place != null) {
+            photo.setPlace(place);
+        }
+        if (review != null) {
+            photo.setReview(review);
+            photo.setSortOrder(photoRepository.findNextSortOrderByReviewId(review.getId()));
+        }
+        Photo savedPhoto = photoRepository.save(photo);
+
+        return new DirectUploadResponse(savedPhoto.getId(), target.getUrl(), target.getMethod(),
+            target.getHeaders(), LocalDateTime.now().plus(validity));
+    }
+
+    /**
+     * 2단계: 업로드 완료 확인 및 후처리 시작
+     * 이미 완료된 사진은 현재 상태를 그대로 반환한다 (재시도 안전).
+     *
+     * @return 완료된 사진, 사진이 없으면 null
+     */
+    public PhotoDto completeUpload(Long photoId) {
+        Photo photo = photoRepository.findById(photoId).orElse(null);
+        if (photo == null) {
+            return null;
+        }
+        if (photo.getStatus() != PhotoStatus.UPLOADING) {
+            return fileUploadService.toDto(photo);
+        }
+
+        long size = directUploadStorage.getUploadedSize(photo.getFilePath());
+        if (size < 0) {
+            throw new IllegalArgumentException("업로드된 파일이 없습니다. 파일 업로드 후 다시 요청해주세요.");
+        }
+        if (size > fileUploadService.getMaxFileSize()) {
+            // 저장소 측 제한을 벗어난 파일은 받지 않음
+            discard(photo);
+            throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 " + (fileUploadService.getMaxFileSize() / 1024 / 1024) + "MB까지 업로드 가능합니다.");
+        }
+
+        photo.setFileSize(size);
+        if (fileUploadService.isCompressionEnabled() && directUploadStorage.supportsProcessing()
+                && FileUploadService.isImageType(photo.getContentType())) {
+            photo.setStatus(PhotoStatus.PROCESSING);
+        } else {
+            photo.setStatus(PhotoStatus.READY);
+        }
+        Photo savedPhoto = photoRepository.save(photo);
+
+        if (savedPhoto.getPlace() != null) {
+            fileUploadService.replacePlacePhotos(savedPhoto);
+        } else if (savedPhoto.getReview() != null) {
+            // 장소 상세에 포함되는 리뷰 사진이 보이도록 캐시 제거
+            placeCacheEvictor.evictPlaceDetails(savedPhoto.getReview().getPlace().getId());
+        }
+        if (savedPhoto.getStatus() == PhotoStatus.PROCESSING) {
+            photoProcessor.submit(savedPhoto.getId());
+        }
+        return fileUploadService.toDto(savedPhoto);
+    }
+
+    /**
+     * 완료되지 않은 직접 업로드 정리 (사진 삭제 후 업로드되었을 수 있는 파일 삭제 예약)
+     */
+    @Scheduled(fixedDelayString = "${app.upload.direct.cleanup-interval-ms:300000}")
+    public void expireAbandoned() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(expireAfterMinutes);
+        List<Photo> abandoned = photoRepository.findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(PhotoStatus.UPLOADING, cutoff);
+        for (Photo photo : abandoned) {
+            try {
+                discard(photo);
+            } catch (Exception e) {
+                log.warn("완료되지 않은 업로드 정리 실패: photoId={}, {}", photo.getId(), e.getMessage());
+            }
+        }
+        if (!abandoned.isEmpty()) {
+            log.info("완료되지 않은 직접 업로드 {}건 정리", abandoned.size());
+        }
+    }
+
+    private void discard(Photo photo) {
+        photoRepository.delete(photo);
+        photoFileDeleter.enqueue(photo);
+    }
+}
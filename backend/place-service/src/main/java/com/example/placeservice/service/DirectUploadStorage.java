@@ -0,0 +1,71 @@
+package com.example.placeservice.service;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 직접 업로드 저장소
+ * 클라이언트가 place-service를 거치지 않고 파일을 올릴 업로드 URL을 발급하고,
+ * 업로드 완료 후 저장된 파일을 확인한다.
+ * GCS 활성화 시 GcsDirectUploadStorage, 그 외(로컬 개발/테스트)에는 LocalDirectUploadStorage를 사용한다.
+ */
+public interface DirectUploadStorage {
+
+    /**
+     * 업로드 URL 발급
+     *
+     * @param storedName 저장할 파일명 (UUID + 확장자)
+     * @param contentType 업로드할 파일 형식
+     * @param maxSize 허용할 최대 파일 크기 (바이트)
+     * @param validity URL 유효 시간
+     * @return 업로드 대상 (Photo.filePath에 저장할 경로 포함)
+     */
+    UploadTarget createUploadTarget(String storedName, String contentType, long maxSize, Duration validity);
+
+    /**
+     * 업로드된 파일 크기 조회
+     *
+     * @param filePath UploadTarget의 filePath
+     * @return 파일 크기 (바이트), 아직 업로드되지 않았으면 -1
+     */
+    long getUploadedSize(String filePath);
+
+    /**
+     * 업로드된 파일을 PhotoProcessor로 후처리할 수 있는지 (업로드 디렉토리에 저장되는지)
+     */
+    boolean supportsProcessing();
+
+    /**
+     * 업로드 대상 정보
+     */
+    class UploadTarget {
+
+        private final String filePath; // 업로드 완료 후 Photo.filePath
+        private final String url;      // 클라이언트가 요청할 URL
+        private final String method;   // 클라이언트가 사용할 HTTP 메서드
+        private final Map<String, String> headers; // 요청에 반드시 포함할 헤더
+
+        public UploadTarget(String filePath, String url, String method, Map<String, String> headers) {
+            this.filePath = filePath;
+            this.url = url;
+            this.method = method;
+            this.headers = headers;
+        }
+
+        public String getFilePath() {
+            return filePath;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+    }
+}
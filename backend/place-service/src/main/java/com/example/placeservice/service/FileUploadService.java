@@ -2,31 +2,38 @@ package com.example.placeservice.service;
 
 import com.example.placeservice.dto.PhotoDto;
 import com.example.placeservice.entity.Photo;
+import com.example.placeservice.entity.PhotoStatus;
 import com.example.placeservice.entity.Place;
 import com.example.placeservice.entity.Review;
 import com.example.placeservice.repository.PhotoRepository;
 import com.example.placeservice.repository.PlaceRepository;
 import com.example.placeservice.repository.ReviewRepository;
-import net.coobird.thumbnailator.Thumbnails;
 import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.File;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * 파일 업로드 서비스
@@ -34,6 +41,8 @@ import java.util.UUID;
 @Service
 public class FileUploadService {
 
+    private static final Logger log = LoggerFactory.getLogger(FileUploadService.class);
+
     @Autowired
     private PhotoRepository photoRepository;
     
@@ -44,7 +53,16 @@ public class FileUploadService {
     private ReviewRepository reviewRepository;
 
     @Autowired
-    private CloudStorageService cloudStorageService;
+    private PhotoStorageRegistry photoStorages;
+
+    @Autowired
+    private PhotoProcessor photoProcessor;
+
+    @Autowired
+    private PhotoFileDeleter photoFileDeleter;
+
+    @Autowired
+    private PlaceCacheEvictor placeCacheEvictor;
 
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
@@ -58,352 +76,336 @@ public class FileUploadService {
     @Value("${app.upload.max-photos-per-place:10}") // 장소당 최대 사진 개수
     private int maxPhotosPerPlace;
 
-    @Value("${app.upload.image.max-width:1920}") // 이미지 최대 너비
-    private int maxImageWidth;
-
-    @Value("${app.upload.image.max-height:1080}") // 이미지 최대 높이
-    private int maxImageHeight;
+    @Value("${app.upload.enable-compression:true}") // 압축 활성화 여부
+    private boolean enableCompression;
 
-    @Value("${app.upload.image.quality:0.8}") // 이미지 품질 (0.0 ~ 1.0)
-    private double imageQuality;
+    @Value("${app.upload.parallel.threads:4}") // 다중 파일 저장 작업 스레드 수
+    private int uploadThreads;
 
-    @Value("${app.upload.thumbnail.size:300}") // 썸네일 크기
-    private int thumbnailSize;
+    @Value("${app.upload.parallel.queue-capacity:50}") // 다중 파일 저장 대기열 크기 (초과 시 요청 스레드에서 저장)
+    private int uploadQueueCapacity;
 
-    @Value("${app.upload.enable-compression:true}") // 압축 활성화 여부
-    private boolean enableCompression;
+    private ThreadPoolExecutor uploadExecutor;
 
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif", "webp");
 
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(uploadQueueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "photo-upload-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
     /**
      * 단일 파일 업로드
+     * 이미지는 원본만 저장하고 PROCESSING 상태로 반환하며, 압축/썸네일은 PhotoProcessor가 처리한다.
      */
     public PhotoDto uploadFile(MultipartFile file, Long uploadedBy) throws IOException {
+        return uploadFile(file, uploadedBy, null);
+    }
+
+    /**
+     * 단일 파일 업로드 (저장 전에 장소/리뷰 등 연관 정보 설정)
+     * 같은 내용(SHA-256)의 파일이 이미 있으면 저장/처리 없이 기존 파일을 참조한다.
+     */
+    private PhotoDto uploadFile(MultipartFile file, Long uploadedBy, Consumer<Photo> beforeSave) throws IOException {
         validateFile(file);
         
-        // Cloud Storage 사용 (활성화된 경우)
-        if (cloudStorageService.isEnabled()) {
+        Photo photo = store(file, uploadedBy);
+        if (beforeSave != null) {
+            beforeSave.accept(photo);
+        }
+        
+        // 처리기가 읽기 전에 DB에 먼저 저장
+        Photo savedPhoto = photoRepository.save(photo);
+        submitIfProcessing(savedPhoto);
+        return toDto(savedPhoto);
+    }
+
+    /**
+     * 여러 파일 업로드
+     * 파일 저장은 작업 풀에서 병렬로 수행하고, Photo는 한 번에 DB에 저장한다.
+     * 저장에 실패한 파일은 건너뛰며, 모두 실패한 경우에만 예외를 던진다.
+     */
+    private List<PhotoDto> uploadAll(MultipartFile[] files, Long uploadedBy, Consumer<List<Photo>> beforeSave) throws IOException {
+        List<MultipartFile> targets = Arrays.stream(files)
+            .filter(file -> !file.isEmpty())
+            .collect(Collectors.toList());
+        
+        // 유효성 검사는 먼저 모두 수행 (하나라도 잘못되면 아무것도 저장하지 않음)
+        targets.forEach(this::validateFile);
+        
+        List<Future<Photo>> futures = new ArrayList<>();
+        for (MultipartFile file : targets) {
+            futures.add(uploadExecutor.submit(() -> store(file, uploadedBy)));
+        }
+        
+        List<Photo> photos = new ArrayList<>();
+        Throwable lastError = null;
+        for (int i = 0; i < futures.size(); i++) {
             try {
-                String fileUrl = cloudStorageService.uploadFile(file, "places");
-                PhotoDto photoDto = new PhotoDto();
-                photoDto.setOriginalName(file.getOriginalFilename());
-                photoDto.setStoredName(extractFileNameFromUrl(fileUrl));
-                photoDto.setFilePath(fileUrl); // GCS URL을 filePath에 저장
-                photoDto.setFileUrl(fileUrl);
-                photoDto.setFileSize(file.getSize());
-                photoDto.setContentType(file.getContentType());
-                photoDto.setUploadedBy(uploadedBy);
-                return photoDto;
-            } catch (Exception e) {
-                System.err.println("Cloud Storage 업로드 실패, 로컬 저장으로 fallback: " + e.getMessage());
-                // Cloud Storage 실패 시 로컬 저장으로 계속
+                photos.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                lastError = e.getCause();
+                log.warn("파일 업로드 실패: {}", targets.get(i).getOriginalFilename(), lastError);
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IOException("파일 업로드가 중단되었습니다.", e);
             }
         }
+        if (photos.isEmpty() && lastError != null) {
+            throw new IOException("파일 업로드 실패: " + lastError.getMessage(), lastError);
+        }
         
-        // 로컬 저장 (기본 또는 Cloud Storage 실패 시)
-        String storedName = generateStoredName(file.getOriginalFilename());
-        String filePath = createFilePath(storedName);
-        
-        // 디렉토리 생성
-        createDirectories(filePath);
+        if (beforeSave != null) {
+            beforeSave.accept(photos);
+        }
         
-        Path targetPath = Paths.get(uploadDir, filePath);
-        long finalFileSize;
-        String finalContentType = file.getContentType();
+        // 처리기가 읽기 전에 DB에 먼저 저장
+        List<Photo> savedPhotos = photoRepository.saveAll(photos);
+        savedPhotos.forEach(this::submitIfProcessing);
+        return savedPhotos.stream()
+            .map(this::toDto)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 원본 파일 저장 (기본 저장소 우선 사용, 실패 시 로컬 저장)
+     * 업로드 임시 파일(로컬)로 내용 해시를 먼저 계산해, 같은 내용의 사진이 이미 있으면
+     * 저장소에 쓰지 않고 그 파일(처리 결과 포함)을 참조한다.
+     */
+    private Photo store(MultipartFile file, Long uploadedBy) throws IOException {
+        String contentHash = contentHashOf(file);
+        Photo existing = photoRepository.findFirstByContentHashOrderByIdAsc(contentHash).orElse(null);
+        if (existing != null) {
+            return copyOf(existing, file, uploadedBy);
+        }
         
-        try {
-            if (enableCompression && isImageFile(file)) {
-                // 이미지 압축 및 리사이징
-                BufferedImage originalImage = ImageIO.read(file.getInputStream());
-                
-                if (originalImage != null) {
-                    // 압축된 이미지 저장
-                    Thumbnails.of(originalImage)
-                        .size(maxImageWidth, maxImageHeight)
-                        .outputQuality(imageQuality)
-                        .outputFormat("jpg")
-                        .toFile(targetPath.toFile());
-                    
-                    // 실제 저장된 파일 크기
-                    finalFileSize = Files.size(targetPath);
-                    finalContentType = "image/jpeg";
-                    
-                    // 썸네일 생성
-                    try {
-                        createThumbnail(originalImage, filePath);
-                    } catch (Exception e) {
-                        // 썸네일 생성 실패해도 계속 진행
-                        System.err.println("썸네일 생성 실패: " + e.getMessage());
-                    }
-                } else {
-                    // 이미지 읽기 실패 시 원본 저장
-                    byte[] fileBytes = file.getBytes();
-                    Files.write(targetPath, fileBytes);
-                    finalFileSize = file.getSize();
-                }
-            } else {
-                // 압축 비활성화 또는 이미지가 아닌 경우 원본 저장
-                byte[] fileBytes = file.getBytes();
-                Files.write(targetPath, fileBytes);
-                finalFileSize = file.getSize();
+        PhotoStorage primary = photoStorages.primary();
+        if (primary != photoStorages.local()) {
+            try {
+                return storeIn(primary, file, uploadedBy, contentHash);
+            } catch (IOException | RuntimeException e) {
+                log.warn("{} 저장소 업로드 실패, 로컬 저장으로 fallback", primary.getName(), e);
+                // 기본 저장소 실패 시 로컬 저장으로 계속
             }
-        } catch (Exception e) {
-            // 압축 실패 시 원본 저장
-            System.err.println("이미지 압축 실패, 원본 저장: " + e.getMessage());
-            byte[] fileBytes = file.getBytes();
-            Files.write(targetPath, fileBytes);
-            finalFileSize = file.getSize();
-            finalContentType = file.getContentType();
         }
         
-        // Photo 엔티티 생성 및 저장
+        // 로컬 저장 (기본 또는 기본 저장소 실패 시)
+        return storeIn(photoStorages.local(), file, uploadedBy, contentHash);
+    }
+
+    /**
+     * 업로드 파일의 내용 해시 (SHA-256)
+     */
+    private static String contentHashOf(MultipartFile file) throws IOException {
+        MessageDigest digest = PhotoStorage.newContentDigest();
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return PhotoStorage.contentHashOf(digest);
+    }
+
+    private void submitIfProcessing(Photo photo) {
+        if (photo.getStatus() == PhotoStatus.PROCESSING) {
+            photoProcessor.submit(photo.getId());
+        }
+    }
+
+    PhotoDto toDto(Photo photo) {
+        PhotoDto photoDto = new PhotoDto(photo);
+        String publicUrl = photoStorages.forPath(photo.getFilePath()).getPublicUrl(photo.getFilePath());
+        if (publicUrl != null) {
+            photoDto.setFileUrl(publicUrl); // GCS 등 외부 저장소 URL은 그대로 사용
+        }
+        return photoDto;
+    }
+
+    /**
+     * 새 내용의 원본 파일을 저장소에 저장 후 Photo 엔티티 생성 (DB 저장 전)
+     */
+    private Photo storeIn(PhotoStorage storage, MultipartFile file, Long uploadedBy, String contentHash) throws IOException {
+        String extension = FilenameUtils.getExtension(file.getOriginalFilename()).toLowerCase();
+        StoredFile stored;
+        try (InputStream inputStream = file.getInputStream()) {
+            stored = storage.put(extension, inputStream, file.getSize(), file.getContentType(), contentHash);
+        }
+        
         Photo photo = new Photo(
             file.getOriginalFilename(),
-            storedName,
-            filePath,
-            finalFileSize,
-            finalContentType,
+            stored.getStoredName(),
+            stored.getFilePath(),
+            file.getSize(),
+            file.getContentType(),
             uploadedBy
         );
+        photo.setContentHash(stored.getContentHash());
         
-        Photo savedPhoto = photoRepository.save(photo);
-        return new PhotoDto(savedPhoto);
+        // 압축 대상 이미지는 처리 완료 전까지 원본을 그대로 제공
+        if (enableCompression && storage.supportsProcessing() && isImageFile(file)) {
+            photo.setStatus(PhotoStatus.PROCESSING);
+        }
+        return photo;
+    }
+
+    /**
+     * 같은 내용의 기존 사진 파일을 참조하는 Photo 엔티티 생성
+     * 처리 결과(경로, 크기, 변형)와 상태를 그대로 가져온다.
+     */
+    private Photo copyOf(Photo existing, MultipartFile file, Long uploadedBy) {
+        Photo photo = new Photo(
+            file.getOriginalFilename(),
+            existing.getStoredName(),
+            existing.getFilePath(),
+            existing.getFileSize(),
+            existing.getContentType(),
+            uploadedBy
+        );
+        photo.setContentHash(existing.getContentHash());
+        photo.setStatus(existing.getStatus());
+        photo.setWidth(existing.getWidth());
+        photo.setHeight(existing.getHeight());
+        photo.setVariantWidths(existing.getVariantWidths());
+        photo.setVariantFormats(existing.getVariantFormats());
+        return photo;
     }
 
     /**
      * 다중 파일 업로드
      */
     public List<PhotoDto> uploadFiles(MultipartFile[] files, Long uploadedBy) throws IOException {
-        List<PhotoDto> uploadedPhotos = new ArrayList<>();
-        
-        for (MultipartFile file : files) {
-            if (!file.isEmpty()) {
-                PhotoDto photoDto = uploadFile(file, uploadedBy);
-                uploadedPhotos.add(photoDto);
-            }
-        }
-        
-        return uploadedPhotos;
+        return uploadAll(files, uploadedBy, null);
     }
 
     /**
      * 장소 사진 업로드 (기존 사진 모두 삭제 후 최신 1개만 유지)
+     * 새 사진을 먼저 저장해 같은 사진으로 교체할 때 파일을 지웠다 다시 쓰지 않는다.
      */
     public List<PhotoDto> uploadPlacePhotos(MultipartFile[] files, Long placeId, Long uploadedBy) throws IOException {
         // 장소 조회
         Place place = placeRepository.findById(placeId).orElseThrow(() -> 
             new RuntimeException("장소를 찾을 수 없습니다: " + placeId));
         
-        // 기존 사진 모두 삭제
         List<Photo> existingPhotos = photoRepository.findByPlaceIdOrderBySortOrderAscCreatedAtDesc(placeId);
-        for (Photo existingPhoto : existingPhotos) {
-            // Cloud Storage 사용 시 GCS에서 삭제
-            if (cloudStorageService.isEnabled() && existingPhoto.getFilePath() != null && 
-                existingPhoto.getFilePath().startsWith("https://storage.googleapis.com/")) {
-                try {
-                    cloudStorageService.deleteFile(existingPhoto.getFilePath());
-                } catch (Exception e) {
-                    System.err.println("GCS 파일 삭제 실패: " + e.getMessage());
-                }
-            } else {
-                // 로컬 파일 삭제
-                try {
-                    Path filePath = Paths.get(uploadDir, existingPhoto.getFilePath());
-                    Files.deleteIfExists(filePath);
-                    
-                    // 썸네일도 삭제
-                    String thumbPath = existingPhoto.getFilePath().replace(".jpg", "_thumb.jpg")
-                            .replace(".png", "_thumb.jpg")
-                            .replace(".jpeg", "_thumb.jpg");
-                    Path thumbFilePath = Paths.get(uploadDir, thumbPath);
-                    Files.deleteIfExists(thumbFilePath);
-                } catch (Exception e) {
-                    System.err.println("로컬 파일 삭제 실패: " + e.getMessage());
-                }
-            }
-        }
-        // DB에서 삭제
-        photoRepository.deleteAll(existingPhotos);
         
         List<PhotoDto> uploadedPhotos = new ArrayList<>();
         
         // 첫 번째 파일만 처리 (최신 1개만 유지)
         MultipartFile file = files.length > 0 ? files[0] : null;
         if (file != null && !file.isEmpty()) {
-            
-            validateFile(file);
-            
-            // Cloud Storage 사용 (활성화된 경우)
-            if (cloudStorageService.isEnabled()) {
-                try {
-                    String fileUrl = cloudStorageService.uploadFile(file, "places");
-                    
-                    // Photo 엔티티 생성
-                    Photo photo = new Photo(
-                        file.getOriginalFilename(),
-                        extractFileNameFromUrl(fileUrl),
-                        fileUrl, // GCS URL을 filePath에 저장
-                        file.getSize(),
-                        file.getContentType(),
-                        uploadedBy
-                    );
-                    
-                    // 장소 설정
-                    photo.setPlace(place);
-                    
-                    // 메인 사진으로 설정
-                    photo.setIsMain(true);
-                    
-                    // 정렬 순서 1로 설정
-                    photo.setSortOrder(1);
-                    
-                    // DB 저장
-                    Photo savedPhoto = photoRepository.save(photo);
-                    PhotoDto photoDto = new PhotoDto(savedPhoto);
-                    photoDto.setFileUrl(fileUrl); // DTO에 URL 추가
-                    uploadedPhotos.add(photoDto);
-                    
-                    return uploadedPhotos;
-                } catch (Exception e) {
-                    System.err.println("Cloud Storage 업로드 실패, 로컬 저장으로 fallback: " + e.getMessage());
-                    // Cloud Storage 실패 시 로컬 저장으로 계속
-                }
-            }
-            
-            // 로컬 저장 (기본 또는 Cloud Storage 실패 시)
-            String storedName = generateStoredName(file.getOriginalFilename());
-            String filePath = createFilePath(storedName);
-            
-            // 디렉토리 생성
-            createDirectories(filePath);
-            
-            Path targetPath = Paths.get(uploadDir, filePath);
-            long finalFileSize;
-            String finalContentType = file.getContentType();
-            String finalFilePath = filePath; // 최종 저장 경로
-            
-            try {
-                if (enableCompression && isImageFile(file)) {
-                    // 이미지 압축 및 리사이징
-                    BufferedImage originalImage = ImageIO.read(file.getInputStream());
-                    
-                    if (originalImage != null) {
-                        // JPG 확장자로 변경
-                        String jpgFilePath = filePath.replaceAll("\\.(png|jpeg|gif|webp)$", ".jpg");
-                        Path jpgTargetPath = Paths.get(uploadDir, jpgFilePath);
-                        
-                        // 압축된 이미지 저장
-                        Thumbnails.of(originalImage)
-                            .size(maxImageWidth, maxImageHeight)
-                            .outputQuality(imageQuality)
-                            .outputFormat("jpg")
-                            .toFile(jpgTargetPath.toFile());
-                        
-                        finalFileSize = Files.size(jpgTargetPath);
-                        finalContentType = "image/jpeg";
-                        finalFilePath = jpgFilePath;
-                        
-                        // 썸네일 생성
-                        try {
-                            createThumbnail(originalImage, jpgFilePath);
-                        } catch (Exception e) {
-                            System.err.println("썸네일 생성 실패: " + e.getMessage());
-                        }
-                    } else {
-                        byte[] fileBytes = file.getBytes();
-                        Files.write(targetPath, fileBytes);
-                        finalFileSize = file.getSize();
-                    }
-                } else {
-                    byte[] fileBytes = file.getBytes();
-                    Files.write(targetPath, fileBytes);
-                    finalFileSize = file.getSize();
-                }
-            } catch (Exception e) {
-                System.err.println("이미지 압축 실패, 원본 저장: " + e.getMessage());
-                byte[] fileBytes = file.getBytes();
-                Files.write(targetPath, fileBytes);
-                finalFileSize = file.getSize();
-                finalContentType = file.getContentType();
-            }
-            
-            // Photo 엔티티 생성 (place 설정 포함)
-            Photo photo = new Photo(
-                file.getOriginalFilename(),
-                storedName,
-                finalFilePath, // 압축 시 .jpg 확장자로 변경된 경로 사용
-                finalFileSize,
-                finalContentType,
-                uploadedBy
-            );
-            
-            // 장소 설정
-            photo.setPlace(place);
-            
-            // 메인 사진으로 설정
-            photo.setIsMain(true);
-            
-            // 정렬 순서 1로 설정 (첫 번째이자 유일한 사진)
-            photo.setSortOrder(1);
-            
-            // DB 저장
-            Photo savedPhoto = photoRepository.save(photo);
-            uploadedPhotos.add(new PhotoDto(savedPhoto));
+            uploadedPhotos.add(uploadFile(file, uploadedBy, photo -> {
+                // 장소 설정
+                photo.setPlace(place);
+                
+                // 메인 사진으로 설정
+                photo.setIsMain(true);
+                
+                // 정렬 순서 1로 설정 (첫 번째이자 유일한 사진)
+                photo.setSortOrder(1);
+            }));
         }
         
+        // 기존 사진 모두 삭제 (DB 삭제 후 참조가 없어진 파일만 삭제 예약)
+        photoRepository.deleteAll(existingPhotos);
+        for (Photo existingPhoto : existingPhotos) {
+            releaseFiles(existingPhoto);
+        }
+        placeCacheEvictor.evictPlaceDetails(placeId);
+        
         return uploadedPhotos;
     }
 
     /**
-     * 리뷰 사진 업로드
+     * 장소 사진을 지정한 사진 하나만 남기고 교체 (직접 업로드 완료 시)
      */
-    public List<PhotoDto> uploadReviewPhotos(MultipartFile[] files, Long reviewId, Long uploadedBy) throws IOException {
-        List<PhotoDto> uploadedPhotos = uploadFiles(files, uploadedBy);
+    void replacePlacePhotos(Photo photo) {
+        Long placeId = photo.getPlace().getId();
+        List<Photo> otherPhotos = photoRepository.findByPlaceIdOrderBySortOrderAscCreatedAtDesc(placeId).stream()
+            .filter(existing -> !existing.getId().equals(photo.getId()))
+            .collect(Collectors.toList());
         
-        // 리뷰 ID 설정 및 정렬 순서 설정
-        for (int i = 0; i < uploadedPhotos.size(); i++) {
-            PhotoDto photoDto = uploadedPhotos.get(i);
-            Photo photo = photoRepository.findById(photoDto.getId()).orElseThrow();
-            
-            Review review = reviewRepository.findById(reviewId).orElseThrow(() -> 
-                new RuntimeException("리뷰를 찾을 수 없습니다: " + reviewId));
-            photo.setReview(review);
-            photo.setSortOrder(photoRepository.findNextSortOrderByReviewId(reviewId));
-            
-            photoRepository.save(photo);
-            uploadedPhotos.set(i, new PhotoDto(photo));
+        photo.setIsMain(true);
+        photo.setSortOrder(1);
+        photoRepository.save(photo);
+        
+        photoRepository.deleteAll(otherPhotos);
+        for (Photo otherPhoto : otherPhotos) {
+            releaseFiles(otherPhoto);
         }
+        placeCacheEvictor.evictPlaceDetails(placeId);
+    }
+
+    /**
+     * 리뷰 사진 업로드
+     */
+    public List<PhotoDto> uploadReviewPhotos(MultipartFile[] files, Long reviewId, Long uploadedBy) throws IOException {
+        Review review = reviewRepository.findById(reviewId).orElseThrow(() -> 
+            new RuntimeException("리뷰를 찾을 수 없습니다: " + reviewId));
         
+        // 리뷰 ID 및 정렬 순서는 저장 전에 설정 (처리 완료 결과를 덮어쓰지 않도록)
+        List<PhotoDto> uploadedPhotos = uploadAll(files, uploadedBy, photos -> {
+            int sortOrder = photoRepository.findNextSortOrderByReviewId(reviewId);
+            for (Photo photo : photos) {
+                photo.setReview(review);
+                photo.setSortOrder(sortOrder++);
+            }
+        });
+        placeCacheEvictor.evictPlaceDetails(review.getPlace().getId());
         return uploadedPhotos;
     }
 
+    /**
+     * 사진 조회 (처리 상태 확인용)
+     */
+    public PhotoDto getPhoto(Long photoId) {
+        return photoRepository.findById(photoId)
+            .map(this::toDto)
+            .orElse(null);
+    }
+
     /**
      * 파일 삭제
      */
     public boolean deleteFile(Long photoId) {
-        try {
-            Photo photo = photoRepository.findById(photoId).orElse(null);
-            if (photo == null) {
-                return false;
-            }
-            
-            // Cloud Storage 사용 시 GCS에서 삭제
-            if (cloudStorageService.isEnabled() && photo.getFilePath() != null && 
-                photo.getFilePath().startsWith("https://storage.googleapis.com/")) {
-                cloudStorageService.deleteFile(photo.getFilePath());
-            } else {
-                // 로컬 저장소에서 삭제
-                Path filePath = Paths.get(uploadDir, photo.getFilePath());
-                Files.deleteIfExists(filePath);
-            }
-            
-            // 데이터베이스에서 삭제
-            photoRepository.delete(photo);
-            
-            return true;
-        } catch (IOException e) {
+        Photo photo = photoRepository.findById(photoId).orElse(null);
+        if (photo == null) {
             return false;
         }
+        
+        // 데이터베이스에서 삭제 후 참조가 없어진 파일 삭제 예약
+        photoRepository.delete(photo);
+        releaseFiles(photo);
+        if (photo.getPlace() != null) {
+            placeCacheEvictor.evictPlaceDetails(photo.getPlace().getId());
+        } else if (photo.getReview() != null) {
+            placeCacheEvictor.evictPlaceDetails(photo.getReview().getPlace().getId());
+        }
+        
+        return true;
+    }
+
+    /**
+     * 삭제된 사진의 파일 정리 예약
+     * 같은 내용(해시)을 참조하는 사진이 남아 있으면 파일을 유지한다.
+     * 실제 삭제는 PhotoFileDeleter가 비동기로 수행한다.
+     */
+    void releaseFiles(Photo photo) {
+        if (photo.getContentHash() != null && photoRepository.countByContentHash(photo.getContentHash()) > 0) {
+            return;
+        }
+        photoFileDeleter.enqueue(photo);
     }
 
     /**
@@ -440,49 +442,27 @@ public class FileUploadService {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
         
-        if (file.getSize() > maxFileSize) {
+        validateUpload(file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+
+    /**
+     * 업로드 파일 정보 유효성 검사 (직접 업로드는 파일 내용 없이 신고된 정보로 검사)
+     */
+    public void validateUpload(String originalFilename, String contentType, long size) {
+        if (size > maxFileSize) {
             throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 " + (maxFileSize / 1024 / 1024) + "MB까지 업로드 가능합니다.");
         }
         
-        String contentType = file.getContentType();
         if (contentType == null || !Arrays.asList(allowedTypes.split(",")).contains(contentType)) {
             throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. 지원 형식: " + allowedTypes);
         }
         
-        String extension = FilenameUtils.getExtension(file.getOriginalFilename());
+        String extension = FilenameUtils.getExtension(originalFilename);
         if (extension == null || !ALLOWED_EXTENSIONS.contains(extension.toLowerCase())) {
             throw new IllegalArgumentException("지원하지 않는 파일 확장자입니다. 지원 확장자: " + String.join(", ", ALLOWED_EXTENSIONS));
         }
     }
 
-    /**
-     * 저장될 파일명 생성
-     */
-    private String generateStoredName(String originalFilename) {
-        String extension = FilenameUtils.getExtension(originalFilename);
-        String uuid = UUID.randomUUID().toString();
-        return uuid + "." + extension;
-    }
-
-    /**
-     * 파일 경로 생성 (년/월/일 구조)
-     */
-    private String createFilePath(String storedName) {
-        LocalDateTime now = LocalDateTime.now();
-        String datePath = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-        return datePath + "/" + storedName;
-    }
-
-    /**
-     * 디렉토리 생성
-     */
-    private void createDirectories(String filePath) throws IOException {
-        Path directoryPath = Paths.get(uploadDir, filePath).getParent();
-        if (!Files.exists(directoryPath)) {
-            Files.createDirectories(directoryPath);
-        }
-    }
-
     /**
      * 파일 URL 생성
      */
@@ -514,13 +494,19 @@ public class FileUploadService {
         return maxFileSize;
     }
 
+    /**
+     * 이미지 압축(후처리) 활성화 여부
+     */
+    public boolean isCompressionEnabled() {
+        return enableCompression;
+    }
+
     /**
      * 파일 존재 여부 확인
      */
     public boolean fileExists(String filePath) {
         try {
-            Path path = Paths.get(uploadDir, filePath);
-            return Files.exists(path);
+            return photoStorages.forPath(filePath).size(filePath) >= 0;
         } catch (Exception e) {
             return false;
         }
@@ -531,8 +517,7 @@ public class FileUploadService {
      */
     public long getFileSize(String filePath) {
         try {
-            Path path = Paths.get(uploadDir, filePath);
-            return Files.size(path);
+            return Math.max(photoStorages.forPath(filePath).size(filePath), 0);
         } catch (IOException e) {
             return 0;
         }
@@ -542,47 +527,13 @@ public class FileUploadService {
      * 이미지 파일인지 확인
      */
     private boolean isImageFile(MultipartFile file) {
-        String contentType = file.getContentType();
-        return contentType != null && contentType.startsWith("image/");
+        return isImageType(file.getContentType());
     }
 
     /**
-     * 썸네일 생성
+     * 이미지 형식인지 확인
      */
-    private void createThumbnail(BufferedImage originalImage, String originalPath) {
-        try {
-            // 썸네일 경로 생성 (원본 파일명에 _thumb 추가)
-            String extension = FilenameUtils.getExtension(originalPath);
-            String pathWithoutExtension = originalPath.substring(0, originalPath.lastIndexOf('.'));
-            String thumbPath = pathWithoutExtension + "_thumb." + extension;
-            
-            Path thumbTargetPath = Paths.get(uploadDir, thumbPath);
-            
-            // 썸네일 생성 및 저장
-            Thumbnails.of(originalImage)
-                .size(thumbnailSize, thumbnailSize)
-                .outputQuality(imageQuality)
-                .outputFormat("jpg")
-                .toFile(thumbTargetPath.toFile());
-            
-        } catch (IOException e) {
-            // 썸네일 생성 실패 시 로그만 남기고 계속 진행
-            System.err.println("썸네일 생성 실패: " + e.getMessage());
-        }
-    }
-
-    /**
-     * URL에서 파일명 추출 (GCS URL용)
-     */
-    private String extractFileNameFromUrl(String fileUrl) {
-        if (fileUrl == null) {
-            return null;
-        }
-        // GCS URL 형식: https://storage.googleapis.com/bucket-name/folder/filename
-        int lastSlashIndex = fileUrl.lastIndexOf('/');
-        if (lastSlashIndex >= 0 && lastSlashIndex < fileUrl.length() - 1) {
-            return fileUrl.substring(lastSlashIndex + 1);
-        }
-        return fileUrl;
+    static boolean isImageType(String contentType) {
+        return contentType != null && contentType.startsWith("image/");
     }
 }
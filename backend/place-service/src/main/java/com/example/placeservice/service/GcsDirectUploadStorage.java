@@ -0,0 +1,46 @@
+package com.example.placeservice.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GCS 직접 업로드 저장소
+ * V4 Signed URL로 재개 가능(resumable) 업로드 세션을 시작하게 하므로 파일 내용은 place-service를 거치지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "gcp.storage.enabled", havingValue = "true")
+public class GcsDirectUploadStorage implements DirectUploadStorage {
+
+    private static final String FOLDER = "places";
+
+    @Autowired
+    private CloudStorageService cloudStorageService;
+
+    @Override
+    public UploadTarget createUploadTarget(String storedName, String contentType, long maxSize, Duration validity) {
+        String fileName = FOLDER + "/" + storedName;
+        String url = cloudStorageService.generateResumableUploadUrl(
+            fileName, contentType, maxSize, validity.toSeconds(), TimeUnit.SECONDS);
+
+        Map<String, String> headers = new LinkedHashMap<>(cloudStorageService.uploadHeaders(maxSize));
+        headers.put("Content-Type", contentType);
+        return new UploadTarget(cloudStorageService.getPublicUrl(fileName), url, "POST", headers);
+    }
+
+    @Override
+    public long getUploadedSize(String filePath) {
+        return cloudStorageService.getFileSize(filePath);
+    }
+
+    @Override
+    public boolean supportsProcessing() {
+        // PhotoProcessor는 업로드 디렉토리의 파일만 처리 (GCS 원본은 그대로 제공)
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.placeservice.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Google Cloud Storage 사진 저장소
+ * 파일 경로는 Public URL이며 클라이언트에 그대로 제공한다. 삭제는 GCS 배치 요청 한 번으로 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "gcp.storage.enabled", havingValue = "true")
+public class GcsPhotoStorage implements PhotoStorage {
+
+    private static final String FOLDER = "places";
+
+    private static final String STAGING_FOLDER = ".staging"; // 업로드 중 임시 객체 폴더
+
+    @Autowired
+    private CloudStorageService cloudStorageService;
+
+    @Override
+    public String getName() {
+        return "gcs";
+    }
+
+    @Override
+    public boolean contains(String filePath) {
+        return cloudStorageService.isFileUrl(filePath);
+    }
+
+    @Override
+    public StoredFile put(String extension, InputStream content, long size, String contentType) throws IOException {
+        // 해시는 받은 뒤에야 알 수 있으므로 임시 이름으로 올리고 내용 기반 이름으로 옮김
+        MessageDigest digest = PhotoStorage.newContentDigest();
+        String stagingName = FOLDER + "/" + STAGING_FOLDER + "/" + UUID.randomUUID();
+        cloudStorageService.uploadFile(stagingName, new DigestInputStream(content, digest), contentType);
+
+        String contentHash = PhotoStorage.contentHashOf(digest);
+        String storedName = PhotoStorage.storedNameOf(contentHash, extension);
+        String filePath = cloudStorageService.moveFile(stagingName, FOLDER + "/" + storedName);
+        return new StoredFile(filePath, storedName, contentHash);
+    }
+
+    @Override
+    public StoredFile put(String extension, InputStream content, long size, String contentType,
+                          String contentHash) throws IOException {
+        // 해시를 알고 있으면 임시 객체 없이 최종 이름으로 바로 올림 (이미 있으면 업로드 생략)
+        String storedName = PhotoStorage.storedNameOf(contentHash, extension);
+        String filePath = cloudStorageService.uploadFile(FOLDER + "/" + storedName, content, contentType);
+        return new StoredFile(filePath, storedName, contentHash);
+    }
+
+    @Override
+    public InputStream open(String filePath) throws IOException {
+        return cloudStorageService.openFile(filePath);
+    }
+
+    @Override
+    public long size(String filePath) {
+        return cloudStorageService.getFileSize(filePath);
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> filePaths) {
+        // 이미 없는 객체는 false로 반환되지만 삭제된 것으로 처리
+        cloudStorageService.deleteFiles(filePaths);
+        return new HashMap<>();
+    }
+
+    @Override
+    public String getPublicUrl(String filePath) {
+        return filePath;
+    }
+
+    @Override
+    public boolean supportsProcessing() {
+        return false;
+    }
+}
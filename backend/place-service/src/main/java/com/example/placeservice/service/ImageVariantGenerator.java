@@ -0,0 +1,192 @@
+package com.example.placeservice.service;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 반응형 이미지 변형(variant) 생성기
+ * 리사이즈된 원본에서 너비 단계별 JPEG(가능하면 WebP도)를 만든다.
+ * 파일명 규칙: {경로}_w{너비}.{형식}, 원본 크기 WebP는 {경로}.webp
+ */
+@Component
+public class ImageVariantGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageVariantGenerator.class);
+
+    public static final String JPEG = "jpg";
+    public static final String WEBP = "webp";
+
+    @Value("${app.upload.variants.widths:160,320,640,1280,1920}") // 변형 너비 단계
+    private String widthsConfig;
+
+    @Value("${app.upload.variants.webp:true}") // WebP 생성 여부 (WebP 인코더를 쓸 수 있을 때만)
+    private boolean webpEnabled;
+
+    @Value("${app.upload.image.quality:0.8}") // 이미지 품질 (0.0 ~ 1.0)
+    private double imageQuality;
+
+    private int[] widths;
+    private boolean webpSupported;
+
+    @PostConstruct
+    public void init() {
+        widths = Arrays.stream(widthsConfig.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .filter(width -> width > 0)
+                .sorted()
+                .distinct()
+                .toArray();
+        webpSupported = webpEnabled && canWriteWebp();
+        log.info("이미지 변형 설정: widths={}, webp={}", Arrays.toString(widths), webpSupported);
+    }
+
+    /**
+     * 변형 생성
+     * 원본보다 작은 너비만 만들고, 원본 크기는 기존 JPEG 파일(과 WebP)로 제공한다.
+     *
+     * @param image 리사이즈된 이미지
+     * @param jpgFile 리사이즈된 이미지가 저장된 JPEG 파일
+     * @return 생성된 너비 목록 (오름차순, 원본 너비 제외)
+     */
+    public List<Integer> generate(BufferedImage image, Path jpgFile) throws IOException {
+        List<Integer> generated = new ArrayList<>();
+        String filePath = jpgFile.toString();
+
+        for (int width : widths) {
+            if (width >= image.getWidth()) {
+                break;
+            }
+            BufferedImage scaled = Thumbnails.of(image).width(width).asBufferedImage();
+            write(scaled, variantPath(filePath, width, JPEG), JPEG);
+            if (webpSupported) {
+                write(scaled, variantPath(filePath, width, WEBP), WEBP);
+            }
+            generated.add(width);
+        }
+
+        if (webpSupported) {
+            write(image, webpPath(filePath), WEBP);
+        }
+        return generated;
+    }
+
+    /**
+     * 생성하는 형식 목록 (쉼표 구분)
+     */
+    public String getFormats() {
+        return webpSupported ? JPEG + "," + WEBP : JPEG;
+    }
+
+    /**
+     * 설정된 너비 단계 (오름차순)
+     */
+    public int[] getWidths() {
+        return widths.clone();
+    }
+
+    /**
+     * 리사이즈한 JPEG 파일 경로 (원본과 항상 다른 경로, 같은 URL의 내용이 바뀌지 않도록)
+     */
+    public static String processedPath(String originalPath) {
+        String jpgPath = basePath(originalPath) + "." + JPEG;
+        return jpgPath.equals(originalPath) ? basePath(originalPath) + "_r." + JPEG : jpgPath;
+    }
+
+    /**
+     * 썸네일 파일 경로
+     */
+    public static String thumbnailPath(String filePath) {
+        return basePath(filePath) + "_thumb." + JPEG;
+    }
+
+    /**
+     * 변형 파일 경로
+     */
+    public static String variantPath(String filePath, int width, String format) {
+        return basePath(filePath) + "_w" + width + "." + format;
+    }
+
+    /**
+     * 원본 크기 WebP 파일 경로
+     */
+    public static String webpPath(String filePath) {
+        return basePath(filePath) + "." + WEBP;
+    }
+
+    /**
+     * 사진의 모든 변형 파일 경로 (삭제용, 원본 JPEG 제외)
+     */
+    public static List<String> variantPaths(String filePath, String variantWidths, String variantFormats) {
+        List<String> paths = new ArrayList<>();
+        if (filePath == null || variantFormats == null || variantFormats.isEmpty()) {
+            return paths;
+        }
+        for (String format : variantFormats.split(",")) {
+            if (WEBP.equals(format)) {
+                paths.add(webpPath(filePath));
+            }
+            if (variantWidths == null || variantWidths.isEmpty()) {
+                continue;
+            }
+            for (String width : variantWidths.split(",")) {
+                paths.add(variantPath(filePath, Integer.parseInt(width), format));
+            }
+        }
+        return paths;
+    }
+
+    private static String basePath(String filePath) {
+        int dot = filePath.lastIndexOf('.');
+        int slash = Math.max(filePath.lastIndexOf('/'), filePath.lastIndexOf('\\'));
+        return dot > slash ? filePath.substring(0, dot) : filePath;
+    }
+
+    /**
+     * WebP 인코딩 가능 여부
+     * webp-imageio는 네이티브 라이브러리를 쓰므로 플러그인 등록만으로는 부족하고,
+     * 지원하지 않는 플랫폼(예: Alpine의 musl)에서는 실제 인코딩 시점에 실패한다. 시작 시 1x1 이미지로 확인한다.
+     */
+    private boolean canWriteWebp() {
+        // 실행 jar 안의 플러그인은 ImageIO 초기화 이후에 등록해야 보인다
+        ImageIO.scanForPlugins();
+        if (!ImageIO.getImageWritersByFormatName(WEBP).hasNext()) {
+            log.warn("WebP ImageIO 플러그인이 없어 WebP 변형을 만들지 않습니다");
+            return false;
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Thumbnails.of(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB))
+                    .scale(1.0)
+                    .outputQuality(imageQuality)
+                    .outputFormat(WEBP)
+                    .toOutputStream(out);
+            return out.size() > 0;
+        } catch (Exception | LinkageError e) {
+            log.warn("WebP 인코더를 사용할 수 없어 WebP 변형을 만들지 않습니다: {}", e.toString());
+            return false;
+        }
+    }
+
+    private void write(BufferedImage image, String path, String format) throws IOException {
+        Thumbnails.of(image)
+                .scale(1.0)
+                .outputQuality(imageQuality)
+                .outputFormat(format)
+                .toFile(path);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.placeservice.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 사진 저장소 (로컬 개발/테스트용)
+ * app.upload.storage=memory일 때 기본 저장소로 사용된다. 재시작하면 내용이 사라진다.
+ * 파일은 memory:{파일명} 경로로 식별하며 /uploads/memory:{파일명}으로 제공된다 (후처리 없음).
+ */
+@Component
+@ConditionalOnProperty(name = "app.upload.storage", havingValue = "memory")
+public class InMemoryPhotoStorage implements PhotoStorage {
+
+    private static final String PATH_PREFIX = "memory:";
+
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    @Override
+    public boolean contains(String filePath) {
+        return filePath != null && filePath.startsWith(PATH_PREFIX);
+    }
+
+    @Override
+    public StoredFile put(String extension, InputStream content, long size, String contentType) throws IOException {
+        MessageDigest digest = PhotoStorage.newContentDigest();
+        byte[] bytes = new DigestInputStream(content, digest).readAllBytes();
+
+        String contentHash = PhotoStorage.contentHashOf(digest);
+        String storedName = PhotoStorage.storedNameOf(contentHash, extension);
+        String filePath = PATH_PREFIX + storedName;
+        files.putIfAbsent(filePath, bytes);
+        return new StoredFile(filePath, storedName, contentHash);
+    }
+
+    @Override
+    public InputStream open(String filePath) throws IOException {
+        byte[] content = files.get(filePath);
+        if (content == null) {
+            throw new NoSuchFileException(filePath);
+        }
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public long size(String filePath) {
+        byte[] content = files.get(filePath);
+        return content != null ? content.length : -1;
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> filePaths) {
+        filePaths.forEach(files::remove);
+        return new HashMap<>();
+    }
+
+    @Override
+    public String getPublicUrl(String filePath) {
+        return null;
+    }
+
+    @Override
+    public boolean supportsProcessing() {
+        return false;
+    }
+}
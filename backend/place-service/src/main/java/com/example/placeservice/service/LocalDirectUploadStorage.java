@@ -0,0 +1,85 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.entity.DirectUploadToken;
+import com.example.placeservice.repository.DirectUploadTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 로컬 직접 업로드 저장소 (GCS 비활성화 시, 개발/테스트용)
+ * Signed URL 대신 일회용 토큰 URL을 발급하고, 해당 URL로 PUT된 내용을 업로드 디렉토리에 저장한다.
+ * 토큰은 DB(direct_upload_tokens)에 보관하므로 재시작 후에도, 다른 인스턴스로 요청이 가도 유효하다.
+ * 파일은 LocalPhotoStorage와 같은 분할 경로(ab/cd/...)로 업로드 디렉토리에 저장되므로 업로드 완료 후 PhotoProcessor로 후처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "gcp.storage.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalDirectUploadStorage implements DirectUploadStorage {
+
+    public static final String UPLOAD_URL_PREFIX = "/api/files/direct-uploads/local/";
+
+    @Autowired
+    private LocalPhotoStorage localPhotoStorage;
+
+    @Autowired
+    private DirectUploadTokenRepository tokenRepository;
+
+    @Override
+    public UploadTarget createUploadTarget(String storedName, String contentType, long maxSize, Duration validity) {
+        String filePath = LocalPhotoStorage.shardedPath(storedName);
+        String token = UUID.randomUUID().toString();
+        tokenRepository.save(new DirectUploadToken(token, filePath, contentType, maxSize, LocalDateTime.now().plus(validity)));
+        return new UploadTarget(filePath, UPLOAD_URL_PREFIX + token, "PUT", Map.of("Content-Type", contentType));
+    }
+
+    @Override
+    public long getUploadedSize(String filePath) {
+        try {
+            return localPhotoStorage.size(filePath);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public boolean supportsProcessing() {
+        return true;
+    }
+
+    /**
+     * 토큰 URL로 업로드된 내용 저장
+     * LocalPhotoStorage와 같이 임시 파일로 받은 뒤 옮기므로 업로드 도중의 파일은 제공/처리되지 않는다.
+     *
+     * @return 저장된 크기 (바이트)
+     */
+    public long write(String token, String contentType, InputStream inputStream) throws IOException {
+        DirectUploadToken upload = tokenRepository.findById(token).orElse(null);
+        if (upload == null || upload.isExpired(LocalDateTime.now())) {
+            throw new IllegalArgumentException("유효하지 않거나 만료된 업로드 URL입니다.");
+        }
+        if (contentType == null || !contentType.startsWith(upload.getContentType())) {
+            throw new IllegalArgumentException("업로드 요청과 파일 형식이 다릅니다: " + contentType);
+        }
+
+        // 저장에 실패하면 토큰을 남겨 같은 URL로 다시 올릴 수 있게 함
+        long size = localPhotoStorage.write(upload.getFilePath(), inputStream, upload.getMaxSize());
+        tokenRepository.deleteById(token);
+        return size;
+    }
+
+    /**
+     * 만료된 업로드 토큰 정리
+     */
+    @Scheduled(fixedDelayString = "${app.upload.direct.cleanup-interval-ms:300000}")
+    public void removeExpired() {
+        tokenRepository.deleteExpired(LocalDateTime.now());
+    }
+}
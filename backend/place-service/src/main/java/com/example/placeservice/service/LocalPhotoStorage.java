@@ -0,0 +1,180 @@
+package com.example.placeservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 로컬 파일 시스템 사진 저장소
+ * 파일명 앞 4글자로 2단계 디렉토리를 나눠(ab/cd/abcd...jpg) 한 디렉토리에 파일이 몰리지 않게 한다.
+ * 임시 파일로 받은 뒤 옮기므로 저장 도중의 파일은 제공되지 않는다.
+ * 업로드 디렉토리의 파일 경로 해석(resolve)도 담당하므로 파일 제공/후처리는 이 클래스를 거친다.
+ */
+@Component
+public class LocalPhotoStorage implements PhotoStorage {
+
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024; // 채널 전송 단위 (1MB)
+
+    private static final String STAGING_DIR = ".staging"; // 저장 중 임시 디렉토리
+
+    private static final int SHARD_LEVELS = 2; // 디렉토리 분할 단계
+    private static final int SHARD_WIDTH = 2;  // 단계별 디렉토리 이름 길이
+
+    @Value("${app.upload.dir:uploads}")
+    private String uploadDir;
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public boolean contains(String filePath) {
+        return filePath != null && !filePath.contains("://");
+    }
+
+    @Override
+    public StoredFile put(String extension, InputStream content, long size, String contentType) throws IOException {
+        MessageDigest digest = PhotoStorage.newContentDigest();
+        Path staging = stage(new DigestInputStream(content, digest), Long.MAX_VALUE);
+
+        String contentHash = PhotoStorage.contentHashOf(digest);
+        String storedName = PhotoStorage.storedNameOf(contentHash, extension);
+        String filePath = shardedPath(storedName);
+        Path target = resolve(filePath);
+        if (Files.exists(target)) {
+            // 같은 내용이 이미 저장되어 있으면 받은 파일은 버림
+            Files.deleteIfExists(staging);
+        } else {
+            moveIntoPlace(staging, target);
+        }
+        return new StoredFile(filePath, storedName, contentHash);
+    }
+
+    /**
+     * 지정한 경로에 내용 저장 (직접 업로드용, 같은 경로의 파일은 교체)
+     *
+     * @param filePath 저장할 경로 (업로드 디렉토리 기준)
+     * @param maxSize 허용할 최대 크기 (바이트), 넘으면 저장하지 않고 IllegalArgumentException
+     * @return 저장된 크기 (바이트)
+     */
+    public long write(String filePath, InputStream content, long maxSize) throws IOException {
+        Path target = resolve(filePath);
+        Path staging = stage(content, maxSize);
+        long size = Files.size(staging);
+        moveIntoPlace(staging, target);
+        return size;
+    }
+
+    @Override
+    public InputStream open(String filePath) throws IOException {
+        return Files.newInputStream(resolve(filePath));
+    }
+
+    @Override
+    public long size(String filePath) throws IOException {
+        Path path = resolve(filePath);
+        return Files.isRegularFile(path) ? Files.size(path) : -1;
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> filePaths) {
+        return filePaths.parallelStream()
+            .collect(HashMap::new, (errors, filePath) -> {
+                try {
+                    Files.deleteIfExists(resolve(filePath));
+                } catch (Exception e) {
+                    errors.put(filePath, String.valueOf(e.getMessage()));
+                }
+            }, HashMap::putAll);
+    }
+
+    @Override
+    public String getPublicUrl(String filePath) {
+        return null;
+    }
+
+    @Override
+    public boolean supportsProcessing() {
+        return true;
+    }
+
+    /**
+     * 업로드 디렉토리 기준 절대 경로 (디렉토리 밖 경로는 거부)
+     */
+    public Path resolve(String filePath) throws IOException {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path path = root.resolve(filePath).normalize();
+        if (!path.startsWith(root)) {
+            throw new IOException("업로드 디렉토리 밖의 경로입니다: " + filePath);
+        }
+        return path;
+    }
+
+    /**
+     * 임시 디렉토리에 내용 받기 (채널 전송, 실패하거나 최대 크기를 넘으면 임시 파일 삭제)
+     */
+    private Path stage(InputStream content, long maxSize) throws IOException {
+        Path staging = resolve(STAGING_DIR + "/" + UUID.randomUUID() + ".upload");
+        Files.createDirectories(staging.getParent());
+        try (ReadableByteChannel source = Channels.newChannel(content);
+             FileChannel channel = FileChannel.open(staging, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+                if (position > maxSize) {
+                    throw new IllegalArgumentException("파일 크기가 너무 큽니다. 최대 " + (maxSize / 1024 / 1024) + "MB까지 업로드 가능합니다.");
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(staging);
+            throw e;
+        }
+        return staging;
+    }
+
+    /**
+     * 받은 임시 파일을 저장 경로로 이동 (가능하면 원자적으로)
+     */
+    private static void moveIntoPlace(Path staging, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(staging, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 파일명 앞부분으로 분할한 저장 경로 (예: 3f9a... -> 3f/9a/3f9a...jpg)
+     */
+    static String shardedPath(String name) {
+        StringBuilder path = new StringBuilder();
+        for (int level = 0; level < SHARD_LEVELS; level++) {
+            int start = level * SHARD_WIDTH;
+            if (name.length() < start + SHARD_WIDTH) {
+                break;
+            }
+            path.append(name, start, start + SHARD_WIDTH).append('/');
+        }
+        return path.append(name).toString();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.placeservice.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사진 저장소 메트릭 데코레이터
+ * 작업별 소요 시간(photo.storage.operation)과 전송 바이트(photo.storage.bytes)를 저장소 이름으로 태깅해 기록한다.
+ */
+public class MeteredPhotoStorage implements PhotoStorage {
+
+    private final PhotoStorage delegate;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary writtenBytes;
+    private final DistributionSummary readBytes;
+
+    public MeteredPhotoStorage(PhotoStorage delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.writtenBytes = DistributionSummary.builder("photo.storage.bytes")
+            .tag("backend", delegate.getName()).tag("direction", "write")
+            .baseUnit("bytes").description("사진 저장소 전송 바이트").register(meterRegistry);
+        this.readBytes = DistributionSummary.builder("photo.storage.bytes")
+            .tag("backend", delegate.getName()).tag("direction", "read")
+            .baseUnit("bytes").description("사진 저장소 전송 바이트").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean contains(String filePath) {
+        return delegate.contains(filePath);
+    }
+
+    @Override
+    public StoredFile put(String extension, InputStream content, long size, String contentType) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            StoredFile stored = delegate.put(extension, content, size, contentType);
+            writtenBytes.record(size);
+            return stored;
+        } finally {
+            sample.stop(timer("put"));
+        }
+    }
+
+    @Override
+    public StoredFile put(String extension, InputStream content, long size, String contentType,
+                          String contentHash) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            StoredFile stored = delegate.put(extension, content, size, contentType, contentHash);
+            writtenBytes.record(size);
+            return stored;
+        } finally {
+            sample.stop(timer("put"));
+        }
+    }
+
+    @Override
+    public InputStream open(String filePath) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return new CountingInputStream(delegate.open(filePath));
+        } finally {
+            sample.stop(timer("open"));
+        }
+    }
+
+    @Override
+    public long size(String filePath) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return delegate.size(filePath);
+        } finally {
+            sample.stop(timer("size"));
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteAll(List<String> filePaths) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return delegate.deleteAll(filePaths);
+        } finally {
+            sample.stop(timer("delete-all"));
+        }
+    }
+
+    @Override
+    public String getPublicUrl(String filePath) {
+        return delegate.getPublicUrl(filePath);
+    }
+
+    @Override
+    public boolean supportsProcessing() {
+        return delegate.supportsProcessing();
+    }
+
+    private Timer timer(String operation) {
+        return Timer.builder("photo.storage.operation")
+            .tag("backend", delegate.getName())
+            .tag("operation", operation)
+            .description("사진 저장소 작업 소요 시간")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 읽은 바이트를 닫을 때 기록하는 스트림
+     */
+    private final class CountingInputStream extends FilterInputStream {
+
+        private long count = 0;
+        private boolean closed = false;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                readBytes.record(count);
+            }
+            super.close();
+        }
+    }
+}
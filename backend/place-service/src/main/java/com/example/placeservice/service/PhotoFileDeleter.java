@@ -0,0 +1,192 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.entity.Photo;
+import com.example.placeservice.entity.PhotoFileDeletion;
+import com.example.placeservice.repository.PhotoFileDeletionRepository;
+import com.example.placeservice.repository.PhotoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사진 파일 비동기 삭제기 (outbox)
+ * 요청 처리 중에는 삭제할 파일을 photo_file_deletions에 기록만 하고,
+ * 주기적으로 모아서 저장소별로 한 번에 삭제한다 (GCS는 배치 요청, 로컬 파일은 병렬 삭제).
+ * 실패한 항목은 지수 백오프로 다시 시도한다.
+ */
+@Component
+public class PhotoFileDeleter {
+
+    private static final Logger log = LoggerFactory.getLogger(PhotoFileDeleter.class);
+
+    @Autowired
+    private PhotoFileDeletionRepository deletionRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private PhotoStorageRegistry photoStorages;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.upload.deletion.batch-size:100}") // 한 번에 삭제할 최대 파일 수
+    private int batchSize;
+
+    @Value("${app.upload.deletion.retry-base-seconds:30}") // 첫 재시도 대기 시간
+    private long retryBaseSeconds;
+
+    @Value("${app.upload.deletion.retry-max-seconds:3600}") // 최대 재시도 대기 시간
+    private long retryMaxSeconds;
+
+    private Counter deletedCounter;
+    private Counter failedCounter;
+    private Counter skippedCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    public void init() {
+        deletedCounter = Counter.builder("photo.file.deletions").tag("result", "deleted")
+                .description("삭제된 사진 파일 수").register(meterRegistry);
+        failedCounter = Counter.builder("photo.file.deletions").tag("result", "failed")
+                .description("삭제에 실패해 재시도할 사진 파일 수").register(meterRegistry);
+        skippedCounter = Counter.builder("photo.file.deletions").tag("result", "skipped")
+                .description("다시 참조되어 삭제하지 않은 사진 파일 수").register(meterRegistry);
+        batchTimer = Timer.builder("photo.file.deletion.batch")
+                .description("사진 파일 일괄 삭제 소요 시간").register(meterRegistry);
+    }
+
+    /**
+     * 사진 파일 삭제 예약 (원본, 썸네일, 변형)
+     * DB에 기록만 하므로 요청 처리 시간은 INSERT 비용뿐이다.
+     */
+    public void enqueue(Photo photo) {
+        String filePath = photo.getFilePath();
+        if (filePath == null) {
+            return;
+        }
+
+        List<String> paths = new ArrayList<>();
+        paths.add(filePath);
+        // 후처리 가능한 저장소에만 썸네일/변형이 생성됨
+        if (photoStorages.forPath(filePath).supportsProcessing()) {
+            paths.add(ImageVariantGenerator.thumbnailPath(filePath));
+            paths.addAll(ImageVariantGenerator.variantPaths(filePath, photo.getVariantWidths(), photo.getVariantFormats()));
+        }
+
+        deletionRepository.saveAll(paths.stream()
+                .map(path -> new PhotoFileDeletion(path, photo.getContentHash()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * 처리 후 더 이상 제공하지 않는 원본 파일 삭제 예약
+     * 같은 경로를 참조하는 사진(처리 대기 중인 중복 업로드)이 남아 있으면 삭제 시점에 다시 미룬다.
+     */
+    public void enqueueFile(String filePath) {
+        deletionRepository.save(new PhotoFileDeletion(filePath, null));
+    }
+
+    /**
+     * 삭제 대기 파일 일괄 삭제
+     */
+    @Scheduled(fixedDelayString = "${app.upload.deletion.interval-ms:10000}")
+    public void deletePending() {
+        List<PhotoFileDeletion> batch = deletionRepository.findByNextAttemptAtLessThanEqualOrderByIdAsc(
+                LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchTimer.record(() -> process(batch));
+    }
+
+    private void process(List<PhotoFileDeletion> batch) {
+        List<PhotoFileDeletion> done = new ArrayList<>();
+        Map<PhotoStorage, List<PhotoFileDeletion>> byStorage = new LinkedHashMap<>();
+        Map<PhotoFileDeletion, String> errors = new HashMap<>();
+        List<PhotoFileDeletion> deferred = new ArrayList<>();
+
+        // 예약 이후 같은 내용으로 다시 업로드된 파일은 삭제하지 않음
+        Map<String, Boolean> referenced = new HashMap<>();
+        for (PhotoFileDeletion deletion : batch) {
+            String contentHash = deletion.getContentHash();
+            if (contentHash != null && referenced.computeIfAbsent(contentHash,
+                    hash -> photoRepository.countByContentHash(hash) > 0)) {
+                done.add(deletion);
+                skippedCounter.increment();
+            } else if (contentHash == null && photoRepository.existsByFilePath(deletion.getFilePath())) {
+                // 경로로만 예약된 파일은 참조가 없어질 때까지 미룸
+                deferred.add(deletion);
+            } else {
+                byStorage.computeIfAbsent(photoStorages.forPath(deletion.getFilePath()), storage -> new ArrayList<>())
+                        .add(deletion);
+            }
+        }
+
+        // 저장소별로 한 번에 삭제 (GCS는 배치 요청, 로컬은 병렬 삭제, 이미 없는 파일은 완료로 처리)
+        byStorage.forEach((storage, deletions) -> {
+            Map<String, String> failures;
+            try {
+                failures = storage.deleteAll(deletions.stream()
+                        .map(PhotoFileDeletion::getFilePath)
+                        .collect(Collectors.toList()));
+            } catch (Exception e) {
+                deletions.forEach(deletion -> errors.put(deletion, String.valueOf(e.getMessage())));
+                return;
+            }
+            for (PhotoFileDeletion deletion : deletions) {
+                String failure = failures.get(deletion.getFilePath());
+                if (failure != null) {
+                    errors.put(deletion, failure);
+                } else {
+                    done.add(deletion);
+                    deletedCounter.increment();
+                }
+            }
+        });
+
+        deletionRepository.deleteAllInBatch(done);
+
+        if (!deferred.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            deferred.forEach(deletion ->
+                    deletion.recordFailure("사진이 참조 중인 파일", now.plusSeconds(backoffSeconds(deletion.getAttempts()))));
+            deletionRepository.saveAll(deferred);
+        }
+
+        if (!errors.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            errors.forEach((deletion, error) ->
+                    deletion.recordFailure(error, now.plusSeconds(backoffSeconds(deletion.getAttempts()))));
+            deletionRepository.saveAll(errors.keySet());
+            failedCounter.increment(errors.size());
+            log.warn("사진 파일 삭제 실패 {}건, 재시도 예정: {}", errors.size(), errors.values().iterator().next());
+        }
+        log.debug("사진 파일 삭제 완료: {}건", done.size());
+    }
+
+    /**
+     * 재시도 대기 시간 (시도마다 2배, 최대값 제한)
+     */
+    private long backoffSeconds(int attempts) {
+        long backoff = retryBaseSeconds << Math.min(attempts, 20);
+        return Math.min(backoff, retryMaxSeconds);
+    }
+}
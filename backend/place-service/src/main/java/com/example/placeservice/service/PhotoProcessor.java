@@ -0,0 +1,338 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.entity.Photo;
+import com.example.placeservice.entity.PhotoStatus;
+import com.example.placeservice.repository.PhotoRepository;
+import net.coobird.thumbnailator.Thumbnails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 사진 후처리기 (비동기)
+ * 업로드 요청은 원본만 저장하고 PROCESSING 상태로 응답하며,
+ * 리사이즈/JPEG 변환/썸네일 및 변형 생성은 고정 크기 작업 풀에서 처리한다.
+ * 처리 대상은 로컬 저장소 파일뿐이므로 경로는 LocalPhotoStorage로 해석한다.
+ * 큐가 가득 차거나 실패한 사진은 주기적으로 다시 시도하고, 최대 횟수를 넘으면 FAILED로 둔다.
+ */
+@Component
+public class PhotoProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(PhotoProcessor.class);
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private ImageVariantGenerator variantGenerator;
+
+    @Autowired
+    private PhotoFileDeleter photoFileDeleter;
+
+    @Autowired
+    private PlaceCacheEvictor placeCacheEvictor;
+
+    @Autowired
+    private LocalPhotoStorage localPhotoStorage;
+
+    @Value("${app.upload.image.max-width:1920}") // 이미지 최대 너비
+    private int maxImageWidth;
+
+    @Value("${app.upload.image.max-height:1080}") // 이미지 최대 높이
+    private int maxImageHeight;
+
+    @Value("${app.upload.image.quality:0.8}") // 이미지 품질 (0.0 ~ 1.0)
+    private double imageQuality;
+
+    @Value("${app.upload.thumbnail.size:300}") // 썸네일 크기
+    private int thumbnailSize;
+
+    @Value("${app.upload.processing.threads:2}") // 이미지 처리 작업 스레드 수
+    private int threads;
+
+    @Value("${app.upload.processing.queue-capacity:100}") // 처리 대기열 크기
+    private int queueCapacity;
+
+    @Value("${app.upload.processing.max-attempts:3}") // 최대 처리 시도 횟수
+    private int maxAttempts;
+
+    private ThreadPoolExecutor executor;
+
+    // 대기열에 들어간 사진 (중복 제출 방지)
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> attempts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "photo-processor-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 끝나지 않은 사진은 PROCESSING으로 남아 재시작 후 다시 처리된다
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 사진 처리 요청
+     *
+     * @return 대기열에 들어갔으면 true, 가득 차서 거절되면 false (재처리 주기에 다시 시도)
+     */
+    public boolean submit(Long photoId) {
+        if (!queued.add(photoId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> run(photoId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            queued.remove(photoId);
+            log.warn("사진 처리 대기열이 가득 차 나중에 처리합니다: photoId={}", photoId);
+            return false;
+        }
+    }
+
+    /**
+     * 처리 대기 중인 사진 재제출 (대기열 초과, 처리 실패, 재시작 대비)
+     */
+    @Scheduled(fixedDelayString = "${app.upload.processing.retry-interval-ms:30000}")
+    public void resubmitPending() {
+        List<Photo> pending = photoRepository.findTop100ByStatusOrderByIdAsc(PhotoStatus.PROCESSING);
+        for (Photo photo : pending) {
+            if (!queued.contains(photo.getId()) && !submit(photo.getId())) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 대기열 상태 조회
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    private void run(Long photoId) {
+        try {
+            Photo photo = photoRepository.findById(photoId).orElse(null);
+            if (photo == null || photo.getStatus() != PhotoStatus.PROCESSING) {
+                attempts.remove(photoId);
+                return;
+            }
+            if (!reuseProcessed(photo)) {
+                process(photo);
+            }
+            attempts.remove(photoId);
+        } catch (Exception e) {
+            int attempt = attempts.merge(photoId, 1, Integer::sum);
+            if (attempt >= maxAttempts) {
+                attempts.remove(photoId);
+                markFailed(photoId);
+                log.warn("사진 처리 실패, 원본을 그대로 사용합니다: photoId={}, {}", photoId, e.getMessage());
+            } else {
+                log.warn("사진 처리 실패, 다시 시도합니다 ({}/{}): photoId={}, {}", attempt, maxAttempts, photoId, e.getMessage());
+            }
+        } finally {
+            queued.remove(photoId);
+        }
+    }
+
+    /**
+     * 같은 내용(해시)의 사진이 이미 처리되었거나 처리 중이면 다시 처리하지 않음
+     *
+     * @return 처리를 건너뛰었으면 true
+     */
+    private boolean reuseProcessed(Photo photo) {
+        String contentHash = photo.getContentHash();
+        if (contentHash == null) {
+            return false;
+        }
+        Photo processed = photoRepository.findFirstByContentHashAndStatusOrderByIdAsc(contentHash, PhotoStatus.READY)
+                .orElse(null);
+        if (processed != null) {
+            int updated = photoRepository.completeProcessing(photo.getId(), contentHash, processed.getFilePath(), processed.getFileSize(),
+                    processed.getContentType(), processed.getWidth(), processed.getHeight(),
+                    processed.getVariantWidths(), processed.getVariantFormats(), PhotoStatus.READY, PhotoStatus.PROCESSING);
+            if (updated > 0) {
+                evictPlaceDetails(photo.getId());
+            }
+            return true;
+        }
+        // 먼저 저장된 사진을 처리하면서 함께 반영됨
+        return photoRepository.existsByContentHashAndStatusAndIdLessThan(contentHash, PhotoStatus.PROCESSING, photo.getId());
+    }
+
+    /**
+     * 리사이즈 후 JPEG로 저장하고 썸네일과 너비별 변형 생성
+     * 썸네일과 변형은 리사이즈된 이미지에서 만들어 원본은 한 번만 디코딩한다.
+     */
+    private void process(Photo photo) throws IOException {
+        String originalPath = photo.getFilePath();
+        Path source = localPhotoStorage.resolve(originalPath);
+
+        BufferedImage image = readSubsampled(source, maxImageWidth, maxImageHeight);
+        if (image == null) {
+            // 디코딩할 수 없는 형식은 원본 그대로 사용
+            complete(photo, originalPath, Files.size(source), photo.getContentType(), null, null, null, null, List.of());
+            return;
+        }
+
+        // 처리 결과는 항상 원본과 다른 경로에 저장 (같은 URL의 내용이 바뀌지 않아야 장기 캐시 가능)
+        String jpgPath = ImageVariantGenerator.processedPath(originalPath);
+        Path target = localPhotoStorage.resolve(jpgPath);
+        Path temp = localPhotoStorage.resolve(jpgPath.replaceAll("\\.jpg$", "") + "_processing.jpg");
+
+        BufferedImage resized = Thumbnails.of(image)
+                .size(maxImageWidth, maxImageHeight)
+                .asBufferedImage();
+        image.flush();
+        Thumbnails.of(resized)
+                .scale(1.0)
+                .outputQuality(imageQuality)
+                .outputFormat("jpg")
+                .toFile(temp.toFile());
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+
+        String thumbPath = ImageVariantGenerator.thumbnailPath(jpgPath);
+        try {
+            Thumbnails.of(resized)
+                    .size(thumbnailSize, thumbnailSize)
+                    .outputQuality(imageQuality)
+                    .outputFormat("jpg")
+                    .toFile(localPhotoStorage.resolve(thumbPath).toFile());
+        } catch (IOException e) {
+            // 썸네일 생성 실패해도 계속 진행
+            log.warn("썸네일 생성 실패: photoId={}, {}", photo.getId(), e.getMessage());
+        }
+
+        List<Integer> variantWidths = variantGenerator.generate(resized, target);
+        String widths = variantWidths.stream().map(String::valueOf).collect(Collectors.joining(","));
+        String formats = variantGenerator.getFormats();
+
+        List<String> generated = new ArrayList<>(ImageVariantGenerator.variantPaths(jpgPath, widths, formats));
+        generated.add(thumbPath);
+        if (complete(photo, jpgPath, Files.size(target), "image/jpeg",
+                resized.getWidth(), resized.getHeight(), widths, formats, generated)) {
+            // 사진이 처리본을 가리키게 된 뒤에만 원본 삭제 예약 (실패 시 원본으로 계속 제공)
+            photoFileDeleter.enqueueFile(originalPath);
+        }
+    }
+
+    /**
+     * 출력 크기에 맞춰 서브샘플링하여 디코딩
+     * 원본 해상도가 출력 상한의 n배 이상이면 n픽셀마다 한 픽셀만 읽어 전체 해상도 래스터를 만들지 않는다.
+     *
+     * @return 디코딩한 이미지, 지원하지 않는 형식이면 null
+     */
+    static BufferedImage readSubsampled(Path source, int maxWidth, int maxHeight) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // 서브샘플링 후에도 출력 크기 이상이 되도록 내림
+                double ratio = Math.max((double) width / maxWidth, (double) height / maxHeight);
+                int step = Math.max(1, (int) Math.floor(ratio));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 처리 결과 반영
+     *
+     * @return 사진이 처리 결과를 가리키게 되었으면 true, 처리 중 삭제되었으면 false
+     */
+    private boolean complete(Photo photo, String filePath, long fileSize, String contentType,
+                             Integer width, Integer height, String variantWidths, String variantFormats,
+                             List<String> generatedPaths) throws IOException {
+        int updated = photoRepository.completeProcessing(photo.getId(), photo.getContentHash(), filePath, fileSize, contentType,
+                width, height, variantWidths, variantFormats, PhotoStatus.READY, PhotoStatus.PROCESSING);
+        if (updated == 0) {
+            // 처리 중 사진이 삭제된 경우 생성한 파일 정리
+            if (!filePath.equals(photo.getFilePath())) {
+                Files.deleteIfExists(localPhotoStorage.resolve(filePath));
+            }
+            for (String generatedPath : generatedPaths) {
+                Files.deleteIfExists(localPhotoStorage.resolve(generatedPath));
+            }
+            log.debug("처리 중 삭제된 사진의 파일 정리: photoId={}", photo.getId());
+            return false;
+        }
+        evictPlaceDetails(photo.getId());
+        return true;
+    }
+
+    /**
+     * 처리 완료된 사진이 보이도록 소속 장소의 상세 캐시 제거
+     */
+    private void evictPlaceDetails(Long photoId) {
+        photoRepository.findOwningPlaceId(photoId).ifPresent(placeCacheEvictor::evictPlaceDetails);
+    }
+
+    private void markFailed(Long photoId) {
+        photoRepository.findById(photoId).ifPresent(photo -> {
+            try {
+                int updated = photoRepository.completeProcessing(photoId, photo.getContentHash(), photo.getFilePath(), photo.getFileSize(),
+                        photo.getContentType(), null, null, null, null, PhotoStatus.FAILED, PhotoStatus.PROCESSING);
+                if (updated > 0) {
+                    evictPlaceDetails(photoId);
+                }
+            } catch (Exception e) {
+                log.warn("사진 실패 상태 저장 실패: photoId={}, {}", photoId, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.placeservice.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사진 파일 저장소
+ * 업로드/삭제 로직은 저장소 종류(로컬, GCS, 메모리)를 알지 못하고 이 인터페이스만 사용한다.
+ * 파일은 Photo.filePath에 저장되는 경로(저장소별 형식)로 식별한다.
+ * 구현 선택과 경로별 저장소 조회는 PhotoStorageRegistry가 담당한다.
+ */
+public interface PhotoStorage {
+
+    /**
+     * 저장소 이름 (메트릭 태그용)
+     */
+    String getName();
+
+    /**
+     * 이 저장소에 저장된 파일 경로인지 확인
+     */
+    boolean contains(String filePath);
+
+    /**
+     * 파일 저장 (스트리밍, 내용 전체를 힙에 올리지 않음)
+     * 받는 동안 내용 해시(SHA-256)를 계산해 해시 + 확장자를 파일명으로 쓴다.
+     * 같은 이름의 파일이 이미 있으면 받은 내용은 버리고 기존 파일을 가리킨다.
+     *
+     * @param extension 파일 확장자 (소문자, 점 제외)
+     * @param content 저장할 내용
+     * @param size 내용 크기 (바이트)
+     * @param contentType 파일 형식
+     * @return 저장된 파일 경로(Photo.filePath)와 내용 해시
+     */
+    StoredFile put(String extension, InputStream content, long size, String contentType) throws IOException;
+
+    /**
+     * 내용 해시를 미리 알고 있는 파일 저장 (업로드 임시 파일로 중복 여부를 먼저 확인한 경우)
+     * 기본 구현은 받으면서 해시를 다시 계산한다. 임시 이름으로 올린 뒤 옮겨야 하는 저장소는
+     * 해시로 바로 최종 이름에 저장하도록 재정의한다.
+     *
+     * @param contentHash 내용 해시 (SHA-256, 16진수)
+     */
+    default StoredFile put(String extension, InputStream content, long size, String contentType,
+                           String contentHash) throws IOException {
+        return put(extension, content, size, contentType);
+    }
+
+    /**
+     * 파일 읽기 스트림 열기 (/uploads/**로 제공할 때 사용)
+     *
+     * @throws java.nio.file.NoSuchFileException 파일이 없는 경우
+     */
+    InputStream open(String filePath) throws IOException;
+
+    /**
+     * 파일 크기 조회
+     *
+     * @return 파일 크기 (바이트), 없으면 -1
+     */
+    long size(String filePath) throws IOException;
+
+    /**
+     * 여러 파일 삭제 (이미 없는 파일은 삭제된 것으로 처리)
+     *
+     * @return 삭제에 실패한 경로별 오류 메시지 (모두 성공하면 빈 Map)
+     * @throws IOException 요청 자체가 실패한 경우
+     */
+    Map<String, String> deleteAll(List<String> filePaths) throws IOException;
+
+    /**
+     * 클라이언트에 그대로 제공할 URL (/uploads/**로 제공하는 저장소는 null)
+     */
+    String getPublicUrl(String filePath);
+
+    /**
+     * PhotoProcessor로 리사이즈/썸네일/변형을 생성할 수 있는지 (업로드 디렉토리에 저장되는지)
+     */
+    boolean supportsProcessing();
+
+    /**
+     * 내용 해시 계산기 (SHA-256)
+     */
+    static MessageDigest newContentDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 계산이 끝난 내용 해시 (16진수)
+     */
+    static String contentHashOf(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 내용 해시 기반 파일명 (해시 + 확장자)
+     */
+    static String storedNameOf(String contentHash, String extension) {
+        return extension == null || extension.isEmpty() ? contentHash : contentHash + "." + extension;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.placeservice.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사진 저장소 선택/조회
+ * 새 파일은 기본 저장소(메모리 > GCS > 로컬 순으로 활성화된 것)에 저장하고,
+ * 기존 파일은 경로로 저장소를 찾는다. 모든 저장소는 메트릭 데코레이터로 감싼다.
+ */
+@Component
+public class PhotoStorageRegistry {
+
+    @Autowired
+    private LocalPhotoStorage localPhotoStorage;
+
+    @Autowired(required = false)
+    private GcsPhotoStorage gcsPhotoStorage;
+
+    @Autowired(required = false)
+    private InMemoryPhotoStorage inMemoryPhotoStorage;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private PhotoStorage local;
+    private PhotoStorage primary;
+    private final List<PhotoStorage> storages = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        if (inMemoryPhotoStorage != null) {
+            storages.add(new MeteredPhotoStorage(inMemoryPhotoStorage, meterRegistry));
+        }
+        if (gcsPhotoStorage != null) {
+            storages.add(new MeteredPhotoStorage(gcsPhotoStorage, meterRegistry));
+        }
+        // 로컬은 경로 형식이 가장 넓으므로 마지막에 확인
+        local = new MeteredPhotoStorage(localPhotoStorage, meterRegistry);
+        storages.add(local);
+        primary = storages.get(0);
+    }
+
+    /**
+     * 새 파일을 저장할 기본 저장소
+     */
+    public PhotoStorage primary() {
+        return primary;
+    }
+
+    /**
+     * 로컬 저장소 (기본 저장소 실패 시 fallback)
+     */
+    public PhotoStorage local() {
+        return local;
+    }
+
+    /**
+     * 파일 경로가 속한 저장소
+     */
+    public PhotoStorage forPath(String filePath) {
+        for (PhotoStorage storage : storages) {
+            if (storage.contains(filePath)) {
+                return storage;
+            }
+        }
+        return local;
+    }
+}
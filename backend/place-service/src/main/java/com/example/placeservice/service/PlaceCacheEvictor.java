@@ -0,0 +1,84 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 장소/카테고리 캐시 무효화
+ * 쓰기 트랜잭션이 커밋된 뒤에 무효화해 커밋 전 데이터가 다시 캐시되지 않게 한다.
+ * 장소 목록이 바뀌는 변경은 직렬화된 응답 캐시의 버전도 올린다.
+ */
+@Component
+public class PlaceCacheEvictor {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private SerializedResponseCache responseCache;
+
+    /**
+     * 카테고리 변경 (장소 DTO에 카테고리 정보가 포함되므로 장소 캐시도 모두 무효화)
+     */
+    public void evictCategories() {
+        afterCommit(() -> {
+            clear(CacheConfig.CATEGORIES);
+            clear(CacheConfig.CATEGORIES_WITH_COUNT);
+            clear(CacheConfig.PLACE_DETAILS);
+            CacheConfig.PLACE_LISTS.forEach(this::clear);
+            responseCache.bump();
+        });
+    }
+
+    /**
+     * 장소 변경 (해당 장소 상세, 장소 목록, 카테고리별 장소 개수)
+     */
+    public void evictPlace(Long placeId) {
+        afterCommit(() -> {
+            Cache details = cacheManager.getCache(CacheConfig.PLACE_DETAILS);
+            if (details != null) {
+                details.evict(placeId);
+            }
+            CacheConfig.PLACE_LISTS.forEach(this::clear);
+            clear(CacheConfig.CATEGORIES_WITH_COUNT);
+            responseCache.bump();
+        });
+    }
+
+    /**
+     * 장소 상세만 변경 (사진 등 목록에 나오지 않는 정보)
+     */
+    public void evictPlaceDetails(Long placeId) {
+        afterCommit(() -> {
+            Cache details = cacheManager.getCache(CacheConfig.PLACE_DETAILS);
+            if (details != null) {
+                details.evict(placeId);
+            }
+        });
+    }
+
+    private void clear(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.entity.Place;
+import com.example.placeservice.repository.PlaceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장소 위치 인덱스 (메모리 격자)
+ * 위도/경도를 고정 크기 셀로 나누어 활성 장소를 보관하고,
+ * 반경 검색 시 바운딩 셀만 훑은 뒤 정확한 거리를 계산한다.
+ */
+@Component
+public class PlaceGeoIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceGeoIndex.class);
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    private static final long NO_CATEGORY = -1L;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Value("${app.geo-index.cell-size-deg:0.02}") // 셀 크기 (약 2km)
+    private double cellSizeDeg;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 슬롯별 장소 정보 (병렬 primitive 배열)
+    private long[] ids = new long[0];
+    private double[] latitudes = new double[0];
+    private double[] longitudes = new double[0];
+    private long[] categoryIds = new long[0];
+    private long[] cellKeys = new long[0];
+    private int slotCount = 0;
+
+    // 재사용 가능한 빈 슬롯
+    private int[] freeSlots = new int[0];
+    private int freeCount = 0;
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Map<Long, IntBag> cells = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 활성 장소 좌표 로드
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            List<Object[]> rows = placeRepository.findActiveCoordinates();
+            int cellCount;
+            lock.writeLock().lock();
+            try {
+                clear(rows.size());
+                for (Object[] row : rows) {
+                    insert((Long) row[0], toDouble(row[1]), toDouble(row[2]), (Long) row[3]);
+                }
+                cellCount = cells.size();
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("장소 위치 인덱스 로드 완료: {}건, 셀 {}개", rows.size(), cellCount);
+        } catch (Exception e) {
+            ready = false;
+            log.warn("장소 위치 인덱스 로드 실패, DB 검색으로 대체합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 장소 추가/갱신 (비활성 또는 좌표가 없으면 제거)
+     */
+    public void put(Place place) {
+        if (place.getId() == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(place.getIsActive())
+                || place.getLatitude() == null || place.getLongitude() == null) {
+            remove(place.getId());
+            return;
+        }
+        Long categoryId = place.getCategory() != null ? place.getCategory().getId() : null;
+
+        lock.writeLock().lock();
+        try {
+            removeSlot(place.getId());
+            insert(place.getId(), place.getLatitude().doubleValue(), place.getLongitude().doubleValue(), categoryId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 장소 제거
+     */
+    public void remove(Long placeId) {
+        if (placeId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeSlot(placeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 내 장소 ID 조회 (가까운 순)
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 반경 (km)
+     * @param categoryId 카테고리 필터 (null이면 전체)
+     * @return 거리순으로 정렬된 장소 ID 목록
+     */
+    public List<Long> findNearby(double latitude, double longitude, double radiusKm, Long categoryId) {
+        double latDelta = radiusKm / KM_PER_DEGREE_LAT;
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        double lngDelta = radiusKm / (KM_PER_DEGREE_LAT * cosLat);
+
+        // 위도는 [-90, 90]으로 자르고, 경도 범위가 ±180을 넘으면(날짜변경선, 극지방, 큰 반경) 전체 셀을 훑는다
+        int minLatCell = cellOf(Math.max(latitude - latDelta, -90.0));
+        int maxLatCell = cellOf(Math.min(latitude + latDelta, 90.0));
+        boolean wrapsLongitude = longitude - lngDelta < -180.0 || longitude + lngDelta > 180.0;
+        int minLngCell = cellOf(Math.max(longitude - lngDelta, -180.0));
+        int maxLngCell = cellOf(Math.min(longitude + lngDelta, 180.0));
+        long rectCells = (long) (maxLatCell - minLatCell + 1) * (maxLngCell - minLngCell + 1);
+
+        Hits hits = new Hits();
+
+        lock.readLock().lock();
+        try {
+            if (wrapsLongitude || rectCells > cells.size()) {
+                // 바운딩 셀 수가 실제 점유 셀보다 많으면 점유 셀만 순회
+                for (IntBag bag : cells.values()) {
+                    collect(bag, latitude, longitude, radiusKm, categoryId, hits);
+                }
+            } else {
+                for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                    for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                        IntBag bag = cells.get(cellKey(latCell, lngCell));
+                        if (bag != null) {
+                            collect(bag, latitude, longitude, radiusKm, categoryId, hits);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Integer[] order = new Integer[hits.count];
+        for (int i = 0; i < hits.count; i++) {
+            order[i] = i;
+        }
+        final double[] distances = hits.distances;
+        Arrays.sort(order, (a, b) -> Double.compare(distances[a], distances[b]));
+
+        List<Long> result = new ArrayList<>(hits.count);
+        for (Integer index : order) {
+            result.add(hits.ids[index]);
+        }
+        return result;
+    }
+
+    /**
+     * 인덱스 크기 조회
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 좌표 사이의 거리 (km, haversine)
+     */
+    static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private void collect(IntBag bag, double latitude, double longitude, double radiusKm, Long categoryId, Hits hits) {
+        for (int i = 0; i < bag.size; i++) {
+            int slot = bag.items[i];
+            if (categoryId != null && categoryIds[slot] != categoryId) {
+                continue;
+            }
+            double distance = haversine(latitude, longitude, latitudes[slot], longitudes[slot]);
+            if (distance <= radiusKm) {
+                hits.add(ids[slot], distance);
+            }
+        }
+    }
+
+    private void clear(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        ids = new long[capacity];
+        latitudes = new double[capacity];
+        longitudes = new double[capacity];
+        categoryIds = new long[capacity];
+        cellKeys = new long[capacity];
+        slotCount = 0;
+        freeSlots = new int[0];
+        freeCount = 0;
+        slotById.clear();
+        cells.clear();
+    }
+
+    private void insert(Long id, double latitude, double longitude, Long categoryId) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == ids.length) {
+                grow();
+            }
+            slot = slotCount++;
+        }
+
+        long key = cellKey(cellOf(latitude), cellOf(longitude));
+        ids[slot] = id;
+        latitudes[slot] = latitude;
+        longitudes[slot] = longitude;
+        categoryIds[slot] = categoryId != null ? categoryId : NO_CATEGORY;
+        cellKeys[slot] = key;
+
+        slotById.put(id, slot);
+        cells.computeIfAbsent(key, k -> new IntBag()).add(slot);
+    }
+
+    private void removeSlot(Long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        IntBag bag = cells.get(cellKeys[slot]);
+        if (bag != null) {
+            bag.remove(slot);
+            if (bag.size == 0) {
+                cells.remove(cellKeys[slot]);
+            }
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(8, freeCount * 2));
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+        categoryIds = Arrays.copyOf(categoryIds, capacity);
+        cellKeys = Arrays.copyOf(cellKeys, capacity);
+    }
+
+    private int cellOf(double degree) {
+        return (int) Math.floor(degree / cellSizeDeg);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof BigDecimal ? ((BigDecimal) value).doubleValue() : ((Number) value).doubleValue();
+    }
+
+    /**
+     * 반경 검색 결과 (ID, 거리 병렬 배열)
+     */
+    private static final class Hits {
+        private long[] ids = new long[16];
+        private double[] distances = new double[16];
+        private int count = 0;
+
+        void add(long id, double distance) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+                distances = Arrays.copyOf(distances, count * 2);
+            }
+            ids[count] = id;
+            distances[count] = distance;
+            count++;
+        }
+    }
+
+    /**
+     * 셀에 속한 슬롯 목록 (int 가변 배열)
+     */
+    private static final class IntBag {
+        private int[] items = new int[4];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        void remove(int value) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == value) {
+                    items[i] = items[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.repository.PlaceRepository;
+import com.example.placeservice.repository.ReviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장소 평점 집계 정합성 검증
+ * 리뷰 작성/수정/삭제 시 증분으로 갱신되는 집계값을 리뷰 테이블 기준으로 주기적으로 검증하고,
+ * 어긋난 장소만 다시 기록한다.
+ */
+@Component
+public class PlaceRatingReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceRatingReconciler.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    /**
+     * 시작 시 1회 검증 (집계 컬럼이 비어 있는 기존 데이터 보정)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * 전체 장소 평점 집계 검증
+     */
+    @Scheduled(cron = "${app.rating.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long lastId = 0L;
+        int checked = 0;
+        int fixed = 0;
+
+        try {
+            while (true) {
+                // 저장된 값을 먼저 읽어야 그 사이 반영된 증분을 덮어쓰지 않는다
+                List<Object[]> stored = placeRepository.findRatingStatsAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+                if (stored.isEmpty()) {
+                    break;
+                }
+
+                List<Long> placeIds = new ArrayList<>(stored.size());
+                for (Object[] row : stored) {
+                    placeIds.add((Long) row[0]);
+                }
+                Map<Long, Object[]> actualById = new HashMap<>();
+                for (Object[] row : reviewRepository.aggregateRatingsByPlaceIds(placeIds)) {
+                    actualById.put((Long) row[0], row);
+                }
+
+                for (Object[] row : stored) {
+                    Long placeId = (Long) row[0];
+                    Object[] actual = actualById.get(placeId);
+                    if (!matches(row, actual)) {
+                        fixed += overwrite(placeId, row, actual);
+                    }
+                }
+
+                checked += stored.size();
+                lastId = placeIds.get(placeIds.size() - 1);
+            }
+            log.info("장소 평점 집계 검증 완료: {}건 검사, {}건 보정", checked, fixed);
+        } catch (Exception e) {
+            log.warn("장소 평점 집계 검증 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean matches(Object[] stored, Object[] actual) {
+        if (toInt(stored[1]) != (actual != null ? toInt(actual[1]) : 0)) {
+            return false;
+        }
+        if (toDecimal(stored[2]).compareTo(actual != null ? toDecimal(actual[2]) : BigDecimal.ZERO) != 0) {
+            return false;
+        }
+        for (int i = 3; i <= 7; i++) {
+            if (toInt(stored[i]) != (actual != null ? toInt(actual[i]) : 0)) {
+                return false;
+            }
+        }
+        return stored[1] != null && stored[2] != null;
+    }
+
+    private int overwrite(Long placeId, Object[] stored, Object[] actual) {
+        int count = actual != null ? toInt(actual[1]) : 0;
+        BigDecimal sum = actual != null ? toDecimal(actual[2]) : BigDecimal.ZERO;
+        BigDecimal average = count > 0
+                ? sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        int updated = placeRepository.overwriteRatingStats(placeId, count, sum, average,
+                actual != null ? toInt(actual[3]) : 0,
+                actual != null ? toInt(actual[4]) : 0,
+                actual != null ? toInt(actual[5]) : 0,
+                actual != null ? toInt(actual[6]) : 0,
+                actual != null ? toInt(actual[7]) : 0,
+                toInt(stored[1]), toDecimal(stored[2]));
+        if (updated > 0) {
+            log.info("장소 평점 집계 보정: placeId={}, reviewCount {} -> {}", placeId, stored[1], count);
+        }
+        return updated;
+    }
+
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+}
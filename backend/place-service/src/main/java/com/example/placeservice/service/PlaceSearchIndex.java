@@ -0,0 +1,525 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.dto.PlaceSuggestionDto;
+import com.example.placeservice.entity.Place;
+import com.example.placeservice.repository.PlaceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 장소 검색 인덱스 (메모리 역색인)
+ * 장소 이름/주소를 1~3글자 n-gram으로, 이름은 초성 n-gram과 접두어로도 색인한다.
+ * n-gram 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인하고,
+ * 일치 정도와 인기도(조회수, 평점)를 합산해 정렬한다.
+ */
+@Component
+public class PlaceSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaceSearchIndex.class);
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int MAX_GRAM = 3;
+    private static final int MAX_PREFIX = 12;
+
+    // 색인 키 구분자
+    private static final String TEXT_KEY = "t:";
+    private static final String CHOSEONG_KEY = "c:";
+    private static final String PREFIX_KEY = "p:";
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Document> documents = new HashMap<>();
+    private Map<String, Set<Long>> postings = new HashMap<>();
+
+    // 재구성 중 반영된 변경 (재구성 완료 후 다시 적용, null이면 삭제)
+    private final Map<Long, Document> changesDuringRebuild = new HashMap<>();
+    private boolean rebuilding = false;
+
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 색인 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * 주기적으로 색인 재구성 (인기도 갱신)
+     */
+    @Scheduled(cron = "${app.search-index.rebuild-cron:0 0 * * * *}")
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changesDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            List<Object[]> rows = placeRepository.findSearchDocuments();
+            Map<Long, Document> newDocuments = new HashMap<>(rows.size() * 2);
+            Map<String, Set<Long>> newPostings = new HashMap<>();
+            for (Object[] row : rows) {
+                Document document = new Document((Long) row[0], (String) row[1], (String) row[2], (Long) row[3],
+                        popularity((Long) row[4], (BigDecimal) row[5], (Integer) row[6]));
+                insert(newDocuments, newPostings, document);
+            }
+
+            lock.writeLock().lock();
+            try {
+                documents = newDocuments;
+                postings = newPostings;
+                changesDuringRebuild.forEach((id, document) -> {
+                    delete(documents, postings, id);
+                    if (document != null) {
+                        insert(documents, postings, document);
+                    }
+                });
+                ready = true;
+            } finally {
+                rebuilding = false;
+                changesDuringRebuild.clear();
+                lock.writeLock().unlock();
+            }
+            log.info("장소 검색 인덱스 구성 완료: {}건, 키 {}개", newDocuments.size(), newPostings.size());
+        } catch (Exception e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                changesDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("장소 검색 인덱스 구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 장소 추가/갱신 (비활성이면 제거)
+     */
+    public void put(Place place) {
+        if (place.getId() == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(place.getIsActive())) {
+            remove(place.getId());
+            return;
+        }
+        Document document = new Document(place.getId(), place.getName(), place.getAddress(),
+                place.getCategory() != null ? place.getCategory().getId() : null,
+                popularity(place.getViewCount(), place.getAverageRating(), place.getReviewCount()));
+
+        lock.writeLock().lock();
+        try {
+            delete(documents, postings, document.id);
+            insert(documents, postings, document);
+            if (rebuilding) {
+                changesDuringRebuild.put(document.id, document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 장소 제거
+     */
+    public void remove(Long placeId) {
+        if (placeId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            delete(documents, postings, placeId);
+            if (rebuilding) {
+                changesDuringRebuild.put(placeId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드로 장소 검색 (관련도 순, 한 페이지)
+     * 초성(예: "ㅅㅌㅂㅅ")이나 마지막 글자가 자음인 입력(예: "스타벅ㅅ")도 처리한다.
+     * 일치하는 장소 전체를 정렬해 요청한 구간만 돌려주므로 결과 수 제한 없이 전체 건수를 알 수 있다.
+     *
+     * @param keyword 검색어
+     * @param categoryId 카테고리 필터 (null이면 전체)
+     * @param offset 건너뛸 결과 수
+     * @param limit 최대 결과 수
+     * @return 해당 구간의 장소 ID 목록과 전체 일치 건수
+     */
+    public Result search(String keyword, Long categoryId, long offset, int limit) {
+        String query = compact(keyword);
+        if (query.isEmpty()) {
+            return new Result(new ArrayList<>(), 0);
+        }
+        boolean hasJamo = containsConsonantJamo(query);
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = hasJamo
+                    ? intersect(CHOSEONG_KEY, grams(toChoseong(query)))
+                    : intersect(TEXT_KEY, grams(query));
+
+            List<Document> matches = new ArrayList<>();
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long id : candidates) {
+                Document document = documents.get(id);
+                if (document == null || (categoryId != null && !categoryId.equals(document.categoryId))) {
+                    continue;
+                }
+                double matchScore = matchScore(document, query, hasJamo);
+                if (matchScore > 0) {
+                    matches.add(document);
+                    scores.put(id, matchScore + document.popularity);
+                }
+            }
+
+            matches.sort(Comparator.comparingDouble((Document document) -> scores.get(document.id)).reversed()
+                    .thenComparing(document -> document.id, Comparator.reverseOrder()));
+
+            int from = (int) Math.min(offset, matches.size());
+            int to = Math.min(from + limit, matches.size());
+            List<Long> placeIds = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                placeIds.add(matches.get(i).id);
+            }
+            return new Result(placeIds, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 장소 이름 자동완성 (접두어, 인기도 순)
+     * 이름의 각 단어 접두어와 초성 접두어를 모두 지원한다.
+     */
+    public List<PlaceSuggestionDto> autocomplete(String prefix, Long categoryId, int limit) {
+        String key = compact(prefix);
+        if (key.isEmpty() || key.length() > MAX_PREFIX) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = postings.get(PREFIX_KEY + key);
+            if (ids == null) {
+                return new ArrayList<>();
+            }
+
+            List<Document> top = new ArrayList<>(limit + 1);
+            Comparator<Document> byPopularity = Comparator.comparingDouble((Document document) -> document.popularity)
+                    .reversed();
+            for (Long id : ids) {
+                Document document = documents.get(id);
+                if (document == null || (categoryId != null && !categoryId.equals(document.categoryId))) {
+                    continue;
+                }
+                if (top.size() < limit || byPopularity.compare(document, top.get(top.size() - 1)) < 0) {
+                    int position = 0;
+                    while (position < top.size() && byPopularity.compare(top.get(position), document) <= 0) {
+                        position++;
+                    }
+                    top.add(position, document);
+                    if (top.size() > limit) {
+                        top.remove(top.size() - 1);
+                    }
+                }
+            }
+
+            List<PlaceSuggestionDto> suggestions = new ArrayList<>(top.size());
+            for (Document document : top) {
+                suggestions.add(new PlaceSuggestionDto(document.id, document.name, document.address, document.categoryId));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스 크기 조회
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void insert(Map<Long, Document> documents, Map<String, Set<Long>> postings, Document document) {
+        documents.put(document.id, document);
+        for (String key : document.keys) {
+            postings.computeIfAbsent(key, k -> new HashSet<>()).add(document.id);
+        }
+    }
+
+    private static void delete(Map<Long, Document> documents, Map<String, Set<Long>> postings, Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String key : document.keys) {
+            Set<Long> ids = postings.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어 n-gram의 게시 목록 교집합 (작은 목록부터)
+     */
+    private Set<Long> intersect(String keyType, Set<String> queryGrams) {
+        List<Set<Long>> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(keyType + gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        if (lists.isEmpty()) {
+            return Set.of();
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 일치 정도 점수 (0이면 불일치)
+     */
+    private static double matchScore(Document document, String query, boolean hasJamo) {
+        if (hasJamo) {
+            return indexOf(document.compactName, query) >= 0 ? 30 : 0;
+        }
+        if (document.compactName.equals(query)) {
+            return 100;
+        }
+        int position = document.compactName.indexOf(query);
+        if (position == 0) {
+            return 60;
+        }
+        if (position > 0) {
+            return 40;
+        }
+        return document.compactAddress.contains(query) ? 10 : 0;
+    }
+
+    /**
+     * 자음 자모를 포함한 검색어 위치 찾기 (자음은 해당 초성으로 시작하는 글자와 일치)
+     */
+    private static int indexOf(String text, String query) {
+        for (int start = 0; start + query.length() <= text.length(); start++) {
+            int i = 0;
+            while (i < query.length() && charMatches(text.charAt(start + i), query.charAt(i))) {
+                i++;
+            }
+            if (i == query.length()) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean charMatches(char textChar, char queryChar) {
+        if (textChar == queryChar) {
+            return true;
+        }
+        return isConsonantJamo(queryChar) && choseongOf(textChar) == queryChar;
+    }
+
+    /**
+     * 인기도 점수 (조회수는 로그 스케일, 평점은 리뷰 수로 신뢰도 보정)
+     */
+    private static double popularity(Long viewCount, BigDecimal averageRating, Integer reviewCount) {
+        double views = viewCount != null ? viewCount : 0;
+        double rating = averageRating != null ? averageRating.doubleValue() : 0;
+        int reviews = reviewCount != null ? reviewCount : 0;
+        return Math.log1p(views) * 2 + rating * Math.min(reviews, 50) / 10.0;
+    }
+
+    /**
+     * 소문자 변환, 자모 결합(NFC), 공백/기호 제거
+     */
+    private static String compact(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 검색용 n-gram (길이 3 이상이면 3-gram, 그보다 짧으면 문자열 전체)
+     */
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() <= MAX_GRAM) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i + MAX_GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + MAX_GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인용 n-gram (1 ~ 3글자)
+     */
+    private static void addAllGrams(Set<String> keys, String keyType, String text) {
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                keys.add(keyType + text.substring(i, i + n));
+            }
+        }
+    }
+
+    private static String toChoseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            builder.append(choseongOf(text.charAt(i)));
+        }
+        return builder.toString();
+    }
+
+    private static char choseongOf(char c) {
+        if (c >= 0xAC00 && c <= 0xD7A3) {
+            return CHOSEONG[(c - 0xAC00) / 588];
+        }
+        return c;
+    }
+
+    private static boolean isConsonantJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    private static boolean containsConsonantJamo(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isConsonantJamo(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 검색 결과 (한 페이지의 장소 ID와 전체 일치 건수)
+     */
+    public static final class Result {
+        private final List<Long> placeIds;
+        private final long total;
+
+        public Result(List<Long> placeIds, long total) {
+            this.placeIds = placeIds;
+            this.total = total;
+        }
+
+        public List<Long> getPlaceIds() {
+            return placeIds;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+
+    /**
+     * 색인 문서
+     */
+    private static final class Document {
+        private final Long id;
+        private final String name;
+        private final String address;
+        private final String compactName;
+        private final String compactAddress;
+        private final Long categoryId;
+        private final double popularity;
+        private final Set<String> keys;
+
+        private Document(Long id, String name, String address, Long categoryId, double popularity) {
+            this.id = id;
+            this.name = name;
+            this.address = address;
+            this.compactName = compact(name);
+            this.compactAddress = compact(address);
+            this.categoryId = categoryId;
+            this.popularity = popularity;
+            this.keys = new HashSet<>();
+
+            addAllGrams(keys, TEXT_KEY, compactName);
+            addAllGrams(keys, TEXT_KEY, compactAddress);
+            addAllGrams(keys, CHOSEONG_KEY, toChoseong(compactName));
+
+            // 이름 전체와 각 단어의 접두어 (원문, 초성)
+            List<String> words = new ArrayList<>();
+            words.add(compactName);
+            if (name != null) {
+                for (String word : name.split("\\s+")) {
+                    words.add(compact(word));
+                }
+            }
+            for (String word : words) {
+                String choseong = toChoseong(word);
+                for (int length = 1; length <= Math.min(word.length(), MAX_PREFIX); length++) {
+                    keys.add(PREFIX_KEY + word.substring(0, length));
+                    keys.add(PREFIX_KEY + choseong.substring(0, length));
+                }
+            }
+        }
+    }
+}
@@ -1,20 +1,42 @@
 package com.example.placeservice.service;
 
+import com.example.placeservice.config.CacheConfig;
+import com.example.placeservice.dto.CreatedAtCursor;
+import com.example.placeservice.dto.CursorPage;
+import com.example.placeservice.dto.PhotoDto;
 import com.example.placeservice.dto.PlaceDto;
+import com.example.placeservice.dto.PlaceSuggestionDto;
+import com.example.placeservice.dto.PlaceSummary;
+import com.example.placeservice.dto.ReviewDto;
 import com.example.placeservice.entity.Category;
+import com.example.placeservice.entity.PhotoStatus;
 import com.example.placeservice.entity.Place;
 import com.example.placeservice.repository.CategoryRepository;
+import com.example.placeservice.repository.PhotoRepository;
 import com.example.placeservice.repository.PlaceRepository;
+import com.example.placeservice.repository.ReviewRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -30,27 +52,87 @@ public class PlaceService {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private PlaceGeoIndex placeGeoIndex;
+
+    @Autowired
+    private ViewCountAccumulator viewCountAccumulator;
+
+    @Autowired
+    private PlaceSearchIndex placeSearchIndex;
+
+    @Autowired
+    private PlaceCacheEvictor placeCacheEvictor;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${app.place-detail.review-limit:10}") // 상세 조회에 포함할 최신 리뷰 수 (나머지는 리뷰 API로 페이징)
+    private int detailReviewLimit;
+
+    @Value("${app.upload.max-photos-per-place:10}") // 상세 조회에 포함할 최대 사진 수
+    private int detailPhotoLimit;
+
     /**
      * 모든 활성화된 장소 조회 (페이징)
      */
     @Transactional(readOnly = true)
-    public Page<PlaceDto> getAllActivePlaces(Pageable pageable) {
-        return placeRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable)
-                .map(PlaceDto::new);
+    public Page<PlaceSummary> getAllActivePlaces(Pageable pageable) {
+        return placeRepository.findActiveSummaries(pageable);
     }
 
     /**
      * 장소 ID로 상세 조회
+     * 상세 DTO는 캐시하고, 조회수는 캐시한 이후의 증가분을 더해 복사본으로 반환한다.
      */
     @Transactional(readOnly = true)
     public Optional<PlaceDto> getPlaceById(Long id) {
-        Optional<Place> place = placeRepository.findByIdWithDetails(id);
-        if (place.isPresent()) {
-            // 조회수 증가
-            placeRepository.incrementViewCount(id);
-            return Optional.of(new PlaceDto(place.get(), true));
+        Cache cache = cacheManager.getCache(CacheConfig.PLACE_DETAILS);
+        CachedPlaceDetails cached = cache != null
+                ? cache.get(id, () -> loadPlaceDetails(id))
+                : loadPlaceDetails(id);
+        if (cached == null || cached.placeDto == null) {
+            return Optional.empty();
         }
-        return Optional.empty();
+
+        // 조회수 증가 (메모리 누적 후 주기적으로 반영)
+        viewCountAccumulator.increment(id);
+        PlaceDto placeDto = new PlaceDto(cached.placeDto);
+        placeDto.setViewCount(cached.placeDto.getViewCount() + viewCountAccumulator.getTotal(id) - cached.viewsAtLoad);
+        return Optional.of(placeDto);
+    }
+
+    /**
+     * 장소 상세 DTO 생성 (캐시 적재용, 아직 DB에 반영되지 않은 조회수 포함)
+     * 장소+카테고리, 최신 리뷰 N개, 사진 목록을 각각 개수를 제한한 쿼리로 조회해 조합한다.
+     * (컬렉션 두 개를 한 번에 fetch join하면 리뷰 수 × 사진 수만큼 행이 생김)
+     */
+    private CachedPlaceDetails loadPlaceDetails(Long id) {
+        long viewsAtLoad = viewCountAccumulator.getTotal(id);
+        Place place = placeRepository.findActiveWithCategory(id).orElse(null);
+        if (place == null) {
+            return new CachedPlaceDetails(null, viewsAtLoad);
+        }
+
+        PlaceDto placeDto = new PlaceDto(place);
+        placeDto.setReviews(reviewRepository.findTop5ByPlaceIdAndIsActiveTrueOrderByCreatedAtDesc(
+                        id, PageRequest.of(0, detailReviewLimit))
+                .stream()
+                .map(ReviewDto::new)
+                .collect(Collectors.toList()));
+        placeDto.setPhotos(photoRepository.findByPlaceIdAndStatusNotOrderByIsMainDescSortOrderAscCreatedAtDesc(
+                        id, PhotoStatus.UPLOADING, PageRequest.of(0, detailPhotoLimit))
+                .stream()
+                .map(PhotoDto::new)
+                .collect(Collectors.toList()));
+        placeDto.setViewCount(placeDto.getViewCount() + viewCountAccumulator.getPending(id));
+        return new CachedPlaceDetails(placeDto, viewsAtLoad);
     }
 
     /**
@@ -60,34 +142,48 @@ public class PlaceService {
     public Optional<PlaceDto> getPlaceBasicInfo(Long id) {
         return placeRepository.findById(id)
                 .filter(place -> place.getIsActive())
-                .map(PlaceDto::new);
+                .map(PlaceDto::new)
+                .map(placeDto -> {
+                    placeDto.setViewCount(placeDto.getViewCount() + viewCountAccumulator.getPending(id));
+                    return placeDto;
+                });
     }
 
     /**
      * 카테고리별 장소 조회 (페이징)
      */
     @Transactional(readOnly = true)
-    public Page<PlaceDto> getPlacesByCategory(Long categoryId, Pageable pageable) {
-        return placeRepository.findByCategoryIdAndIsActiveTrueOrderByCreatedAtDesc(categoryId, pageable)
-                .map(PlaceDto::new);
+    public Page<PlaceSummary> getPlacesByCategory(Long categoryId, Pageable pageable) {
+        return placeRepository.findSummariesByCategory(categoryId, pageable);
     }
 
     /**
      * 장소 검색 (이름 또는 주소)
      */
     @Transactional(readOnly = true)
-    public Page<PlaceDto> searchPlaces(String keyword, Pageable pageable) {
-        return placeRepository.findByNameOrAddressContaining(keyword, pageable)
-                .map(PlaceDto::new);
+    public Page<PlaceSummary> searchPlaces(String keyword, Pageable pageable) {
+        if (placeSearchIndex.isReady()) {
+            return searchFromIndex(keyword, null, pageable);
+        }
+        return placeRepository.findSummariesByNameOrAddressContaining(keyword, pageable);
     }
 
     /**
      * 카테고리와 키워드로 장소 검색
      */
     @Transactional(readOnly = true)
-    public Page<PlaceDto> searchPlacesByCategoryAndKeyword(Long categoryId, String keyword, Pageable pageable) {
-        return placeRepository.findByCategoryAndKeyword(categoryId, keyword, pageable)
-                .map(PlaceDto::new);
+    public Page<PlaceSummary> searchPlacesByCategoryAndKeyword(Long categoryId, String keyword, Pageable pageable) {
+        if (placeSearchIndex.isReady()) {
+            return searchFromIndex(keyword, categoryId, pageable);
+        }
+        return placeRepository.findSummariesByCategoryAndKeyword(categoryId, keyword, pageable);
+    }
+
+    /**
+     * 장소 이름 자동완성
+     */
+    public List<PlaceSuggestionDto> autocompletePlaces(String prefix, Long categoryId, int limit) {
+        return placeSearchIndex.autocomplete(prefix, categoryId, limit);
     }
 
     /**
@@ -111,6 +207,8 @@ public class PlaceService {
         place.setCategory(category);
 
         Place savedPlace = placeRepository.save(place);
+        syncIndexes(savedPlace);
+        placeCacheEvictor.evictPlace(savedPlace.getId());
         return new PlaceDto(savedPlace);
     }
 
@@ -143,6 +241,8 @@ public class PlaceService {
         updatePlaceFields(existingPlace, placeDto);
 
         Place updatedPlace = placeRepository.save(existingPlace);
+        syncIndexes(updatedPlace);
+        placeCacheEvictor.evictPlace(id);
         return new PlaceDto(updatedPlace);
     }
 
@@ -155,6 +255,8 @@ public class PlaceService {
 
         place.setIsActive(false);
         placeRepository.save(place);
+        syncIndexes(place);
+        placeCacheEvictor.evictPlace(id);
     }
 
     /**
@@ -166,62 +268,86 @@ public class PlaceService {
 
         place.setIsActive(!place.getIsActive());
         Place updatedPlace = placeRepository.save(place);
+        syncIndexes(updatedPlace);
+        placeCacheEvictor.evictPlace(id);
         return new PlaceDto(updatedPlace);
     }
 
     /**
-     * 인기 장소 조회 (조회수 기준)
+     * 인기 장소 조회 (조회수 기준, 캐시)
      */
+    @Cacheable(CacheConfig.POPULAR_PLACES)
     @Transactional(readOnly = true)
-    public Page<PlaceDto> getPopularPlaces(Pageable pageable) {
-        return placeRepository.findByIsActiveTrueOrderByViewCountDescCreatedAtDesc(pageable)
-                .map(PlaceDto::new);
+    public Page<PlaceSummary> getPopularPlaces(Pageable pageable) {
+        return placeRepository.findPopularSummaries(pageable);
     }
 
     /**
      * 최신 장소 조회
      */
     @Transactional(readOnly = true)
-    public Page<PlaceDto> getLatestPlaces(Pageable pageable) {
-        return placeRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable)
-                .map(PlaceDto::new);
+    public Page<PlaceSummary> getLatestPlaces(Pageable pageable) {
+        return placeRepository.findActiveSummaries(pageable);
+    }
+
+    /**
+     * 최신 장소 조회 (커서 방식)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PlaceSummary> getLatestPlaces(String cursor, int size) {
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<PlaceSummary> places = after == null
+                ? placeRepository.findActiveSummariesByCursor(pageable)
+                : placeRepository.findActiveSummariesBefore(after.getCreatedAt(), after.getId(), pageable);
+        return CursorPage.of(places, Function.identity(),
+                place -> CreatedAtCursor.encode(place.getCreatedAt(), place.getId()));
     }
 
     /**
-     * 평점 높은 장소 조회
+     * 평점 높은 장소 조회 (캐시)
      */
+    @Cacheable(CacheConfig.TOP_RATED_PLACES)
     @Transactional(readOnly = true)
-    public Page<PlaceDto> getTopRatedPlaces(Integer minReviewCount, Pageable pageable) {
-        return placeRepository.findByIsActiveTrueAndReviewCountGreaterThanOrderByAverageRatingDescReviewCountDesc(
-                minReviewCount != null ? minReviewCount : 5, pageable)
-                .map(PlaceDto::new);
+    public Page<PlaceSummary> getTopRatedPlaces(Integer minReviewCount, Pageable pageable) {
+        return placeRepository.findTopRatedSummaries(minReviewCount != null ? minReviewCount : 5, pageable);
     }
 
     /**
-     * 추천 장소 조회
+     * 추천 장소 조회 (캐시)
      */
+    @Cacheable(CacheConfig.RECOMMENDED_PLACES)
     @Transactional(readOnly = true)
-    public List<PlaceDto> getRecommendedPlaces(int limit) {
+    public List<PlaceSummary> getRecommendedPlaces(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        return placeRepository.findRecommendedPlaces(
-                BigDecimal.valueOf(4.0), 3, pageable)
-                .stream()
-                .map(PlaceDto::new)
-                .collect(Collectors.toList());
+        return placeRepository.findRecommendedSummaries(BigDecimal.valueOf(4.0), 3, pageable);
     }
 
     /**
-     * 위치 기반 주변 장소 검색
+     * 위치 기반 주변 장소 검색 (가까운 순 최대 limit건)
+     * 리뷰/사진은 장소별로 읽지 않고 IN 쿼리로 묶어서 로드한다 (Place의 @BatchSize).
      */
     @Transactional(readOnly = true)
-    public List<PlaceDto> getNearbyPlaces(BigDecimal latitude, BigDecimal longitude, Double radius, Long categoryId) {
-        List<Place> places = placeRepository.findNearbyPlaces(latitude, longitude, radius != null ? radius : 5.0);
-        
-        // 카테고리 필터링 (categoryId가 제공된 경우)
-        if (categoryId != null) {
-            places = places.stream()
-                    .filter(place -> place.getCategory() != null && place.getCategory().getId().equals(categoryId))
+    public List<PlaceDto> getNearbyPlaces(BigDecimal latitude, BigDecimal longitude, Double radius, Long categoryId,
+                                          int limit) {
+        double radiusKm = radius != null ? radius : 5.0;
+        List<Place> places;
+
+        if (placeGeoIndex.isReady()) {
+            // 위치 인덱스에서 거리순 ID 조회 후 가까운 limit건만 한 번에 로드
+            List<Long> placeIds = placeGeoIndex.findNearby(
+                    latitude.doubleValue(), longitude.doubleValue(), radiusKm, categoryId);
+            placeIds = placeIds.subList(0, Math.min(limit, placeIds.size()));
+            Map<Long, Integer> rank = new HashMap<>();
+            for (int i = 0; i < placeIds.size(); i++) {
+                rank.put(placeIds.get(i), i);
+            }
+            places = placeRepository.findActiveWithCategoryByIdIn(placeIds).stream()
+                    .sorted(Comparator.comparing(place -> rank.get(place.getId())))
                     .collect(Collectors.toList());
+        } else {
+            places = placeRepository.findNearbyPlaces(latitude, longitude, radiusKm, categoryId,
+                    PageRequest.of(0, limit));
         }
         
         return places.stream()
@@ -230,34 +356,29 @@ public class PlaceService {
     }
 
     /**
-     * 카테고리별 인기 장소 조회
+     * 카테고리별 인기 장소 조회 (캐시)
      */
+    @Cacheable(CacheConfig.CATEGORY_POPULAR_PLACES)
     @Transactional(readOnly = true)
-    public List<PlaceDto> getPopularPlacesByCategory(Long categoryId) {
+    public List<PlaceSummary> getPopularPlacesByCategory(Long categoryId) {
         Pageable pageable = PageRequest.of(0, 10);
-        return placeRepository.findTop10ByCategoryIdAndIsActiveTrueOrderByViewCountDescAverageRatingDesc(categoryId, pageable)
-                .stream()
-                .map(PlaceDto::new)
-                .collect(Collectors.toList());
+        return placeRepository.findPopularSummariesByCategory(categoryId, pageable);
     }
 
     /**
      * 사용자가 생성한 장소 목록 조회
      */
     @Transactional(readOnly = true)
-    public Page<PlaceDto> getPlacesByUser(Long userId, Pageable pageable) {
-        return placeRepository.findByCreatedByOrderByCreatedAtDesc(userId, pageable)
-                .map(PlaceDto::new);
+    public Page<PlaceSummary> getPlacesByUser(Long userId, Pageable pageable) {
+        return placeRepository.findSummariesByCreatedBy(userId, pageable);
     }
 
     /**
      * 평점 범위로 장소 검색
      */
     @Transactional(readOnly = true)
-    public Page<PlaceDto> getPlacesByRatingRange(BigDecimal minRating, BigDecimal maxRating, Pageable pageable) {
-        return placeRepository.findByAverageRatingBetweenAndIsActiveTrueOrderByAverageRatingDesc(
-                minRating, maxRating, pageable)
-                .map(PlaceDto::new);
+    public Page<PlaceSummary> getPlacesByRatingRange(BigDecimal minRating, BigDecimal maxRating, Pageable pageable) {
+        return placeRepository.findSummariesByRatingRange(minRating, maxRating, pageable);
     }
 
     /**
@@ -287,6 +408,44 @@ public class PlaceService {
         return placeRepository.countByIsActiveTrue();
     }
 
+    /**
+     * 검색 인덱스에서 관련도 순 ID를 구한 뒤 해당 페이지만 로드
+     */
+    private Page<PlaceSummary> searchFromIndex(String keyword, Long categoryId, Pageable pageable) {
+        PlaceSearchIndex.Result result = placeSearchIndex.search(keyword, categoryId,
+                pageable.getOffset(), pageable.getPageSize());
+        List<Long> pageIds = result.getPlaceIds();
+
+        Map<Long, PlaceSummary> placesById = placeRepository.findActiveSummariesByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(PlaceSummary::getId, Function.identity()));
+        List<PlaceSummary> content = pageIds.stream()
+                .map(placesById::get)
+                .filter(place -> place != null)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, result.getTotal());
+    }
+
+    /**
+     * 메모리 인덱스 동기화 (트랜잭션 커밋 이후 반영)
+     */
+    private void syncIndexes(Place place) {
+        Runnable sync = () -> {
+            placeGeoIndex.put(place);
+            placeSearchIndex.put(place);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    sync.run();
+                }
+            });
+        } else {
+            sync.run();
+        }
+    }
+
     /**
      * 장소 필드 업데이트 헬퍼 메서드
      */
@@ -328,4 +487,17 @@ public class PlaceService {
             existingPlace.setClosedDays(placeDto.getClosedDays());
         }
     }
+
+    /**
+     * 캐시된 장소 상세 (캐시 시점의 누적 조회수 증가량 포함)
+     */
+    private static final class CachedPlaceDetails {
+        private final PlaceDto placeDto; // 없는 장소면 null
+        private final long viewsAtLoad;
+
+        private CachedPlaceDetails(PlaceDto placeDto, long viewsAtLoad) {
+            this.placeDto = placeDto;
+            this.viewsAtLoad = viewsAtLoad;
+        }
+    }
 }
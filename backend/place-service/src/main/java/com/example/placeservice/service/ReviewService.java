@@ -1,14 +1,19 @@
 package com.example.placeservice.service;
 
+import com.example.placeservice.dto.CreatedAtCursor;
+import com.example.placeservice.dto.CursorPage;
 import com.example.placeservice.dto.ReviewDto;
+import com.example.placeservice.dto.ReviewLikeDto;
 import com.example.placeservice.entity.Place;
 import com.example.placeservice.entity.Review;
 import com.example.placeservice.repository.PlaceRepository;
+import com.example.placeservice.repository.ReviewLikeRepository;
 import com.example.placeservice.repository.ReviewRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,9 +33,15 @@ public class ReviewService {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ReviewLikeRepository reviewLikeRepository;
+
     @Autowired
     private PlaceRepository placeRepository;
 
+    @Autowired
+    private PlaceCacheEvictor placeCacheEvictor;
+
     /**
      * 장소별 리뷰 목록 조회 (페이징)
      */
@@ -80,8 +91,10 @@ public class ReviewService {
 
         Review savedReview = reviewRepository.save(review);
 
-        // 장소의 평균 평점 업데이트
-        updatePlaceRating(reviewDto.getPlaceId());
+        // 장소의 평점 집계 반영
+        placeRepository.applyRatingDelta(place.getId(), 1, savedReview.getRating(),
+                Place.starOf(savedReview.getRating()), 0);
+        placeCacheEvictor.evictPlace(place.getId());
 
         return new ReviewDto(savedReview);
     }
@@ -98,6 +111,8 @@ public class ReviewService {
             throw new RuntimeException("리뷰 수정 권한이 없습니다.");
         }
 
+        BigDecimal previousRating = existingReview.getRating();
+
         // 리뷰 정보 업데이트
         if (reviewDto.getRating() != null) {
             existingReview.setRating(reviewDto.getRating());
@@ -108,8 +123,13 @@ public class ReviewService {
 
         Review updatedReview = reviewRepository.save(existingReview);
 
-        // 장소의 평균 평점 업데이트
-        updatePlaceRating(existingReview.getPlace().getId());
+        // 장소의 평점 집계 반영 (활성 리뷰의 평점이 바뀐 경우만)
+        if (updatedReview.getIsActive() && updatedReview.getRating().compareTo(previousRating) != 0) {
+            placeRepository.applyRatingDelta(updatedReview.getPlace().getId(), 0,
+                    updatedReview.getRating().subtract(previousRating),
+                    Place.starOf(updatedReview.getRating()), Place.starOf(previousRating));
+        }
+        placeCacheEvictor.evictPlace(updatedReview.getPlace().getId());
 
         return new ReviewDto(updatedReview);
     }
@@ -126,47 +146,74 @@ public class ReviewService {
             throw new RuntimeException("리뷰 삭제 권한이 없습니다.");
         }
 
+        if (!review.getIsActive()) {
+            return;
+        }
+
         review.setIsActive(false);
         reviewRepository.save(review);
 
-        // 장소의 평균 평점 업데이트
-        updatePlaceRating(review.getPlace().getId());
+        // 장소의 평점 집계 반영
+        placeRepository.applyRatingDelta(review.getPlace().getId(), -1, review.getRating().negate(),
+                0, Place.starOf(review.getRating()));
+        placeCacheEvictor.evictPlace(review.getPlace().getId());
     }
 
     /**
-     * 리뷰 좋아요 추가
+     * 리뷰 좋아요 추가 (사용자당 한 번, 이미 좋아요한 경우 수는 그대로)
      */
-    public ReviewDto likeReview(Long id) {
-        Review review = reviewRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("리뷰를 찾을 수 없습니다: " + id));
+    public ReviewLikeDto likeReview(Long id, Long userId) {
+        int inserted = reviewLikeRepository.insertIgnore(userId, id);
+        return new ReviewLikeDto(id, userId, true, applyLikeDelta(id, inserted));
+    }
 
-        if (!review.getIsActive()) {
-            throw new RuntimeException("비활성화된 리뷰입니다.");
-        }
+    /**
+     * 리뷰 좋아요 취소 (좋아요하지 않은 경우 수는 그대로)
+     */
+    public ReviewLikeDto unlikeReview(Long id, Long userId) {
+        int deleted = reviewLikeRepository.deleteByUserIdAndReviewId(userId, id);
+        return new ReviewLikeDto(id, userId, false, applyLikeDelta(id, -deleted));
+    }
 
-        reviewRepository.incrementLikeCount(id);
-        
-        // 업데이트된 리뷰 조회
-        Review updatedReview = reviewRepository.findById(id).orElseThrow();
-        return new ReviewDto(updatedReview);
+    /**
+     * 리뷰 좋아요 추가 후 리뷰 반환 (기존 /like 응답 형식)
+     * 응답 본문용으로 리뷰를 한 번만 읽고, 좋아요 수는 증감 결과 값으로 채운다.
+     */
+    public ReviewDto likeReviewAndGet(Long id, Long userId) {
+        ReviewDto review = getReviewForLike(id);
+        review.setLikeCount(Math.toIntExact(likeReview(id, userId).getLikeCount()));
+        return review;
     }
 
     /**
-     * 리뷰 좋아요 취소
+     * 리뷰 좋아요 취소 후 리뷰 반환 (기존 /like 응답 형식)
      */
-    public ReviewDto unlikeReview(Long id) {
+    public ReviewDto unlikeReviewAndGet(Long id, Long userId) {
+        ReviewDto review = getReviewForLike(id);
+        review.setLikeCount(Math.toIntExact(unlikeReview(id, userId).getLikeCount()));
+        return review;
+    }
+
+    private ReviewDto getReviewForLike(Long id) {
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("리뷰를 찾을 수 없습니다: " + id));
+        return new ReviewDto(review);
+    }
 
-        if (!review.getIsActive()) {
-            throw new RuntimeException("비활성화된 리뷰입니다.");
+    /**
+     * 좋아요 수 증감 후 변경된 값 반환 (UPDATE가 기록한 LAST_INSERT_ID로 확인, 리뷰 재조회 없음)
+     * 리뷰가 없거나 비활성화된 경우 예외를 던져 좋아요 추가/삭제도 롤백한다.
+     * 수가 바뀌었으면 리뷰가 포함된 장소 상세 캐시를 제거한다.
+     */
+    private long applyLikeDelta(Long id, int delta) {
+        if (reviewRepository.applyLikeDelta(id, delta) == 0) {
+            throw new RuntimeException("리뷰를 찾을 수 없거나 비활성화된 리뷰입니다: " + id);
         }
-
-        reviewRepository.decrementLikeCount(id);
-        
-        // 업데이트된 리뷰 조회
-        Review updatedReview = reviewRepository.findById(id).orElseThrow();
-        return new ReviewDto(updatedReview);
+        long likeCount = reviewRepository.findLastInsertId();
+        if (delta != 0) {
+            reviewRepository.findPlaceIdById(id).ifPresent(placeCacheEvictor::evictPlaceDetails);
+        }
+        return likeCount;
     }
 
     /**
@@ -208,6 +255,20 @@ public class ReviewService {
                 .map(ReviewDto::new);
     }
 
+    /**
+     * 전체 최신 리뷰 조회 (커서 방식)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ReviewDto> getLatestReviews(String cursor, int size) {
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<Review> reviews = after == null
+                ? reviewRepository.findByIsActiveTrueOrderByCreatedAtDescIdDesc(pageable)
+                : reviewRepository.findActiveBefore(after.getCreatedAt(), after.getId(), pageable);
+        return CursorPage.of(reviews, ReviewDto::new,
+                review -> CreatedAtCursor.encode(review.getCreatedAt(), review.getId()));
+    }
+
     /**
      * 전체 인기 리뷰 조회 (페이징)
      */
@@ -268,6 +329,12 @@ public class ReviewService {
     @Transactional(readOnly = true)
     public Map<String, Object> getReviewStatsByPlace(Long placeId) {
         Object[] stats = reviewRepository.findReviewStatsByPlaceId(placeId);
+        if (stats != null && stats.length == 1 && stats[0] instanceof Object[]) {
+            stats = (Object[]) stats[0];
+        }
+        if (stats == null || stats.length < 7) {
+            stats = new Object[7];
+        }
         
         return Map.of(
             "totalReviews", stats[0] != null ? stats[0] : 0L,
@@ -321,15 +388,4 @@ public class ReviewService {
         return reviewRepository.findByPlaceIdAndUserIdAndIsActiveTrue(placeId, userId)
                 .map(ReviewDto::new);
     }
-
-    /**
-     * 장소의 평균 평점 업데이트
-     */
-    private void updatePlaceRating(Long placeId) {
-        Place place = placeRepository.findById(placeId).orElse(null);
-        if (place != null) {
-            place.updateAverageRating();
-            placeRepository.save(place);
-        }
-    }
 }
@@ -0,0 +1,93 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.config.CacheConfig;
+import com.example.placeservice.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 직렬화된 응답 캐시
+ * 모든 사용자에게 같은 JSON을 주는 목록 API의 응답을 인코딩된 바이트와 ETag로 보관한다.
+ * 장소/카테고리/리뷰 변경 시 버전을 올려 이전 버전의 응답은 더 이상 사용하지 않는다.
+ */
+@Component
+public class SerializedResponseCache {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 응답 버전 증가 (이전에 캐시된 응답 무효화)
+     */
+    public void bump() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * 캐시된 응답 조회 (없으면 생성 후 직렬화해 캐시)
+     *
+     * @param key 엔드포인트와 파라미터를 포함한 키
+     * @param message 성공 응답 메시지
+     * @param loader 응답 데이터 조회
+     */
+    public CachedResponse get(String key, String message, Supplier<?> loader) {
+        String versionedKey = version.get() + ":" + key;
+        Cache cache = cacheManager.getCache(CacheConfig.PLACE_LIST_RESPONSES);
+        if (cache == null) {
+            return serialize(message, loader.get());
+        }
+        return cache.get(versionedKey, () -> serialize(message, loader.get()));
+    }
+
+    /**
+     * ApiResponse 형식으로 직렬화 (ETag는 데이터 부분의 해시라 같은 데이터면 다시 만들어도 같은 값)
+     */
+    private CachedResponse serialize(String message, Object data) {
+        try {
+            byte[] dataJson = objectMapper.writeValueAsBytes(data);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(dataJson) + "\"";
+            byte[] body = objectMapper.writeValueAsBytes(
+                ApiResponse.success(message, new RawValue(new String(dataJson, StandardCharsets.UTF_8))));
+            return new CachedResponse(body, etag);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 직렬화된 응답 (JSON 바이트, ETag)
+     */
+    public static final class CachedResponse {
+        private final byte[] body;
+        private final String etag;
+
+        private CachedResponse(byte[] body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.placeservice.service;
+
+/**
+ * 저장소에 저장된 파일 정보 (PhotoStorage.put 결과)
+ * 내용 해시는 저장하면서 함께 계산하므로 업로드 내용을 다시 읽지 않아도 된다.
+ */
+public class StoredFile {
+
+    private final String filePath;    // Photo.filePath에 저장할 경로
+    private final String storedName;  // 내용 해시 + 확장자
+    private final String contentHash; // 내용 SHA-256 (16진수)
+
+    public StoredFile(String filePath, String storedName, String contentHash) {
+        this.filePath = filePath;
+        this.storedName = storedName;
+        this.contentHash = contentHash;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public String getStoredName() {
+        return storedName;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.placeservice.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 업로드 파일 메모리 캐시 (LRU)
+ * 썸네일, 작은 변형처럼 자주 요청되는 작은 파일을 디스크에서 다시 읽지 않도록 보관한다.
+ * 파일 수정 시각이 바뀌면 새로 읽는다.
+ */
+@Component
+public class UploadFileCache {
+
+    @Value("${app.upload.serving.cache.max-entry-bytes:65536}") // 캐시할 파일 최대 크기 (64KB)
+    private long maxEntryBytes;
+
+    @Value("${app.upload.serving.cache.max-bytes:33554432}") // 캐시 전체 최대 크기 (32MB)
+    private long maxBytes;
+
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes = 0;
+
+    /**
+     * 캐시 대상 크기인지 확인
+     */
+    public boolean isCacheable(long size) {
+        return maxBytes > 0 && size <= maxEntryBytes;
+    }
+
+    /**
+     * 파일 내용 조회 (없거나 수정되었으면 읽어서 캐시)
+     *
+     * @param lastModified 파일 수정 시각 (밀리초)
+     */
+    public byte[] get(Path file, long lastModified) throws IOException {
+        synchronized (this) {
+            Entry entry = entries.get(file);
+            if (entry != null && entry.lastModified == lastModified) {
+                return entry.content;
+            }
+        }
+
+        byte[] content = Files.readAllBytes(file);
+        synchronized (this) {
+            Entry previous = entries.put(file, new Entry(content, lastModified));
+            if (previous != null) {
+                totalBytes -= previous.content.length;
+            }
+            totalBytes += content.length;
+            evict();
+        }
+        return content;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Path, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().content.length;
+            iterator.remove();
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] content;
+        private final long lastModified;
+
+        private Entry(byte[] content, long lastModified) {
+            this.content = content;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.placeservice.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 장소 조회수 누적기 (write-behind)
+ * 상세 조회 시 DB를 갱신하지 않고 메모리에 누적하며,
+ * ViewCountFlushScheduler가 주기적으로 꺼내 일괄 반영한다.
+ * 증가와 꺼내기는 키 단위 원자 연산(merge/remove)이라, 꺼내는 중에 들어온 조회도 다음 주기에 반영된다.
+ */
+@Component
+public class ViewCountAccumulator {
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // 시작 이후 전체 증가량 (반영 후에도 유지하고 제거하지 않음, 캐시된 조회수 보정용)
+    private final ConcurrentHashMap<Long, LongAdder> totals = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리)
+     */
+    public void increment(Long placeId) {
+        pending.merge(placeId, 1L, Long::sum);
+        totals.computeIfAbsent(placeId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 증가분 되돌리기 (DB 반영 실패 시)
+     */
+    public void add(Long placeId, long delta) {
+        pending.merge(placeId, delta, Long::sum);
+    }
+
+    /**
+     * 시작 이후 전체 조회수 증가량 (DB 반영 여부와 무관하게 단조 증가)
+     */
+    public long getTotal(Long placeId) {
+        LongAdder adder = totals.get(placeId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPending(Long placeId) {
+        return pending.getOrDefault(placeId, 0L);
+    }
+
+    /**
+     * 누적값을 꺼내 증가량별로 묶음 (꺼낸 항목은 제거)
+     */
+    public Map<Long, List<Long>> drain() {
+        Map<Long, List<Long>> idsByDelta = new TreeMap<>();
+        for (Long id : pending.keySet()) {
+            Long delta = pending.remove(id);
+            if (delta != null && delta > 0) {
+                idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id);
+            }
+        }
+        return idsByDelta;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.repository.PlaceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 누적된 장소 조회수를 DB에 반영
+ * 같은 증가량을 가진 장소끼리 묶어 한 번의 UPDATE로 처리한다.
+ */
+@Component
+public class ViewCountFlushScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewCountFlushScheduler.class);
+
+    private static final int MAX_IDS_PER_UPDATE = 500;
+
+    @Autowired
+    private PlaceRepository placeRepository;
+
+    @Autowired
+    private ViewCountAccumulator viewCountAccumulator;
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public void flushViewCounts() {
+        Map<Long, List<Long>> idsByDelta = viewCountAccumulator.drain();
+        if (idsByDelta.isEmpty()) {
+            return;
+        }
+
+        int updated = 0;
+        for (Map.Entry<Long, List<Long>> entry : idsByDelta.entrySet()) {
+            List<Long> ids = entry.getValue();
+            for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, ids.size()));
+                try {
+                    placeRepository.addViewCount(chunk, entry.getKey());
+                    updated += chunk.size();
+                } catch (Exception e) {
+                    // 실패한 증가분은 다음 주기에 다시 반영
+                    log.warn("장소 조회수 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+                    chunk.forEach(placeId -> viewCountAccumulator.add(placeId, entry.getKey()));
+                }
+            }
+        }
+        log.debug("장소 조회수 반영 완료: {}건", updated);
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
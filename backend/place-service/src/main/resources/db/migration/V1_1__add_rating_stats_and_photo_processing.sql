@@ -0,0 +1,50 @@
+-- V1 이후 엔티티에 추가된 컬럼과 테이블
+-- 인덱스(V2)가 참조하는 컬럼이므로 V2보다 먼저 적용되어야 한다.
+
+-- places: 평점 집계 컬럼 (리뷰 작성/수정/삭제 시 증분 갱신)
+ALTER TABLE places ADD COLUMN rating_sum DECIMAL(12,1);
+ALTER TABLE places ADD COLUMN one_star_count INT;
+ALTER TABLE places ADD COLUMN two_star_count INT;
+ALTER TABLE places ADD COLUMN three_star_count INT;
+ALTER TABLE places ADD COLUMN four_star_count INT;
+ALTER TABLE places ADD COLUMN five_star_count INT;
+
+-- 기존 리뷰로 집계 컬럼 채우기 (별점 구간은 Place.starOf와 동일: 1~5로 내림)
+UPDATE places p SET
+    rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r
+                  WHERE r.place_id = p.id AND r.is_active = TRUE),
+    one_star_count = (SELECT COUNT(*) FROM reviews r
+                      WHERE r.place_id = p.id AND r.is_active = TRUE
+                        AND LEAST(5, GREATEST(1, FLOOR(r.rating))) = 1),
+    two_star_count = (SELECT COUNT(*) FROM reviews r
+                      WHERE r.place_id = p.id AND r.is_active = TRUE
+                        AND LEAST(5, GREATEST(1, FLOOR(r.rating))) = 2),
+    three_star_count = (SELECT COUNT(*) FROM reviews r
+                        WHERE r.place_id = p.id AND r.is_active = TRUE
+                          AND LEAST(5, GREATEST(1, FLOOR(r.rating))) = 3),
+    four_star_count = (SELECT COUNT(*) FROM reviews r
+                       WHERE r.place_id = p.id AND r.is_active = TRUE
+                         AND LEAST(5, GREATEST(1, FLOOR(r.rating))) = 4),
+    five_star_count = (SELECT COUNT(*) FROM reviews r
+                       WHERE r.place_id = p.id AND r.is_active = TRUE
+                         AND LEAST(5, GREATEST(1, FLOOR(r.rating))) = 5);
+
+-- photos: 비동기 후처리 상태, 중복 업로드 확인용 해시, 이미지 크기와 변환본 정보
+-- 기존 사진은 이미 처리된 원본이므로 READY로 둔다.
+ALTER TABLE photos ADD COLUMN status VARCHAR(20) DEFAULT 'READY' NOT NULL;
+ALTER TABLE photos ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE photos ADD COLUMN width INT;
+ALTER TABLE photos ADD COLUMN height INT;
+ALTER TABLE photos ADD COLUMN variant_widths VARCHAR(100);
+ALTER TABLE photos ADD COLUMN variant_formats VARCHAR(50);
+
+-- 트랜잭션 커밋 후 실패한 파일 삭제 재시도 대기열
+CREATE TABLE photo_file_deletions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_path VARCHAR(500) NOT NULL,
+    content_hash VARCHAR(64),
+    attempts INT NOT NULL,
+    last_error VARCHAR(500),
+    next_attempt_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
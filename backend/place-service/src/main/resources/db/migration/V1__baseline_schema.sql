@@ -0,0 +1,72 @@
+-- place-service 기본 스키마 (Flyway 도입 전 스키마)
+-- 기존 DB는 spring.flyway.baseline-on-migrate로 V1을 기준점으로 등록하고 이후 버전만 적용한다.
+
+CREATE TABLE categories (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    description VARCHAR(200),
+    icon_url VARCHAR(500),
+    is_active BOOLEAN NOT NULL,
+    sort_order INT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE places (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description TEXT,
+    address VARCHAR(300) NOT NULL,
+    detailed_address VARCHAR(200),
+    latitude DECIMAL(10,8),
+    longitude DECIMAL(11,8),
+    phone_number VARCHAR(20),
+    website VARCHAR(500),
+    opening_time TIME(6),
+    closing_time TIME(6),
+    is_open_24h BOOLEAN,
+    closed_days VARCHAR(100),
+    average_rating DECIMAL(3,2),
+    review_count INT,
+    view_count BIGINT,
+    is_active BOOLEAN NOT NULL,
+    created_by BIGINT,
+    category_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT fk_places_category FOREIGN KEY (category_id) REFERENCES categories (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE reviews (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    rating DECIMAL(2,1) NOT NULL,
+    content TEXT,
+    user_id BIGINT NOT NULL,
+    user_name VARCHAR(50),
+    is_active BOOLEAN NOT NULL,
+    like_count INT,
+    place_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT fk_reviews_place FOREIGN KEY (place_id) REFERENCES places (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE photos (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    original_name VARCHAR(255) NOT NULL,
+    stored_name VARCHAR(255) NOT NULL,
+    file_name VARCHAR(255),
+    file_path VARCHAR(500) NOT NULL,
+    file_size BIGINT,
+    content_type VARCHAR(100),
+    mime_type VARCHAR(100),
+    is_main BOOLEAN,
+    sort_order INT,
+    uploaded_by BIGINT,
+    place_id BIGINT,
+    review_id BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_photos_place FOREIGN KEY (place_id) REFERENCES places (id),
+    CONSTRAINT fk_photos_review FOREIGN KEY (review_id) REFERENCES reviews (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
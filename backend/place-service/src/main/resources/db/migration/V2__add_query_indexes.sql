@@ -0,0 +1,58 @@
+-- 주요 Repository 쿼리의 조건(=)과 정렬 컬럼 순서에 맞춘 복합 인덱스
+-- 정렬까지 인덱스 순서로 처리해 filesort와 전체 스캔을 피한다.
+-- 정렬 방향이 섞인 쿼리(ASC/DESC 혼합)도 인덱스를 타도록 컬럼 방향을 ORDER BY와 맞춘다.
+
+-- places
+-- findActiveSummaries, findActiveSummariesByCursor, findActiveSummariesBefore (is_active = ?, created_at DESC, id DESC)
+CREATE INDEX idx_places_active_created ON places (is_active, created_at DESC, id DESC);
+-- findPopularSummaries (is_active = ?, view_count DESC, created_at DESC)
+CREATE INDEX idx_places_active_views ON places (is_active, view_count DESC, created_at DESC);
+-- findTopRatedSummaries, findSummariesByRatingRange (is_active = ?, average_rating DESC, review_count 조건)
+CREATE INDEX idx_places_active_rating ON places (is_active, average_rating DESC, review_count DESC);
+-- findSummariesByCategory (category_id = ?, is_active = ?, created_at DESC)
+CREATE INDEX idx_places_category_active_created ON places (category_id, is_active, created_at DESC);
+-- findPopularSummariesByCategory (category_id = ?, is_active = ?, view_count DESC, average_rating DESC)
+CREATE INDEX idx_places_category_active_views ON places (category_id, is_active, view_count DESC, average_rating DESC);
+-- findSummariesByCreatedBy (created_by = ?, created_at DESC)
+CREATE INDEX idx_places_created_by_created ON places (created_by, created_at DESC);
+-- existsByNameAndAddressAndIsActiveTrue(AndIdNot) (장소 중복 확인)
+CREATE INDEX idx_places_name_address_active ON places (name, address, is_active);
+
+-- reviews
+-- findByPlaceIdAndIsActiveTrueOrderByCreatedAtDesc, countByPlaceIdAndIsActiveTrue, 평점 집계 (place_id = ?, is_active = ?, created_at DESC)
+CREATE INDEX idx_reviews_place_active_created ON reviews (place_id, is_active, created_at DESC);
+-- findTop5ByPlaceIdAndIsActiveTrueOrderByLikeCountDescCreatedAtDesc (place_id = ?, is_active = ?, like_count DESC, created_at DESC)
+CREATE INDEX idx_reviews_place_active_likes ON reviews (place_id, is_active, like_count DESC, created_at DESC);
+-- existsByPlaceIdAndUserIdAndIsActiveTrue, findByPlaceIdAndUserIdAndIsActiveTrue (중복 리뷰 확인)
+CREATE INDEX idx_reviews_place_user_active ON reviews (place_id, user_id, is_active);
+-- findByUserIdAndIsActiveTrueOrderByCreatedAtDesc (user_id = ?, is_active = ?, created_at DESC)
+CREATE INDEX idx_reviews_user_active_created ON reviews (user_id, is_active, created_at DESC);
+-- findByIsActiveTrueOrderByCreatedAtDesc(IdDesc), findActiveBefore (is_active = ?, created_at DESC, id DESC)
+CREATE INDEX idx_reviews_active_created ON reviews (is_active, created_at DESC, id DESC);
+-- findByIsActiveTrueOrderByLikeCountDescCreatedAtDesc (is_active = ?, like_count DESC, created_at DESC)
+CREATE INDEX idx_reviews_active_likes ON reviews (is_active, like_count DESC, created_at DESC);
+
+-- photos
+-- findByPlaceIdOrderBySortOrderAscCreatedAtDesc, findNextSortOrderByPlaceId (place_id = ?, sort_order, created_at DESC)
+CREATE INDEX idx_photos_place_sort ON photos (place_id, sort_order, created_at DESC);
+-- findByPlaceIdOrderByIsMainDescSortOrderAscCreatedAtDesc, findByPlaceIdAndIsMainTrue (place_id = ?, is_main DESC, sort_order, created_at DESC)
+CREATE INDEX idx_photos_place_main_sort ON photos (place_id, is_main DESC, sort_order, created_at DESC);
+-- findByReviewIdOrderBySortOrderAscCreatedAtDesc, findNextSortOrderByReviewId (review_id = ?, sort_order, created_at DESC)
+CREATE INDEX idx_photos_review_sort ON photos (review_id, sort_order, created_at DESC);
+-- findFirstByContentHash(AndStatus)OrderByIdAsc, countByContentHash (중복 업로드 확인)
+CREATE INDEX idx_photos_content_hash_status ON photos (content_hash, status);
+-- findTop100ByStatus(AndCreatedAtBefore)OrderByIdAsc (후처리 대기, 만료된 직접 업로드)
+CREATE INDEX idx_photos_status_created ON photos (status, created_at);
+-- findByUploadedByOrderByCreatedAtDesc, getTotalFileSizeByUser (uploaded_by = ?, created_at DESC)
+CREATE INDEX idx_photos_uploaded_by_created ON photos (uploaded_by, created_at DESC);
+-- findByStoredName, findByFilePath (파일 경로로 사진 조회)
+CREATE INDEX idx_photos_stored_name ON photos (stored_name);
+CREATE INDEX idx_photos_file_path ON photos (file_path);
+
+-- categories
+-- findByIsActiveTrueOrderBySortOrderAscNameAsc (is_active = ?, sort_order, name)
+CREATE INDEX idx_categories_active_sort ON categories (is_active, sort_order, name);
+
+-- photo_file_deletions
+-- findByNextAttemptAtLessThanEqualOrderByIdAsc (삭제 시도 시각이 된 항목)
+CREATE INDEX idx_photo_file_deletions_next_attempt ON photo_file_deletions (next_attempt_at);
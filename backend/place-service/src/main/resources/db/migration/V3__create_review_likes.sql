@@ -0,0 +1,9 @@
+-- 리뷰 좋아요 (사용자당 리뷰 하나에 한 번)
+CREATE TABLE review_likes (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    review_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_review_likes_user_review UNIQUE (user_id, review_id),
+    CONSTRAINT fk_review_likes_review FOREIGN KEY (review_id) REFERENCES reviews (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
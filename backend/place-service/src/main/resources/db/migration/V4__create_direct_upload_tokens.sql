@@ -0,0 +1,12 @@
+-- 로컬 직접 업로드 토큰 (재시작 후에도, 여러 인스턴스 사이에서도 유효하도록 DB에 보관)
+CREATE TABLE direct_upload_tokens (
+    token VARCHAR(36) PRIMARY KEY,
+    file_path VARCHAR(500) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    max_size BIGINT NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 만료 토큰 정리 (LocalDirectUploadStorage.removeExpired)
+CREATE INDEX idx_direct_upload_tokens_expires ON direct_upload_tokens (expires_at);
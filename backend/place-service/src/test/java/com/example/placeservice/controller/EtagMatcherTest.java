@@ -0,0 +1,30 @@
+package com.example.placeservice.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EtagMatcherTest {
+
+    private static final String ETAG = "\"abc\"";
+
+    @Test
+    void matchesExactTag() {
+        assertTrue(EtagMatcher.matches("\"abc\"", ETAG));
+        assertFalse(EtagMatcher.matches("\"abd\"", ETAG));
+        assertFalse(EtagMatcher.matches(null, ETAG));
+    }
+
+    @Test
+    void matchesAnyTagInList() {
+        assertTrue(EtagMatcher.matches("\"x\", \"abc\"", ETAG));
+        assertTrue(EtagMatcher.matches("*", ETAG));
+    }
+
+    @Test
+    void ignoresWeakPrefixOnEitherSide() {
+        assertTrue(EtagMatcher.matches("W/\"abc\"", ETAG));
+        assertTrue(EtagMatcher.matches("\"abc\"", "W/\"abc\""));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.placeservice.controller;
+
+import com.example.placeservice.service.InMemoryPhotoStorage;
+import com.example.placeservice.service.LocalPhotoStorage;
+import com.example.placeservice.service.PhotoStorageRegistry;
+import com.example.placeservice.service.StoredFile;
+import com.example.placeservice.service.UploadFileCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /uploads/** 가 경로에 맞는 저장소(메모리, 로컬)의 파일을 제공하는지 확인
+ */
+class UploadFileControllerTest {
+
+    private static final byte[] CONTENT = "사진 내용".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path uploadDir;
+
+    private InMemoryPhotoStorage memoryStorage;
+    private LocalPhotoStorage localStorage;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        memoryStorage = new InMemoryPhotoStorage();
+        localStorage = new LocalPhotoStorage();
+        ReflectionTestUtils.setField(localStorage, "uploadDir", uploadDir.toString());
+
+        PhotoStorageRegistry registry = new PhotoStorageRegistry();
+        ReflectionTestUtils.setField(registry, "localPhotoStorage", localStorage);
+        ReflectionTestUtils.setField(registry, "inMemoryPhotoStorage", memoryStorage);
+        ReflectionTestUtils.setField(registry, "meterRegistry", new SimpleMeterRegistry());
+        registry.init();
+
+        UploadFileCache fileCache = new UploadFileCache();
+        ReflectionTestUtils.setField(fileCache, "maxEntryBytes", 65536L);
+        ReflectionTestUtils.setField(fileCache, "maxBytes", 1048576L);
+
+        UploadFileController controller = new UploadFileController();
+        ReflectionTestUtils.setField(controller, "fileCache", fileCache);
+        ReflectionTestUtils.setField(controller, "photoStorages", registry);
+        ReflectionTestUtils.setField(controller, "localPhotoStorage", localStorage);
+        ReflectionTestUtils.setField(controller, "cacheMaxAgeSeconds", 31536000L);
+        ReflectionTestUtils.setField(controller, "sendfileMinSize", 49152L);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void memoryFileIsServedFromMemoryStorage() throws Exception {
+        StoredFile stored = memoryStorage.put("jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+
+        mockMvc.perform(get("/uploads/" + stored.getFilePath()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/jpeg"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + stored.getStoredName() + "\""))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void memoryFileMatchingEtagReturnsNotModified() throws Exception {
+        StoredFile stored = memoryStorage.put("jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+
+        mockMvc.perform(get("/uploads/" + stored.getFilePath())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + stored.getStoredName() + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void missingMemoryFileReturnsNotFound() throws Exception {
+        mockMvc.perform(get("/uploads/memory:missing.jpg"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void localFileIsServedFromUploadDir() throws Exception {
+        StoredFile stored = localStorage.put("png", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/png");
+
+        mockMvc.perform(get("/uploads/" + stored.getFilePath()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "image/png"))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void stagingFilesAreNotServed() throws Exception {
+        localStorage.write(".staging/upload.jpg", new ByteArrayInputStream(CONTENT), CONTENT.length);
+
+        mockMvc.perform(get("/uploads/.staging/upload.jpg"))
+                .andExpect(status().isNotFound());
+    }
+}
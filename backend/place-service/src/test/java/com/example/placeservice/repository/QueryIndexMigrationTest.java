@@ -0,0 +1,195 @@
+package com.example.placeservice.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Flyway 마이그레이션(V1 → V1_1 → V2 → V3 → V4)을 H2(MySQL 모드)에 적용하고
+ * 주요 Repository 쿼리가 V2 복합 인덱스를 사용하는지 EXPLAIN으로 확인한다.
+ */
+class QueryIndexMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:placedb_index;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(URL, "sa", "");
+        seed();
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void migrationsCreateColumnsAddedAfterBaseline() throws SQLException {
+        assertEquals(0L, count("SELECT COUNT(*) FROM photo_file_deletions"));
+        assertEquals(0L, count("SELECT COUNT(*) FROM review_likes"));
+        assertEquals(0L, count("SELECT COUNT(*) FROM direct_upload_tokens"));
+        assertEquals(200L, count("SELECT COUNT(*) FROM photos WHERE status = 'READY'"));
+        assertEquals(100L, count("SELECT COUNT(*) FROM places WHERE rating_sum IS NULL AND five_star_count IS NULL"));
+    }
+
+    @Test
+    void activePlacesByCreatedAtUseActiveCreatedIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM places WHERE is_active = TRUE ORDER BY created_at DESC, id DESC LIMIT 20",
+                "idx_places_active_created");
+    }
+
+    @Test
+    void popularPlacesUseActiveViewsIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM places WHERE is_active = TRUE ORDER BY view_count DESC, created_at DESC LIMIT 10",
+                "idx_places_active_views");
+    }
+
+    @Test
+    void placesByCategoryUseCategoryActiveCreatedIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM places WHERE category_id = 1 AND is_active = TRUE ORDER BY created_at DESC LIMIT 20",
+                "idx_places_category_active_created");
+    }
+
+    @Test
+    void placesByCreatorUseCreatedByIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM places WHERE created_by = 3 ORDER BY created_at DESC LIMIT 20",
+                "idx_places_created_by_created");
+    }
+
+    @Test
+    void placeReviewsByLikesUsePlaceActiveLikesIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM reviews WHERE place_id = 1 AND is_active = TRUE ORDER BY like_count DESC, created_at DESC LIMIT 5",
+                "idx_reviews_place_active_likes");
+    }
+
+    @Test
+    void userReviewsUseUserActiveCreatedIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM reviews WHERE user_id = 7 AND is_active = TRUE ORDER BY created_at DESC LIMIT 20",
+                "idx_reviews_user_active_created");
+    }
+
+    @Test
+    void placePhotosUsePlaceMainSortIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM photos WHERE place_id = 1 ORDER BY is_main DESC, sort_order, created_at DESC LIMIT 10",
+                "idx_photos_place_main_sort");
+    }
+
+    @Test
+    void duplicateUploadLookupUsesContentHashIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM photos WHERE content_hash = 'hash-1' AND status = 'READY' ORDER BY id LIMIT 1",
+                "idx_photos_content_hash_status");
+    }
+
+    @Test
+    void pendingPhotosUseStatusCreatedIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM photos WHERE status = 'PROCESSING' AND created_at < CURRENT_TIMESTAMP ORDER BY id LIMIT 100",
+                "idx_photos_status_created");
+    }
+
+    @Test
+    void dueFileDeletionsUseNextAttemptIndex() throws SQLException {
+        assertUsesIndex("SELECT id FROM photo_file_deletions WHERE next_attempt_at <= CURRENT_TIMESTAMP ORDER BY id LIMIT 100",
+                "idx_photo_file_deletions_next_attempt");
+    }
+
+    private static void assertUsesIndex(String sql, String indexName) throws SQLException {
+        String plan;
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            rs.next();
+            plan = rs.getString(1);
+        }
+        assertTrue(plan.toLowerCase(Locale.ROOT).contains(indexName),
+                () -> indexName + " 인덱스를 사용하지 않습니다: " + plan);
+    }
+
+    private static long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * 카테고리 5개, 장소 100개, 리뷰 500개, 사진 200개
+     */
+    private static void seed() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 1; i <= 5; i++) {
+                statement.executeUpdate("INSERT INTO categories (name, is_active, sort_order, created_at) " +
+                        "VALUES ('카테고리" + i + "', TRUE, " + i + ", CURRENT_TIMESTAMP)");
+            }
+        }
+
+        try (PreparedStatement places = connection.prepareStatement(
+                "INSERT INTO places (name, address, is_active, view_count, average_rating, review_count, created_by, category_id, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, DATEADD('MINUTE', ?, CURRENT_TIMESTAMP))")) {
+            for (int i = 1; i <= 100; i++) {
+                places.setString(1, "장소" + i);
+                places.setString(2, "서울특별시 " + i);
+                places.setBoolean(3, i % 10 != 0);
+                places.setLong(4, i * 13L % 1000);
+                places.setDouble(5, (i % 5) + 0.5);
+                places.setInt(6, i % 7);
+                places.setLong(7, i % 10);
+                places.setLong(8, (i % 5) + 1);
+                places.setInt(9, -i);
+                places.addBatch();
+            }
+            places.executeBatch();
+        }
+
+        try (PreparedStatement reviews = connection.prepareStatement(
+                "INSERT INTO reviews (rating, user_id, is_active, like_count, place_id, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, DATEADD('MINUTE', ?, CURRENT_TIMESTAMP))")) {
+            for (int i = 1; i <= 500; i++) {
+                reviews.setDouble(1, (i % 5) + 1);
+                reviews.setLong(2, i % 50);
+                reviews.setBoolean(3, i % 20 != 0);
+                reviews.setInt(4, i % 30);
+                reviews.setLong(5, (i % 100) + 1);
+                reviews.setInt(6, -i);
+                reviews.addBatch();
+            }
+            reviews.executeBatch();
+        }
+
+        try (PreparedStatement photos = connection.prepareStatement(
+                "INSERT INTO photos (original_name, stored_name, file_path, is_main, sort_order, content_hash, place_id, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, DATEADD('MINUTE', ?, CURRENT_TIMESTAMP))")) {
+            for (int i = 1; i <= 200; i++) {
+                photos.setString(1, "photo" + i + ".jpg");
+                photos.setString(2, "stored" + i + ".jpg");
+                photos.setString(3, "places/" + i + ".jpg");
+                photos.setBoolean(4, i % 10 == 0);
+                photos.setInt(5, i % 10);
+                photos.setString(6, "hash-" + i);
+                photos.setLong(7, (i % 100) + 1);
+                photos.setInt(8, -i);
+                photos.addBatch();
+            }
+            photos.executeBatch();
+        }
+    }
+}
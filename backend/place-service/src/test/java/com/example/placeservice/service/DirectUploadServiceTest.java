@@ -0,0 +1,249 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.dto.DirectUploadRequest;
+import com.example.placeservice.dto.DirectUploadResponse;
+import com.example.placeservice.dto.PhotoDto;
+import com.example.placeservice.entity.DirectUploadToken;
+import com.example.placeservice.entity.Photo;
+import com.example.placeservice.entity.PhotoStatus;
+import com.example.placeservice.entity.Place;
+import com.example.placeservice.entity.Review;
+import com.example.placeservice.repository.DirectUploadTokenRepository;
+import com.example.placeservice.repository.PhotoRepository;
+import com.example.placeservice.repository.PlaceRepository;
+import com.example.placeservice.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 직접 업로드 흐름 (URL 발급 → PUT → 완료 → 만료 정리)을 로컬 저장소와 메모리 Repository 스텁으로 확인
+ */
+class DirectUploadServiceTest {
+
+    private static final byte[] CONTENT = "사진 내용".getBytes(StandardCharsets.UTF_8);
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+
+    @TempDir
+    Path uploadDir;
+
+    private final Map<String, DirectUploadToken> tokens = new HashMap<>();
+    private final Map<Long, Photo> photos = new HashMap<>();
+    private final AtomicLong photoIds = new AtomicLong();
+
+    private LocalPhotoStorage localPhotoStorage;
+    private DirectUploadTokenRepository tokenRepository;
+    private LocalDirectUploadStorage directUploadStorage;
+    private PhotoRepository photoRepository;
+    private ReviewRepository reviewRepository;
+    private PhotoProcessor photoProcessor;
+    private PhotoFileDeleter photoFileDeleter;
+    private PlaceCacheEvictor placeCacheEvictor;
+    private DirectUploadService directUploadService;
+
+    @BeforeEach
+    void setUp() {
+        localPhotoStorage = new LocalPhotoStorage();
+        ReflectionTestUtils.setField(localPhotoStorage, "uploadDir", uploadDir.toString());
+
+        tokenRepository = mock(DirectUploadTokenRepository.class);
+        when(tokenRepository.save(any(DirectUploadToken.class))).thenAnswer(invocation -> {
+            DirectUploadToken token = invocation.getArgument(0);
+            tokens.put(token.getToken(), token);
+            return token;
+        });
+        when(tokenRepository.findById(anyString())).thenAnswer(invocation ->
+                Optional.ofNullable(tokens.get(invocation.<String>getArgument(0))));
+        doAnswer(invocation -> tokens.remove(invocation.<String>getArgument(0)))
+                .when(tokenRepository).deleteById(anyString());
+        when(tokenRepository.deleteExpired(any(LocalDateTime.class))).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.getArgument(0);
+            int before = tokens.size();
+            tokens.values().removeIf(token -> token.isExpired(now));
+            return before - tokens.size();
+        });
+        directUploadStorage = newDirectUploadStorage();
+
+        photoRepository = mock(PhotoRepository.class);
+        when(photoRepository.save(any(Photo.class))).thenAnswer(invocation -> {
+            Photo photo = invocation.getArgument(0);
+            if (photo.getId() == null) {
+                photo.setId(photoIds.incrementAndGet());
+            }
+            photos.put(photo.getId(), photo);
+            return photo;
+        });
+        when(photoRepository.findById(any(Long.class))).thenAnswer(invocation ->
+                Optional.ofNullable(photos.get(invocation.<Long>getArgument(0))));
+        doAnswer(invocation -> photos.remove(invocation.<Photo>getArgument(0).getId()))
+                .when(photoRepository).delete(any(Photo.class));
+        when(photoRepository.findNextSortOrderByReviewId(any(Long.class))).thenReturn(1);
+
+        FileUploadService fileUploadService = mock(FileUploadService.class);
+        when(fileUploadService.getMaxFileSize()).thenReturn(MAX_FILE_SIZE);
+        when(fileUploadService.isCompressionEnabled()).thenReturn(true);
+        when(fileUploadService.toDto(any(Photo.class))).thenAnswer(invocation -> new PhotoDto(invocation.<Photo>getArgument(0)));
+
+        reviewRepository = mock(ReviewRepository.class);
+        photoProcessor = mock(PhotoProcessor.class);
+        photoFileDeleter = mock(PhotoFileDeleter.class);
+        placeCacheEvictor = mock(PlaceCacheEvictor.class);
+
+        directUploadService = new DirectUploadService();
+        ReflectionTestUtils.setField(directUploadService, "directUploadStorage", directUploadStorage);
+        ReflectionTestUtils.setField(directUploadService, "fileUploadService", fileUploadService);
+        ReflectionTestUtils.setField(directUploadService, "photoProcessor", photoProcessor);
+        ReflectionTestUtils.setField(directUploadService, "photoFileDeleter", photoFileDeleter);
+        ReflectionTestUtils.setField(directUploadService, "placeCacheEvictor", placeCacheEvictor);
+        ReflectionTestUtils.setField(directUploadService, "photoRepository", photoRepository);
+        ReflectionTestUtils.setField(directUploadService, "placeRepository", mock(PlaceRepository.class));
+        ReflectionTestUtils.setField(directUploadService, "reviewRepository", reviewRepository);
+        ReflectionTestUtils.setField(directUploadService, "urlValidityMinutes", 15L);
+        ReflectionTestUtils.setField(directUploadService, "expireAfterMinutes", 60L);
+    }
+
+    @Test
+    void createIssuesTokenUrlAndUploadingPhoto() {
+        DirectUploadResponse response = directUploadService.createUpload(request(null));
+
+        assertTrue(response.getUploadUrl().startsWith(LocalDirectUploadStorage.UPLOAD_URL_PREFIX));
+        assertEquals("PUT", response.getMethod());
+        Photo photo = photos.get(response.getPhotoId());
+        assertEquals(PhotoStatus.UPLOADING, photo.getStatus());
+        assertEquals(1, tokens.size());
+        assertEquals(photo.getFilePath(), tokens.get(tokenOf(response)).getFilePath());
+    }
+
+    @Test
+    void putThenCompleteStartsProcessing() throws IOException {
+        DirectUploadResponse response = directUploadService.createUpload(request(null));
+
+        long size = directUploadStorage.write(tokenOf(response), "image/jpeg", new ByteArrayInputStream(CONTENT));
+        PhotoDto photo = directUploadService.completeUpload(response.getPhotoId());
+
+        assertEquals(CONTENT.length, size);
+        assertTrue(tokens.isEmpty(), "사용한 토큰은 삭제되어야 합니다");
+        assertEquals(PhotoStatus.PROCESSING, photo.getStatus());
+        assertEquals(Long.valueOf(CONTENT.length), photo.getFileSize());
+        verify(photoProcessor).submit(response.getPhotoId());
+    }
+
+    @Test
+    void tokenIsValidOnAnotherStorageInstance() throws IOException {
+        DirectUploadResponse response = directUploadService.createUpload(request(null));
+
+        // 재시작 또는 다른 인스턴스: 같은 토큰 저장소를 쓰는 새 저장소 객체
+        long size = newDirectUploadStorage().write(tokenOf(response), "image/jpeg", new ByteArrayInputStream(CONTENT));
+
+        assertEquals(CONTENT.length, size);
+    }
+
+    @Test
+    void completeBeforePutIsRejected() {
+        DirectUploadResponse response = directUploadService.createUpload(request(null));
+
+        assertThrows(IllegalArgumentException.class, () -> directUploadService.completeUpload(response.getPhotoId()));
+        assertEquals(PhotoStatus.UPLOADING, photos.get(response.getPhotoId()).getStatus());
+        verify(photoProcessor, never()).submit(any(Long.class));
+    }
+
+    @Test
+    void repeatedCompleteReturnsCurrentStateWithoutResubmitting() throws IOException {
+        DirectUploadResponse response = directUploadService.createUpload(request(null));
+        directUploadStorage.write(tokenOf(response), "image/jpeg", new ByteArrayInputStream(CONTENT));
+
+        directUploadService.completeUpload(response.getPhotoId());
+        PhotoDto repeated = directUploadService.completeUpload(response.getPhotoId());
+
+        assertEquals(PhotoStatus.PROCESSING, repeated.getStatus());
+        verify(photoProcessor, times(1)).submit(response.getPhotoId());
+    }
+
+    @Test
+    void completeReviewPhotoEvictsPlaceDetails() throws IOException {
+        Place place = new Place();
+        place.setId(7L);
+        Review review = new Review();
+        review.setId(3L);
+        review.setPlace(place);
+        when(reviewRepository.findById(3L)).thenReturn(Optional.of(review));
+
+        DirectUploadResponse response = directUploadService.createUpload(request(3L));
+        directUploadStorage.write(tokenOf(response), "image/jpeg", new ByteArrayInputStream(CONTENT));
+        directUploadService.completeUpload(response.getPhotoId());
+
+        verify(placeCacheEvictor).evictPlaceDetails(7L);
+    }
+
+    @Test
+    void expiredTokenIsRejectedAndRemoved() {
+        DirectUploadResponse response = directUploadService.createUpload(request(null));
+        String token = tokenOf(response);
+        tokens.get(token).setExpiresAt(LocalDateTime.now().minusMinutes(1));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> directUploadStorage.write(token, "image/jpeg", new ByteArrayInputStream(CONTENT)));
+
+        directUploadStorage.removeExpired();
+        assertFalse(tokens.containsKey(token));
+    }
+
+    @Test
+    void abandonedUploadIsDiscarded() {
+        DirectUploadResponse response = directUploadService.createUpload(request(null));
+        Photo photo = photos.get(response.getPhotoId());
+        when(photoRepository.findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(any(PhotoStatus.class), any(LocalDateTime.class)))
+                .thenReturn(List.of(photo));
+
+        directUploadService.expireAbandoned();
+
+        assertFalse(photos.containsKey(photo.getId()));
+        verify(photoFileDeleter).enqueue(photo);
+    }
+
+    private LocalDirectUploadStorage newDirectUploadStorage() {
+        LocalDirectUploadStorage storage = new LocalDirectUploadStorage();
+        ReflectionTestUtils.setField(storage, "localPhotoStorage", localPhotoStorage);
+        ReflectionTestUtils.setField(storage, "tokenRepository", tokenRepository);
+        return storage;
+    }
+
+    private static DirectUploadRequest request(Long reviewId) {
+        DirectUploadRequest request = new DirectUploadRequest();
+        request.setFileName("photo.jpg");
+        request.setContentType("image/jpeg");
+        request.setFileSize((long) CONTENT.length);
+        request.setUploadedBy(1L);
+        request.setReviewId(reviewId);
+        return request;
+    }
+
+    private static String tokenOf(DirectUploadResponse response) {
+        return response.getUploadUrl().substring(LocalDirectUploadStorage.UPLOAD_URL_PREFIX.length());
+    }
+}
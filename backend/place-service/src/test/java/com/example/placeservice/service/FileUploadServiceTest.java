@@ -0,0 +1,96 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.dto.PhotoDto;
+import com.example.placeservice.entity.Photo;
+import com.example.placeservice.entity.PhotoStatus;
+import com.example.placeservice.repository.PhotoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 내용의 업로드는 저장소에 쓰지 않고 기존 파일을 참조하는지 확인
+ */
+class FileUploadServiceTest {
+
+    private static final byte[] CONTENT = "사진 내용".getBytes(StandardCharsets.UTF_8);
+
+    private PhotoRepository photoRepository;
+    private PhotoStorage storage;
+    private FileUploadService fileUploadService;
+
+    @BeforeEach
+    void setUp() {
+        photoRepository = mock(PhotoRepository.class);
+        storage = mock(PhotoStorage.class);
+        PhotoStorageRegistry photoStorages = mock(PhotoStorageRegistry.class);
+        when(photoStorages.primary()).thenReturn(storage);
+        when(photoStorages.local()).thenReturn(storage);
+        when(photoStorages.forPath(anyString())).thenReturn(storage);
+        when(photoRepository.save(any(Photo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        fileUploadService = new FileUploadService();
+        ReflectionTestUtils.setField(fileUploadService, "photoRepository", photoRepository);
+        ReflectionTestUtils.setField(fileUploadService, "photoStorages", photoStorages);
+        ReflectionTestUtils.setField(fileUploadService, "photoProcessor", mock(PhotoProcessor.class));
+        ReflectionTestUtils.setField(fileUploadService, "photoFileDeleter", mock(PhotoFileDeleter.class));
+        ReflectionTestUtils.setField(fileUploadService, "maxFileSize", 10L * 1024 * 1024);
+        ReflectionTestUtils.setField(fileUploadService, "allowedTypes", "image/jpeg,image/png");
+        ReflectionTestUtils.setField(fileUploadService, "enableCompression", true);
+    }
+
+    @Test
+    void duplicateContentIsNotWrittenToStorage() throws IOException {
+        Photo existing = new Photo("old.jpg", hash() + ".jpg", "/uploads/" + hash() + "_w1920.jpg",
+            100L, "image/jpeg", 1L);
+        existing.setContentHash(hash());
+        existing.setStatus(PhotoStatus.READY);
+        when(photoRepository.findFirstByContentHashOrderByIdAsc(hash())).thenReturn(Optional.of(existing));
+
+        PhotoDto photo = fileUploadService.uploadFile(file(), 2L);
+
+        assertEquals(existing.getFilePath(), photo.getFilePath());
+        assertEquals(PhotoStatus.READY, photo.getStatus());
+        verify(storage, never()).put(anyString(), any(InputStream.class), anyLong(), anyString());
+        verify(storage, never()).put(anyString(), any(InputStream.class), anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void newContentIsStoredWithPrecomputedHash() throws IOException {
+        when(photoRepository.findFirstByContentHashOrderByIdAsc(hash())).thenReturn(Optional.empty());
+        when(storage.put(eq("jpg"), any(InputStream.class), eq((long) CONTENT.length), eq("image/jpeg"), eq(hash())))
+            .thenReturn(new StoredFile("/uploads/" + hash() + ".jpg", hash() + ".jpg", hash()));
+
+        PhotoDto photo = fileUploadService.uploadFile(file(), 2L);
+
+        assertEquals("/uploads/" + hash() + ".jpg", photo.getFilePath());
+        verify(storage).put(eq("jpg"), any(InputStream.class), eq((long) CONTENT.length), eq("image/jpeg"), eq(hash()));
+    }
+
+    private static MockMultipartFile file() {
+        return new MockMultipartFile("file", "photo.jpg", "image/jpeg", CONTENT);
+    }
+
+    private static String hash() {
+        MessageDigest digest = PhotoStorage.newContentDigest();
+        digest.update(CONTENT);
+        return PhotoStorage.contentHashOf(digest);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.placeservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageVariantGeneratorTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void generatesOnlyWidthsSmallerThanImage() throws IOException {
+        ImageVariantGenerator generator = generator(false);
+        Path jpgFile = uploadDir.resolve("photo.jpg");
+
+        List<Integer> widths = generator.generate(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), jpgFile);
+
+        assertEquals(List.of(160, 320), widths);
+        assertEquals(ImageVariantGenerator.JPEG, generator.getFormats());
+        assertTrue(Files.isRegularFile(uploadDir.resolve("photo_w160.jpg")));
+        assertTrue(Files.isRegularFile(uploadDir.resolve("photo_w320.jpg")));
+        assertFalse(Files.exists(uploadDir.resolve("photo_w640.jpg")));
+        assertFalse(Files.exists(uploadDir.resolve("photo.webp")));
+    }
+
+    @Test
+    void advertisedFormatsMatchGeneratedFiles() throws IOException {
+        ImageVariantGenerator generator = generator(true);
+        Path jpgFile = uploadDir.resolve("photo.jpg");
+
+        List<Integer> widths = generator.generate(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), jpgFile);
+
+        // WebP 인코더를 쓸 수 없는 환경이면 jpg만 알려야 한다
+        List<String> paths = ImageVariantGenerator.variantPaths(jpgFile.toString(),
+                "160,320", generator.getFormats());
+        assertEquals(List.of(160, 320), widths);
+        for (String path : paths) {
+            assertTrue(Files.isRegularFile(Path.of(path)), path);
+        }
+    }
+
+    private static ImageVariantGenerator generator(boolean webpEnabled) {
+        ImageVariantGenerator generator = new ImageVariantGenerator();
+        ReflectionTestUtils.setField(generator, "widthsConfig", "160,320,640,1280,1920");
+        ReflectionTestUtils.setField(generator, "webpEnabled", webpEnabled);
+        ReflectionTestUtils.setField(generator, "imageQuality", 0.8);
+        generator.init();
+        return generator;
+    }
+}
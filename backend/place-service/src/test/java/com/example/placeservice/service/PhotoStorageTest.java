@@ -0,0 +1,110 @@
+package com.example.placeservice.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PhotoStorageTest {
+
+    private static final byte[] CONTENT = "사진 내용".getBytes(StandardCharsets.UTF_8);
+    private static final String CONTENT_SHA256 = sha256(CONTENT);
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    void memoryStorageNamesFileByHashComputedWhileWriting() throws IOException {
+        InMemoryPhotoStorage storage = new InMemoryPhotoStorage();
+
+        StoredFile stored = storage.put("jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+
+        assertEquals(CONTENT_SHA256, stored.getContentHash());
+        assertEquals(CONTENT_SHA256 + ".jpg", stored.getStoredName());
+        assertEquals("memory:" + CONTENT_SHA256 + ".jpg", stored.getFilePath());
+        assertTrue(storage.contains(stored.getFilePath()));
+        assertEquals(CONTENT.length, storage.size(stored.getFilePath()));
+        try (InputStream inputStream = storage.open(stored.getFilePath())) {
+            assertArrayEquals(CONTENT, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void memoryStorageDeleteRemovesFile() throws IOException {
+        InMemoryPhotoStorage storage = new InMemoryPhotoStorage();
+        StoredFile stored = storage.put("png", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/png");
+
+        assertTrue(storage.deleteAll(List.of(stored.getFilePath())).isEmpty());
+
+        assertEquals(-1, storage.size(stored.getFilePath()));
+    }
+
+    @Test
+    void localStorageShardsByHashAndKeepsExistingFile() throws IOException {
+        LocalPhotoStorage storage = localStorage();
+
+        StoredFile first = storage.put("jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+        StoredFile second = storage.put("jpg", new ByteArrayInputStream(CONTENT), CONTENT.length, "image/jpeg");
+
+        String expectedPath = CONTENT_SHA256.substring(0, 2) + "/" + CONTENT_SHA256.substring(2, 4) + "/" + CONTENT_SHA256 + ".jpg";
+        assertEquals(CONTENT_SHA256, first.getContentHash());
+        assertEquals(expectedPath, first.getFilePath());
+        assertEquals(first.getFilePath(), second.getFilePath());
+        assertArrayEquals(CONTENT, Files.readAllBytes(uploadDir.resolve(expectedPath)));
+        assertStagingEmpty();
+    }
+
+    @Test
+    void localWriteRejectsContentOverMaxSize() throws IOException {
+        LocalPhotoStorage storage = localStorage();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> storage.write("ab/cd/abcd.jpg", new ByteArrayInputStream(CONTENT), CONTENT.length - 1));
+
+        assertEquals(-1, storage.size("ab/cd/abcd.jpg"));
+        assertStagingEmpty();
+    }
+
+    @Test
+    void localResolveRejectsPathOutsideUploadDir() {
+        LocalPhotoStorage storage = localStorage();
+
+        assertThrows(IOException.class, () -> storage.resolve("../outside.jpg"));
+    }
+
+    private LocalPhotoStorage localStorage() {
+        LocalPhotoStorage storage = new LocalPhotoStorage();
+        ReflectionTestUtils.setField(storage, "uploadDir", uploadDir.toString());
+        return storage;
+    }
+
+    private void assertStagingEmpty() throws IOException {
+        Path staging = uploadDir.resolve(".staging");
+        if (Files.isDirectory(staging)) {
+            try (Stream<Path> files = Files.list(staging)) {
+                assertFalse(files.findAny().isPresent(), "임시 파일이 남아 있습니다");
+            }
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        MessageDigest digest = PhotoStorage.newContentDigest();
+        digest.update(content);
+        return PhotoStorage.contentHashOf(digest);
+    }
+}
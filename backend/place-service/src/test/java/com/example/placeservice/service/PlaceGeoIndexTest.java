@@ -0,0 +1,61 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.entity.Place;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlaceGeoIndexTest {
+
+    private PlaceGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceGeoIndex();
+        ReflectionTestUtils.setField(index, "cellSizeDeg", 0.02);
+        index.put(place(1L, 37.5665, 126.9780));  // 서울시청
+        index.put(place(2L, 37.5796, 126.9770));  // 경복궁 (약 1.5km)
+        index.put(place(3L, 35.1796, 129.0756));  // 부산 (약 325km)
+        index.put(place(4L, 0.0, 179.99));        // 날짜변경선 동쪽
+    }
+
+    @Test
+    void findNearbyReturnsPlacesWithinRadiusByDistance() {
+        assertEquals(List.of(1L, 2L), index.findNearby(37.5665, 126.9780, 5.0, null));
+    }
+
+    @Test
+    void hugeRadiusScansOccupiedCellsInsteadOfBoundingRectangle() {
+        long start = System.nanoTime();
+        List<Long> result = index.findNearby(37.5665, 126.9780, 20000.0, null);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), result);
+        assertTrue(elapsedMillis < 1000, "점유 셀만 순회해야 합니다: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void searchNearPoleClampsLatitude() {
+        assertTrue(index.findNearby(89.99, 0.0, 100.0, null).isEmpty());
+    }
+
+    @Test
+    void searchAcrossAntimeridianFindsPlaceOnOtherSide() {
+        assertEquals(List.of(4L), index.findNearby(0.0, -179.99, 5.0, null));
+    }
+
+    private static Place place(Long id, double latitude, double longitude) {
+        Place place = new Place();
+        place.setId(id);
+        place.setLatitude(BigDecimal.valueOf(latitude));
+        place.setLongitude(BigDecimal.valueOf(longitude));
+        place.setIsActive(true);
+        return place;
+    }
+}
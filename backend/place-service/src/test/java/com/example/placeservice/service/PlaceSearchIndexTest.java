@@ -0,0 +1,129 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.dto.PlaceSuggestionDto;
+import com.example.placeservice.entity.Category;
+import com.example.placeservice.entity.Place;
+import com.example.placeservice.repository.PlaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlaceSearchIndexTest {
+
+    private PlaceRepository placeRepository;
+    private PlaceSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        placeRepository = mock(PlaceRepository.class);
+        index = new PlaceSearchIndex();
+        ReflectionTestUtils.setField(index, "placeRepository", placeRepository);
+    }
+
+    @Test
+    void choseongQueryMatchesNameAndPrefix() {
+        index.put(place(1L, "스타벅스 강남점", "서울 강남구", 1L, 0L));
+        index.put(place(2L, "투썸플레이스", "서울 강남구", 1L, 0L));
+
+        assertEquals(List.of(1L), ids("ㅅㅌㅂㅅ", null));
+        assertEquals(List.of(1L), ids("ㄱㄴㅈ", null));
+        List<PlaceSuggestionDto> suggestions = index.autocomplete("ㅅㅌ", null, 10);
+        assertEquals(List.of(1L), suggestions.stream().map(PlaceSuggestionDto::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void trailingJamoMatchesSyllableWithSameChoseong() {
+        index.put(place(1L, "스타벅스", "서울 강남구", 1L, 0L));
+
+        assertEquals(List.of(1L), ids("스타벅ㅅ", null));
+        assertTrue(ids("스타벅ㄱ", null).isEmpty());
+    }
+
+    @Test
+    void addressOnlyMatchRanksBelowNameMatch() {
+        // 주소만 일치하는 1번이 더 인기가 많아도 이름 일치(2번)보다 아래
+        index.put(place(1L, "행복식당", "서울 강남구 역삼동", 1L, 1000L));
+        index.put(place(2L, "강남면옥", "부산 해운대구", 1L, 0L));
+        index.put(place(3L, "바다횟집", "부산 해운대구", 1L, 1000L));
+
+        assertEquals(List.of(2L, 1L), ids("강남", null));
+    }
+
+    @Test
+    void categoryFilterExcludesOtherCategories() {
+        index.put(place(1L, "강남카페", "서울", 1L, 0L));
+        index.put(place(2L, "강남식당", "서울", 2L, 0L));
+
+        assertEquals(List.of(2L), ids("강남", 2L));
+        assertEquals(2, index.search("강남", null, 0, 10).getTotal());
+    }
+
+    @Test
+    void searchPagesInsideIndexWithTotalCount() {
+        for (long id = 1; id <= 1500; id++) {
+            index.put(place(id, "카페 " + id, "서울", 1L, 0L));
+        }
+
+        PlaceSearchIndex.Result page = index.search("카페", null, 1200, 20);
+
+        assertEquals(1500, page.getTotal());
+        assertEquals(20, page.getPlaceIds().size());
+        assertTrue(index.search("카페", null, 1500, 20).getPlaceIds().isEmpty());
+    }
+
+    @Test
+    void writesDuringRebuildAreKeptAfterSwap() {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(row(1L, "옛날식당", "서울", 1L));
+        rows.add(row(2L, "바뀔식당", "서울", 1L));
+        when(placeRepository.findSearchDocuments()).thenAnswer(invocation -> {
+            // 조회 중 들어온 변경: 1번 삭제, 2번 이름 변경, 3번 추가
+            index.remove(1L);
+            index.put(place(2L, "새이름식당", "서울", 1L, 0L));
+            index.put(place(3L, "새로운식당", "서울", 1L, 0L));
+            return rows;
+        });
+
+        index.rebuild();
+
+        assertTrue(index.isReady());
+        assertEquals(2, index.size());
+        assertTrue(ids("옛날", null).isEmpty());
+        assertTrue(ids("바뀔", null).isEmpty());
+        assertEquals(List.of(2L), ids("새이름", null));
+        assertEquals(List.of(3L), ids("새로운", null));
+    }
+
+    private List<Long> ids(String keyword, Long categoryId) {
+        return index.search(keyword, categoryId, 0, 100).getPlaceIds();
+    }
+
+    private static Object[] row(Long id, String name, String address, Long categoryId) {
+        return new Object[]{id, name, address, categoryId, 0L, BigDecimal.ZERO, 0};
+    }
+
+    private static Place place(Long id, String name, String address, Long categoryId, Long viewCount) {
+        Category category = new Category();
+        category.setId(categoryId);
+        Place place = new Place();
+        place.setId(id);
+        place.setName(name);
+        place.setAddress(address);
+        place.setCategory(category);
+        place.setViewCount(viewCount);
+        place.setAverageRating(BigDecimal.ZERO);
+        place.setReviewCount(0);
+        place.setIsActive(true);
+        return place;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.placeservice.service;
+
+import com.example.placeservice.dto.ReviewDto;
+import com.example.placeservice.entity.Place;
+import com.example.placeservice.entity.Review;
+import com.example.placeservice.repository.PlaceRepository;
+import com.example.placeservice.repository.ReviewLikeRepository;
+import com.example.placeservice.repository.ReviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * /like 응답(리뷰 전체)의 좋아요 수가 재조회 없이 증감 결과로 채워지는지 확인
+ */
+class ReviewServiceTest {
+
+    private ReviewRepository reviewRepository;
+    private ReviewLikeRepository reviewLikeRepository;
+    private PlaceCacheEvictor placeCacheEvictor;
+    private ReviewService reviewService;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository = mock(ReviewRepository.class);
+        reviewLikeRepository = mock(ReviewLikeRepository.class);
+        placeCacheEvictor = mock(PlaceCacheEvictor.class);
+
+        reviewService = new ReviewService();
+        ReflectionTestUtils.setField(reviewService, "reviewRepository", reviewRepository);
+        ReflectionTestUtils.setField(reviewService, "reviewLikeRepository", reviewLikeRepository);
+        ReflectionTestUtils.setField(reviewService, "placeRepository", mock(PlaceRepository.class));
+        ReflectionTestUtils.setField(reviewService, "placeCacheEvictor", placeCacheEvictor);
+
+        Place place = new Place();
+        place.setId(7L);
+        Review review = new Review();
+        review.setId(3L);
+        review.setPlace(place);
+        review.setLikeCount(4);
+        when(reviewRepository.findById(3L)).thenReturn(Optional.of(review));
+        when(reviewRepository.findPlaceIdById(3L)).thenReturn(Optional.of(7L));
+    }
+
+    @Test
+    void likeReturnsCountFromUpdateWithoutReRead() {
+        when(reviewLikeRepository.insertIgnore(1L, 3L)).thenReturn(1);
+        when(reviewRepository.applyLikeDelta(3L, 1)).thenReturn(1);
+        when(reviewRepository.findLastInsertId()).thenReturn(5L);
+
+        ReviewDto review = reviewService.likeReviewAndGet(3L, 1L);
+
+        assertEquals(5, review.getLikeCount());
+        verify(reviewRepository, times(1)).findById(3L);
+        verify(placeCacheEvictor).evictPlaceDetails(7L);
+    }
+
+    @Test
+    void repeatedLikeKeepsCount() {
+        when(reviewLikeRepository.insertIgnore(1L, 3L)).thenReturn(0);
+        when(reviewRepository.applyLikeDelta(3L, 0)).thenReturn(1);
+        when(reviewRepository.findLastInsertId()).thenReturn(4L);
+
+        ReviewDto review = reviewService.likeReviewAndGet(3L, 1L);
+
+        assertEquals(4, review.getLikeCount());
+        verify(placeCacheEvictor, never()).evictPlaceDetails(7L);
+    }
+
+    @Test
+    void unlikeWithoutExistingLikeKeepsCount() {
+        when(reviewLikeRepository.deleteByUserIdAndReviewId(1L, 3L)).thenReturn(0);
+        when(reviewRepository.applyLikeDelta(3L, 0)).thenReturn(1);
+        when(reviewRepository.findLastInsertId()).thenReturn(4L);
+
+        ReviewDto review = reviewService.unlikeReviewAndGet(3L, 1L);
+
+        assertEquals(4, review.getLikeCount());
+        verify(reviewRepository, never()).applyLikeDelta(3L, -1);
+    }
+
+    @Test
+    void inactiveReviewIsRejected() {
+        when(reviewLikeRepository.insertIgnore(1L, 3L)).thenReturn(1);
+        when(reviewRepository.applyLikeDelta(3L, 1)).thenReturn(0);
+
+        assertThrows(RuntimeException.class, () -> reviewService.likeReviewAndGet(3L, 1L));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.placeservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ViewCountAccumulatorTest {
+
+    @Test
+    void drainGroupsIdsByDeltaAndRemovesThem() {
+        ViewCountAccumulator accumulator = new ViewCountAccumulator();
+        accumulator.increment(1L);
+        accumulator.increment(2L);
+        accumulator.increment(2L);
+        accumulator.increment(3L);
+
+        Map<Long, List<Long>> idsByDelta = accumulator.drain();
+
+        assertEquals(List.of(1L, 3L), idsByDelta.get(1L).stream().sorted().toList());
+        assertEquals(List.of(2L), idsByDelta.get(2L));
+        assertEquals(0, accumulator.getPending(2L));
+        assertEquals(2, accumulator.getTotal(2L));
+        assertTrue(accumulator.drain().isEmpty());
+    }
+
+    @Test
+    void noIncrementIsLostWhileDraining() throws InterruptedException {
+        ViewCountAccumulator accumulator = new ViewCountAccumulator();
+        int threads = 4;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    accumulator.increment((long) (i % 8));
+                }
+                done.countDown();
+            });
+        }
+
+        long drained = 0;
+        while (done.getCount() > 0) {
+            drained += sum(accumulator.drain());
+        }
+        drained += sum(accumulator.drain());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals((long) threads * perThread, drained);
+    }
+
+    private static long sum(Map<Long, List<Long>> idsByDelta) {
+        return idsByDelta.entrySet().stream()
+                .mapToLong(entry -> entry.getKey() * entry.getValue().size())
+                .sum();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.userservice.controller;
 
 import com.example.userservice.dto.ApiResponse;
+import com.example.userservice.dto.CreatedAtCursor;
 import com.example.userservice.dto.DatabaseMetrics;
 import com.example.userservice.dto.ServiceMetrics;
 import com.example.userservice.dto.SystemLog;
@@ -16,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -45,9 +47,15 @@ public class AdminUserController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String search,
-            @RequestParam(defaultValue = "createdAt,desc") String sort
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestParam(required = false) String cursor
     ) {
         try {
+            // 커서가 주어지면 (빈 값은 첫 페이지) COUNT 없이 최신 가입순 커서 방식으로 조회
+            if (cursor != null) {
+                return ResponseEntity.ok(ApiResponse.success(getUsersByCursor(search, cursor, size)));
+            }
+            
             String[] sortParams = sort.split(",");
             Sort sortOrder = Sort.by(
                 sortParams[1].equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC,
@@ -74,12 +82,50 @@ public class AdminUserController {
             response.put("totalPages", usersPage.getTotalPages());
             
             return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage(), 400));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("사용자 목록 조회 실패: " + e.getMessage(), 500));
         }
     }
     
+    /**
+     * 사용자 목록 커서 방식 조회
+     * 커서는 마지막 사용자의 (가입일시, 사용자 ID)를 CreatedAtCursor로 인코딩한 값
+     */
+    private Map<String, Object> getUsersByCursor(String search, String cursor, int size) {
+        String keyword = search != null && !search.trim().isEmpty() ? search : null;
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, 100)));
+        CreatedAtCursor after = CreatedAtCursor.decode(cursor);
+        Slice<User> usersSlice;
+        
+        if (after == null) {
+            usersSlice = userRepository.findSliceBySearch(keyword, pageable);
+        } else {
+            usersSlice = userRepository.findSliceBySearchBefore(keyword,
+                after.getCreatedAt(), after.getId(), pageable);
+        }
+        
+        List<UserResponse> users = usersSlice.getContent().stream()
+            .map(UserResponse::new)
+            .collect(Collectors.toList());
+        
+        String nextCursor = null;
+        if (usersSlice.hasNext() && usersSlice.hasContent()) {
+            User last = usersSlice.getContent().get(usersSlice.getNumberOfElements() - 1);
+            nextCursor = CreatedAtCursor.encode(last.getCreatedAt(), last.getId());
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("users", users);
+        response.put("nextCursor", nextCursor);
+        response.put("hasNext", usersSlice.hasNext());
+        return response;
+    }
+    
     /**
      * 특정 사용자 조회
      */
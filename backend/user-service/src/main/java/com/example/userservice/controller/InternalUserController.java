@@ -7,6 +7,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,6 +19,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class InternalUserController {
     
+    private static final int MAX_BATCH_SIZE = 1000;
+    
     private final UserRepository userRepository;
     
     /**
@@ -33,5 +37,23 @@ public class InternalUserController {
         
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * 여러 사용자 ID로 이름 일괄 조회
+     * 존재하지 않는 ID는 결과에서 제외
+     */
+    @PostMapping("/users/names")
+    public ResponseEntity<Map<String, String>> getUserNames(@RequestBody List<Long> userIds) {
+        if (userIds.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        Map<String, String> response = new HashMap<>();
+        for (User user : userRepository.findAllById(new HashSet<>(userIds))) {
+            response.put(String.valueOf(user.getId()), user.getName());
+        }
+        
+        return ResponseEntity.ok(response);
+    }
 }
 
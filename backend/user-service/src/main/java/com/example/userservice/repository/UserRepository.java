@@ -3,11 +3,13 @@ package com.example.userservice.repository;
 import com.example.userservice.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -50,6 +52,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Page<User> findByEmailContainingOrNameContaining(String email, String name, Pageable pageable);
     
+    /**
+     * 사용자 목록 커서 방식 첫 페이지 (최신 가입순, COUNT 없음)
+     */
+    @Query("SELECT u FROM User u " +
+           "WHERE (:search IS NULL OR u.email LIKE %:search% OR u.name LIKE %:search%) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    Slice<User> findSliceBySearch(@Param("search") String search, Pageable pageable);
+    
+    /**
+     * 사용자 목록 커서 이후 페이지 (createdAt, id 역순)
+     */
+    @Query("SELECT u FROM User u " +
+           "WHERE (:search IS NULL OR u.email LIKE %:search% OR u.name LIKE %:search%) " +
+           "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) " +
+           "ORDER BY u.createdAt DESC, u.id DESC")
+    Slice<User> findSliceBySearchBefore(@Param("search") String search,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+    
     /**
      * 역할별 사용자 수 조회
      */
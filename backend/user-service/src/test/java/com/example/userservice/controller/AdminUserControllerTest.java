@@ -0,0 +1,82 @@
+package com.example.userservice.controller;
+
+import com.example.userservice.dto.CreatedAtCursor;
+import com.example.userservice.entity.User;
+import com.example.userservice.repository.UserRepository;
+import com.example.userservice.service.DatabaseMetricsService;
+import com.example.userservice.service.DockerLogsService;
+import com.example.userservice.service.DockerMetricsService;
+import com.example.userservice.service.SystemMetricsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class AdminUserControllerTest {
+
+    private UserRepository userRepository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        userRepository = mock(UserRepository.class);
+        AdminUserController controller = new AdminUserController(
+            userRepository,
+            mock(SystemMetricsService.class),
+            mock(DockerMetricsService.class),
+            mock(DockerLogsService.class),
+            mock(DatabaseMetricsService.class)
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    public void testMalformedCursorReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/user/admin/users").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.status").value(400));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    public void testNextCursorContinuesAfterLastUser() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+        User last = new User("user2", "user2@example.com", "password", "User 2");
+        last.setId(2L);
+        last.setCreatedAt(createdAt);
+        when(userRepository.findSliceBySearch(isNull(), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(last), PageRequest.of(0, 1), true));
+
+        String nextCursor = CreatedAtCursor.encode(createdAt, 2L);
+        mockMvc.perform(get("/user/admin/users").param("cursor", "").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").value(nextCursor))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+
+        when(userRepository.findSliceBySearchBefore(isNull(), eq(createdAt), eq(2L), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 1), false));
+        mockMvc.perform(get("/user/admin/users").param("cursor", nextCursor).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+        verify(userRepository).findSliceBySearchBefore(isNull(), eq(createdAt), eq(2L), any(Pageable.class));
+    }
+}
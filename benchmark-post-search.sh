@@ -0,0 +1,142 @@
+#!/bin/bash
+
+# 게시글 검색 벤치마크 (LIKE vs tsvector)
+# 별도 PostgreSQL DB에 게시글을 생성하고 두 검색 경로의 실행 계획과 실행 시간을 비교한다.
+#
+# 사용법: ./benchmark-post-search.sh [게시글 수 (기본 1000000)]
+# 접속 정보는 psql 환경 변수(PGHOST, PGPORT, PGUSER, PGPASSWORD)를 사용한다.
+#   BENCH_DB   벤치마크 DB 이름 (기본 community_search_bench, 매번 새로 생성)
+#   RUNS       쿼리별 반복 실행 횟수 (기본 5, 중앙값 출력)
+#   KEEP_DB    1이면 종료 후 DB를 남김
+#   VOCAB      합성 어휘 크기 (기본 20000, Zipf 분포로 선택)
+#   HIT_RATE   검색어 '반려견'이 들어가는 게시글 비율 (기본 0.005, 실제 검색처럼 1% 이하)
+
+set -euo pipefail
+
+ROWS=${1:-1000000}
+BENCH_DB=${BENCH_DB:-community_search_bench}
+RUNS=${RUNS:-5}
+KEEP_DB=${KEEP_DB:-0}
+VOCAB=${VOCAB:-20000}
+HIT_RATE=${HIT_RATE:-0.005}
+
+# 검색어 '반려견'을 애플리케이션 규칙(한글 2글자 단위 분할)으로 만든 색인 쿼리
+LIKE_PATTERN='%반려견%'
+TS_QUERY='반려 & 려견'
+
+echo "=== 게시글 검색 벤치마크 시작 (${ROWS}건, DB: ${BENCH_DB}) ==="
+
+echo "1. 벤치마크 DB 생성..."
+dropdb --if-exists "$BENCH_DB"
+createdb "$BENCH_DB"
+if [ "$KEEP_DB" != "1" ]; then
+    trap 'dropdb --if-exists "$BENCH_DB"' EXIT
+fi
+
+echo "2. 게시글 ${ROWS}건 생성 (수 분 걸릴 수 있음)..."
+psql -q -v ON_ERROR_STOP=1 -d "$BENCH_DB" -v rows="$ROWS" -v vocab="$VOCAB" -v hit_rate="$HIT_RATE" << 'EOF'
+-- community-service posts 테이블 중 검색에 쓰이는 컬럼과 인덱스
+CREATE TABLE posts (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    content TEXT NOT NULL,
+    category VARCHAR(50) NOT NULL,
+    region_si VARCHAR(50) NOT NULL,
+    region_gu VARCHAR(50),
+    region_dong VARCHAR(50),
+    is_recruitment BOOLEAN DEFAULT false,
+    is_deleted BOOLEAN DEFAULT false,
+    created_at TIMESTAMP NOT NULL,
+    search_vector TSVECTOR
+);
+
+-- 합성 어휘 (한글 3음절 단어, 애플리케이션 규칙대로 2글자 단위 분할)
+-- 단어 선택은 Zipf 분포(확률 ∝ 1/순위)라 흔한 단어와 드문 단어가 섞인다.
+CREATE TABLE bench_words AS
+SELECT id, word, substr(word, 1, 2) || ' ' || substr(word, 2, 2) AS bigrams
+FROM (
+    SELECT id,
+           chr(44032 + (id * 7919) % 11172) || chr(44032 + (id * 104729) % 11172) || chr(44032 + (id * 1299709) % 11172) AS word
+    FROM generate_series(1, :vocab) AS id
+) AS v;
+ALTER TABLE bench_words ADD PRIMARY KEY (id);
+
+-- 벤치마크 검색어 '반려견'은 hit_rate 비율의 게시글 본문에만 넣는다
+INSERT INTO posts (user_id, title, content, category, region_si, is_deleted, created_at, search_vector)
+SELECT
+    (random() * 10000)::BIGINT,
+    t.title,
+    t.content || CASE WHEN h.hit THEN ' 반려견' ELSE '' END,
+    (ARRAY['자유', '질문', '정보', '모임'])[1 + (g % 4)],
+    (ARRAY['서울', '부산', '대구', '인천'])[1 + (g % 4)],
+    false,
+    now() - (g || ' seconds')::INTERVAL,
+    setweight(to_tsvector('simple', t.title_doc), 'A')
+        || setweight(to_tsvector('simple', t.content_doc || CASE WHEN h.hit THEN ' 반려 려견' ELSE '' END), 'B')
+FROM generate_series(1, :rows) AS g
+CROSS JOIN LATERAL (
+    SELECT string_agg(w.word, ' ') FILTER (WHERE s.n <= 3) AS title,
+           string_agg(w.bigrams, ' ') FILTER (WHERE s.n <= 3) AS title_doc,
+           string_agg(w.word, ' ') AS content,
+           string_agg(w.bigrams, ' ') AS content_doc
+    FROM (
+        SELECT n, LEAST(:vocab, floor(exp(random() * ln(:vocab)))::INT + 0 * g) AS word_id
+        FROM generate_series(1, 40) AS n
+    ) AS s
+    JOIN bench_words w ON w.id = s.word_id
+) AS t
+CROSS JOIN LATERAL (SELECT random() < :hit_rate AS hit, g) AS h;
+
+CREATE INDEX idx_posts_created_at ON posts (created_at);
+CREATE INDEX idx_posts_search_vector ON posts USING GIN (search_vector);
+ANALYZE posts;
+EOF
+
+# 쿼리를 RUNS회 실행해 실행 계획(첫 회)과 Execution Time 중앙값 출력
+run_query() {
+    local label=$1
+    local sql=$2
+    local times=()
+    local plan=""
+    for ((i = 1; i <= RUNS; i++)); do
+        local output
+        output=$(psql -At -v ON_ERROR_STOP=1 -d "$BENCH_DB" \
+            -v like_pattern="$LIKE_PATTERN" -v ts_query="$TS_QUERY" <<< "EXPLAIN (ANALYZE, BUFFERS) $sql")
+        if [ -z "$plan" ]; then
+            plan=$output
+        fi
+        times+=("$(echo "$output" | sed -n 's/^Execution Time: \([0-9.]*\) ms$/\1/p')")
+    done
+    local median
+    median=$(printf '%s\n' "${times[@]}" | sort -n | sed -n "$(( (RUNS + 1) / 2 ))p")
+    echo ""
+    echo "--- ${label}: 중앙값 ${median} ms (${RUNS}회) ---"
+    echo "$plan"
+    LAST_PLAN=$plan
+}
+
+echo "3. 검색어 선택도..."
+psql -At -v ON_ERROR_STOP=1 -d "$BENCH_DB" -v like_pattern="$LIKE_PATTERN" << 'EOF'
+SELECT '검색어 포함 게시글: ' || count(*) FILTER (WHERE content LIKE :'like_pattern') || ' / ' || count(*)
+    || ' (' || round(100.0 * count(*) FILTER (WHERE content LIKE :'like_pattern') / count(*), 2) || '%)'
+FROM posts;
+EOF
+
+echo "4. 검색 쿼리 비교..."
+
+# 기존 LIKE 경로 (PostRepository.findByFilters, 색인으로 검색할 수 없는 검색어)
+run_query "LIKE 검색" \
+    "SELECT * FROM posts p WHERE p.is_deleted = false AND (p.title LIKE :'like_pattern' OR p.content LIKE :'like_pattern') ORDER BY p.created_at DESC LIMIT 20;"
+
+# 색인 경로 (PostSearchRepository.search, 첫 페이지 20건 + 다음 페이지 확인 1건)
+run_query "tsvector 검색" \
+    "SELECT p.id, ts_rank(p.search_vector, to_tsquery('simple', :'ts_query')) AS rank FROM posts p WHERE p.is_deleted = false AND p.search_vector @@ to_tsquery('simple', :'ts_query') ORDER BY rank DESC, p.id DESC LIMIT 21;"
+
+if ! echo "$LAST_PLAN" | grep -q "idx_posts_search_vector"; then
+    echo ""
+    echo "참고: tsvector 검색이 idx_posts_search_vector 인덱스를 사용하지 않았습니다 (검색어 선택도와 위 실행 계획 확인)"
+fi
+
+echo ""
+echo "=== 게시글 검색 벤치마크 완료 ==="